@@ -0,0 +1,234 @@
+package evo.search;
+
+import evo.search.ga.Checkpoint;
+import evo.search.io.entities.Configuration;
+import evo.search.io.service.CheckpointService;
+import io.jenetics.util.RandomRegistry;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * Runs one {@link Configuration} multiple times on a bounded pool of workers.
+ * <p>
+ * Every run gets its own seed derived from the master {@link #seed}, so an ensemble
+ * is reproducible independent of the scheduling of the runs. By default, the runs are executed
+ * {@link #singleThreaded} on their worker, parallelism only happens between the runs.
+ * The results are returned in the order of the runs.
+ * <p>
+ * With a {@link #checkpointDirectory}, every run writes checkpoints into it and runs with
+ * a checkpoint left by a crashed ensemble resume from it, including the state of their random.
+ *
+ * @author jotoh
+ */
+@Slf4j
+@Builder
+public class EnsembleRunner {
+
+    /**
+     * Configuration every run is cloned from.
+     */
+    private final Configuration configuration;
+
+    /**
+     * Amount of runs.
+     */
+    @Builder.Default
+    private final int runs = 1;
+
+    /**
+     * Amount of runs executed in parallel.
+     */
+    @Builder.Default
+    private final int workers = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * Master seed the seeds of the runs are derived from.
+     */
+    @Builder.Default
+    private final long seed = System.nanoTime();
+
+    /**
+     * Whether every run evolves single threaded on one island.
+     * The executor and the islands of the runs' configurations are overridden, because the engine
+     * alters the populations with the random of the executing thread. Only single threaded runs
+     * are reproducible by their seed. False keeps the configured executor and islands.
+     */
+    @Builder.Default
+    private final boolean singleThreaded = true;
+
+    /**
+     * Customizer of the configuration clone of a run.
+     * Consumes the run index and the clone. Invoked with the run's seeded random
+     * in the {@link RandomRegistry}.
+     */
+    @Builder.Default
+    private final BiConsumer<Integer, Configuration> customizer = (index, configuration) -> {
+    };
+
+    /**
+     * Consumer of the progress of all runs.
+     * Consumes the generation of the run, which just finished one.
+     */
+    @Builder.Default
+    private final Consumer<Integer> progressConsumer = generation -> {
+    };
+
+    /**
+     * Consumer of each finished run.
+     * Invoked on the worker thread of the run.
+     */
+    @Builder.Default
+    private final Consumer<Run> runConsumer = run -> {
+    };
+
+    /**
+     * Directory the checkpoints of the runs are written to.
+     * Null disables checkpoints.
+     */
+    @Builder.Default
+    private final Path checkpointDirectory = null;
+
+    /**
+     * Derive the seeds of the runs from the master seed.
+     *
+     * @param seed master seed
+     * @param runs amount of runs
+     * @return seed of each run
+     */
+    static long[] seeds(final long seed, final int runs) {
+        final SplittableRandom random = new SplittableRandom(seed);
+        final long[] seeds = new long[runs];
+        for (int i = 0; i < runs; i++)
+            seeds[i] = random.split().nextLong();
+        return seeds;
+    }
+
+    /**
+     * Execute all runs and wait for them to finish.
+     *
+     * @return finished runs in the order of their indices
+     */
+    public List<Run> run() {
+        final long[] seeds = seeds(seed, runs);
+        final ExecutorService pool = Executors.newFixedThreadPool(Math.max(1, Math.min(workers, runs)));
+        try {
+            final List<CompletableFuture<Run>> futures = new ArrayList<>(runs);
+            for (int index = 0; index < runs; index++) {
+                final int runIndex = index;
+                futures.add(CompletableFuture.supplyAsync(() -> execute(runIndex, seeds[runIndex]), pool));
+            }
+
+            final List<Run> results = new ArrayList<>(runs);
+            for (final CompletableFuture<Run> future : futures)
+                results.add(future.join());
+            return results;
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Execute one run with its seeded random.
+     * Resumes the run from its checkpoint, if there is one.
+     *
+     * @param index index of the run
+     * @param seed  seed of the run
+     * @return finished run
+     */
+    private Run execute(final int index, final long seed) {
+        final Path checkpointPath = checkpointDirectory == null ? null : checkpointDirectory.resolve("run-" + index + ".checkpoint");
+        final Checkpoint checkpoint = readCheckpoint(checkpointPath);
+        final Random resumed = checkpoint == null ? null : checkpoint.restoreRandom();
+
+        return RandomRegistry.with(resumed == null ? new Random(seed) : resumed, random -> {
+            final Configuration clone;
+            if (checkpoint == null) {
+                clone = configuration.clone();
+                customizer.accept(index, clone);
+            } else {
+                clone = checkpoint.getConfiguration();
+            }
+            if (singleThreaded) {
+                if (clone.getExecutor() != null || clone.getIslandCount() > 1)
+                    log.info("Run {} evolves single threaded on one island instead of its configured executor and {} islands.", index, clone.getIslandCount());
+                clone.setExecutor(Runnable::run);
+                clone.setIslands(1);
+            }
+
+            final Evolution evolution = Evolution.builder()
+                    .configuration(clone)
+                    .progressConsumer(progressConsumer)
+                    .checkpointPath(checkpointPath)
+                    .resume(checkpoint)
+                    .build();
+
+            final long start = System.nanoTime();
+            evolution.run();
+            final Run run = new Run(index, seed, evolution, Duration.ofNanos(System.nanoTime() - start));
+
+            runConsumer.accept(run);
+            return run;
+        });
+    }
+
+    /**
+     * Read the checkpoint of a run.
+     *
+     * @param checkpointPath path of the run's checkpoint, null if checkpoints are disabled
+     * @return checkpoint of the run, null if there is none
+     */
+    private static Checkpoint readCheckpoint(final Path checkpointPath) {
+        if (checkpointPath == null || Files.notExists(checkpointPath))
+            return null;
+        try {
+            return CheckpointService.read(checkpointPath);
+        } catch (final IOException e) {
+            log.error("Could not resume from checkpoint " + checkpointPath, e);
+            return null;
+        }
+    }
+
+    /**
+     * Finished run of an ensemble.
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class Run {
+
+        /**
+         * Index of the run in the ensemble.
+         */
+        private final int index;
+
+        /**
+         * Seed the run's random was initialized with.
+         */
+        private final long seed;
+
+        /**
+         * Finished evolution of the run.
+         */
+        private final Evolution evolution;
+
+        /**
+         * Duration of the evolution.
+         */
+        private final Duration duration;
+    }
+}
@@ -1,17 +1,43 @@
 package evo.search;
 
+import evo.search.ga.AltererAdapter;
 import evo.search.ga.AnalysisUtils;
+import evo.search.ga.BatchEvaluator;
+import evo.search.ga.Checkpoint;
+import evo.search.ga.DiscreteChromosome;
 import evo.search.ga.DiscreteGene;
+import evo.search.ga.FitnessCache;
+import evo.search.ga.FitnessMethod;
+import evo.search.ga.FitnessMethods;
+import evo.search.ga.GenerationRecord;
+import evo.search.ga.IncrementalEvaluation;
+import evo.search.ga.PackedChromosome;
+import evo.search.ga.ParetoArchive;
+import evo.search.ga.ParetoMember;
+import evo.search.ga.TreasureIndex;
 import evo.search.ga.mutators.DiscreteAlterer;
 import evo.search.ga.mutators.DistanceMutator;
 import evo.search.io.entities.Configuration;
+import evo.search.io.service.CheckpointService;
 import evo.search.io.service.EventService;
+import evo.search.util.ListUtils;
 import evo.search.view.LangService;
+import io.jenetics.Alterer;
+import io.jenetics.Chromosome;
+import io.jenetics.Genotype;
+import io.jenetics.Optimize;
 import io.jenetics.Phenotype;
+import io.jenetics.TournamentSelector;
 import io.jenetics.engine.Codec;
 import io.jenetics.engine.Engine;
+import io.jenetics.engine.EvolutionDurations;
 import io.jenetics.engine.EvolutionResult;
+import io.jenetics.engine.EvolutionStart;
 import io.jenetics.engine.Problem;
+import io.jenetics.ext.moea.NSGA2Selector;
+import io.jenetics.ext.moea.Vec;
+import io.jenetics.util.ISeq;
+import io.jenetics.util.MSeq;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -19,12 +45,23 @@ import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import org.jetbrains.annotations.NotNull;
 
+import java.io.IOException;
 import java.io.Serializable;
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
 import java.util.List;
-import java.util.concurrent.atomic.AtomicInteger;
-import java.util.function.BiFunction;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Consumer;
+import java.util.function.ToDoubleBiFunction;
 import java.util.function.ToDoubleFunction;
 
 /**
@@ -50,6 +87,13 @@ public class Evolution implements Runnable, Serializable, Cloneable {
     @Builder.Default
     private transient final Consumer<Phenotype<DiscreteGene, Double>> bestConsumer = phenotype -> {
     };
+    /**
+     * Consumer of the retained history.
+     * Consumes every record added to the {@link #history}.
+     */
+    @Builder.Default
+    private transient final Consumer<GenerationRecord> recordConsumer = record -> {
+    };
     /**
      * Configuration to use during the evolution.
      */
@@ -58,11 +102,24 @@ public class Evolution implements Runnable, Serializable, Cloneable {
     private Configuration configuration;
 
     /**
-     * History of individuals with the best phenotype in each generation.
+     * History of the generations retained according to the configuration's
+     * {@link HistoryRetention}.
      */
     @Getter
     @Setter
-    private List<EvolutionResult<DiscreteGene, Double>> history;
+    private List<GenerationRecord> history;
+
+    /**
+     * Best phenotype over all generations.
+     */
+    @Getter
+    private Phenotype<DiscreteGene, Double> bestPhenotype;
+
+    /**
+     * Reason the last run stopped.
+     */
+    @Getter
+    private StopReason stopReason;
 
     /**
      * Evolution abort flag.
@@ -70,24 +127,71 @@ public class Evolution implements Runnable, Serializable, Cloneable {
     @Setter
     private transient boolean aborted;
 
+    /**
+     * Cache of already evaluated chromosomes.
+     * Set up on every run, if the configuration's cache size is positive.
+     */
+    @Getter
+    private transient FitnessCache fitnessCache;
+
+    /**
+     * Amount of fitness evaluations requested during the current run.
+     * Includes the evaluations answered by the {@link #fitnessCache}.
+     */
+    private transient LongAdder evaluations;
+
+    /**
+     * Index of the configuration's treasures used by the trace length fitness methods.
+     *
+     * @see #treasureIndex()
+     */
+    private transient volatile TreasureIndex treasureIndex;
+
+    /**
+     * Pareto front of the last multi-objective run.
+     * Null, if the configuration has less than two objectives.
+     *
+     * @see Configuration#getObjectives()
+     */
+    @Getter
+    private List<ParetoMember> paretoFront;
+
+    /**
+     * File the resume checkpoints of a run are written to.
+     * Null disables checkpoints. The file is deleted, once a run stops for another reason
+     * than being aborted.
+     *
+     * @see Configuration#isCheckpointDue(int, long)
+     */
+    @Getter
+    private transient final Path checkpointPath;
+
+    /**
+     * Checkpoint the next run resumes from.
+     * Null starts the next run from a new population.
+     */
+    private transient Checkpoint resume;
+
     /**
      * Create the problem this evolution is trying to solve.
      *
      * @return evolution problem
      */
     @NotNull
-    private Problem<List<DiscreteGene>, DiscreteGene, Double> constructProblem() {
-        return Problem.of(
-                this::evalFitness,
-                Codec.of(
-                        configuration::genotypeFactory,
-                        genotype -> {
-                            final List<DiscreteGene> genes = new ArrayList<>();
-                            for (final DiscreteGene gene : genotype.chromosome())
-                                genes.add(gene.clone());
-                            return genes;
-                        }
-                )
+    private Problem<PackedChromosome, DiscreteGene, Double> constructProblem() {
+        return Problem.of(this::evalFitness, constructCodec());
+    }
+
+    /**
+     * Create the codec decoding a genotype into its packed chromosome.
+     *
+     * @return codec of the packed chromosomes
+     */
+    @NotNull
+    private Codec<PackedChromosome, DiscreteGene> constructCodec() {
+        return Codec.of(
+                configuration::genotypeFactory,
+                genotype -> PackedChromosome.of(genotype.chromosome())
         );
     }
 
@@ -96,7 +200,16 @@ public class Evolution implements Runnable, Serializable, Cloneable {
      * Works with the {@link Configuration} held by this instance.
      * Clears out the history and the last result.
      * <p>
-     * Stores the history of the generations in {@link #history}.
+     * Stores the retained history of the generations in {@link #history}.
+     * Evolves multiple islands, if the configuration sets more than one island.
+     * Keeps a Pareto front instead, if the configuration sets multiple objectives.
+     * The reason the run stopped is stored in {@link #stopReason}.
+     * <p>
+     * Continues from the {@link #resume} checkpoint, if one is set. Its populations are evaluated
+     * again and its history, best phenotype and stop criteria counters are taken over.
+     * The evaluations of the resumed populations are not counted again, so a resumed run
+     * uses up the {@link Configuration#getEvaluationBudget()} like an uninterrupted one.
+     * Writes checkpoints to the {@link #checkpointPath} as configured and when the run is aborted.
      */
     @Override
     public void run() {
@@ -106,23 +219,429 @@ public class Evolution implements Runnable, Serializable, Cloneable {
         if (configuration.getPopulation() == 0)
             configuration.setPopulation(1);
 
-        history = new ArrayList<>();
+        final Checkpoint checkpoint = resume;
+        resume = null;
+        history = checkpoint == null ? new ArrayList<>() : new ArrayList<>(checkpoint.getHistory());
+        bestPhenotype = checkpoint == null ? null : checkpoint.getBest();
+        paretoFront = checkpoint == null ? null : checkpoint.getFront();
+        stopReason = null;
+        evaluations = new LongAdder();
+        if (checkpoint != null)
+            evaluations.add(checkpoint.getEvaluations());
+        fitnessCache = configuration.getFitnessCacheSize() > 0
+                ? new FitnessCache(configuration.getFitnessCacheSize())
+                : null;
+
+        final Problem<PackedChromosome, DiscreteGene, Double> problem = constructProblem();
+
+        final ForkJoinPool ownExecutor = configuration.getExecutor() == null && configuration.getEvaluationParallelism() > 1
+                ? new ForkJoinPool(configuration.getEvaluationParallelism())
+                : null;
+        final Executor executor = ownExecutor != null ? ownExecutor
+                : configuration.getExecutor() != null ? configuration.getExecutor()
+                : Runnable::run;
+
+        try {
+            if (configuration.isMultiObjective()) {
+                final Engine<DiscreteGene, Vec<double[]>> engine = buildFrontEngine(executor);
+                EventService.LOG_LABEL.trigger(LangService.get("environment.evolving"));
+                evolveFront(engine, ParetoArchive.of(configuration.getFrontSize()), checkpoint);
+                return;
+            }
+
+            final Engine<DiscreteGene, Double> engine = buildEngine(problem, executor);
+
+            EventService.LOG_LABEL.trigger(LangService.get("environment.evolving"));
+
+            evolve(engine, configuration.getIslandCount(), checkpoint);
+        } finally {
+            if (ownExecutor != null)
+                ownExecutor.shutdown();
+            if (checkpointPath != null && stopReason != null && stopReason != StopReason.ABORTED)
+                CheckpointService.delete(checkpointPath);
+            log.debug("Evolution stopped: {}", stopReason);
+            if (fitnessCache != null)
+                log.debug("Fitness cache: {} hits, {} misses", fitnessCache.getHits(), fitnessCache.getMisses());
+        }
+    }
+
+    /**
+     * Evolve one population per island with the same engine until a stop criterion is met.
+     * A single island is evolved on the calling thread.
+     * <p>
+     * Every {@link Configuration#getMigrationInterval()} generations, the best individuals
+     * of each island migrate along the configuration's {@link MigrationTopology} and replace
+     * the worst individuals of the receiving islands.
+     * The islands' populations are merged into one result per generation, which is
+     * reported to the consumers and retained in the {@link #history}.
+     * Chromosomes leaving the populations release their incremental evaluation state.
+     *
+     * @param engine     engine evolving each island
+     * @param islands    amount of islands
+     * @param checkpoint checkpoint to resume from, null to start from new populations
+     */
+    private void evolve(final Engine<DiscreteGene, Double> engine, final int islands, final Checkpoint checkpoint) {
+        final ExecutorService islandExecutor = islands > 1 ? Executors.newFixedThreadPool(islands) : null;
+        final long start = System.nanoTime() - (checkpoint == null ? 0 : checkpoint.getElapsed() * 1_000_000);
+        final int first = checkpoint == null ? 1 : (int) checkpoint.getGeneration() + 1;
+        List<ISeq<Phenotype<DiscreteGene, Double>>> live = List.of();
+        try {
+            final List<EvolutionStart<DiscreteGene, Double>> starts = new ArrayList<>();
+            for (int island = 0; island < islands; island++) {
+                final ISeq<Phenotype<DiscreteGene, Double>> population = checkpoint != null && island < checkpoint.getPopulations().size()
+                        ? unevaluated(checkpoint.getPopulations().get(island), first)
+                        : ISeq.empty();
+                starts.add(EvolutionStart.of(population, first));
+            }
+            uncountResumed(engine, ListUtils.map(starts, EvolutionStart::population));
+
+            int steadyGenerations = checkpoint == null ? 0 : checkpoint.getSteadyGenerations();
+            int sinceCheckpoint = 0;
+            long lastCheckpoint = System.nanoTime();
+            for (int generation = first; ; generation++) {
+                live = ListUtils.map(starts, EvolutionStart::population);
+                if (aborted) {
+                    stopReason = StopReason.ABORTED;
+                    if (generation > first)
+                        writeCheckpoint(generation - 1, steadyGenerations, start, live);
+                    return;
+                }
+                if (generation > configuration.getLimit()) {
+                    stopReason = StopReason.LIMIT;
+                    return;
+                }
+
+                final List<EvolutionResult<DiscreteGene, Double>> results = new ArrayList<>();
+                if (islandExecutor == null) {
+                    results.add(engine.evolve(starts.get(0)));
+                } else {
+                    final List<CompletableFuture<EvolutionResult<DiscreteGene, Double>>> futures = new ArrayList<>();
+                    for (final EvolutionStart<DiscreteGene, Double> islandStart : starts)
+                        futures.add(CompletableFuture.supplyAsync(() -> engine.evolve(islandStart), islandExecutor));
+                    for (final CompletableFuture<EvolutionResult<DiscreteGene, Double>> future : futures)
+                        results.add(future.join());
+                }
+
+                releaseState(live, ListUtils.map(results, EvolutionResult::population));
+                live = ListUtils.map(results, EvolutionResult::population);
+
+                final EvolutionResult<DiscreteGene, Double> merged = results.size() == 1 ? results.get(0) : merge(results);
+                final Phenotype<DiscreteGene, Double> previousBest = bestPhenotype;
+                progressConsumer.accept(generation);
+                bestConsumer.accept(merged.bestPhenotype());
+                record(merged);
+
+                steadyGenerations = previousBest != null && bestPhenotype.fitness() >= previousBest.fitness()
+                        ? steadyGenerations + 1
+                        : 0;
+                stopReason = configuration.stopReason(
+                        bestPhenotype.fitness(),
+                        steadyGenerations,
+                        (System.nanoTime() - start) / 1_000_000,
+                        evaluations.sum()
+                );
+                if (stopReason != null)
+                    return;
+
+                final int interval = Math.max(1, configuration.getMigrationInterval());
+                final List<ISeq<Phenotype<DiscreteGene, Double>>> populations = generation % interval == 0
+                        ? migrate(results, configuration.getMigrants(), configuration.getMigrationTopology())
+                        : ListUtils.map(results, EvolutionResult::population);
+                releaseState(live, populations);
 
-        final Problem<List<DiscreteGene>, DiscreteGene, Double> problem = constructProblem();
+                for (int island = 0; island < islands; island++)
+                    starts.set(island, EvolutionStart.of(populations.get(island), results.get(island).generation() + 1));
 
-        final Engine<DiscreteGene, Double> engine = buildEngine(problem);
+                if (checkpointPath != null && configuration.isCheckpointDue(++sinceCheckpoint, (System.nanoTime() - lastCheckpoint) / 1_000_000)) {
+                    writeCheckpoint(generation, steadyGenerations, start, populations);
+                    sinceCheckpoint = 0;
+                    lastCheckpoint = System.nanoTime();
+                }
+            }
+        } finally {
+            releaseState(live, List.of());
+            if (islandExecutor != null)
+                islandExecutor.shutdown();
+        }
+    }
+
+    /**
+     * Evolve a single population minimizing all configured objectives until a stop criterion is met.
+     * <p>
+     * The population is selected by non-dominated sorting and crowding distance. The Pareto front
+     * over all generations is kept in the archive, retained in the {@link #history} and stored in the
+     * {@link #paretoFront}. The {@link #bestPhenotype} and the fitness stop criteria refer to the first
+     * objective, while the front being unchanged counts as a steady generation.
+     * <p>
+     * A resumed evolution starts its archive anew. The members of the checkpoint's front are
+     * put in front of the resumed population, so the engine keeps them when it limits the
+     * population to its size and the selection is able to keep them.
+     * Chromosomes leaving the population release their incremental evaluation state.
+     *
+     * @param engine     engine evolving the population
+     * @param archive    archive of the Pareto front
+     * @param checkpoint checkpoint to resume from, null to start from a new population
+     */
+    private void evolveFront(final Engine<DiscreteGene, Vec<double[]>> engine, final ParetoArchive<?> archive, final Checkpoint checkpoint) {
+        if (configuration.getIslandCount() > 1) {
+            log.warn("Ignoring {} islands: Multiple objectives are evolved on a single island.", configuration.getIslandCount());
+            EventService.LOG.trigger("Ignoring the islands: Multiple objectives are evolved on a single island.");
+        }
+
+        final long start = System.nanoTime() - (checkpoint == null ? 0 : checkpoint.getElapsed() * 1_000_000);
+        final int first = checkpoint == null ? 1 : (int) checkpoint.getGeneration() + 1;
+        ISeq<Phenotype<DiscreteGene, Vec<double[]>>> population = ISeq.empty();
+        if (checkpoint != null) {
+            final List<Genotype<DiscreteGene>> genotypes = new ArrayList<>();
+            if (checkpoint.getFront() != null)
+                for (final ParetoMember member : checkpoint.getFront())
+                    genotypes.add(Genotype.of(DiscreteChromosome.of(PackedChromosome.of(member.getChromosome()))));
+            checkpoint.getPopulations().forEach(island -> genotypes.addAll(island.asList()));
+            population = unevaluated(ISeq.of(genotypes), first);
+        }
+        EvolutionStart<DiscreteGene, Vec<double[]>> evolutionStart = EvolutionStart.of(population, first);
+        uncountResumed(engine, List.of(population));
+
+        int steadyGenerations = checkpoint == null ? 0 : checkpoint.getSteadyGenerations();
+        int sinceCheckpoint = 0;
+        long lastCheckpoint = System.nanoTime();
+        try {
+            for (int generation = first; ; generation++) {
+                if (aborted) {
+                    stopReason = StopReason.ABORTED;
+                    if (generation > first)
+                        writeCheckpoint(generation - 1, steadyGenerations, start, List.of(evolutionStart.population()));
+                    return;
+                }
+                if (generation > configuration.getLimit()) {
+                    stopReason = StopReason.LIMIT;
+                    return;
+                }
+
+                final EvolutionResult<DiscreteGene, Vec<double[]>> result = engine.evolve(evolutionStart);
+                releaseState(List.of(evolutionStart.population()), List.of(result.population()));
+                final boolean changed = archive.add(result);
+                paretoFront = ListUtils.map(archive.front().asList(), ParetoMember::of);
+
+                progressConsumer.accept(generation);
+                recordFront(result);
+                bestConsumer.accept(bestPhenotype);
+
+                steadyGenerations = changed ? 0 : steadyGenerations + 1;
+                stopReason = configuration.stopReason(
+                        bestPhenotype.fitness(),
+                        steadyGenerations,
+                        (System.nanoTime() - start) / 1_000_000,
+                        evaluations.sum()
+                );
+                if (stopReason != null)
+                    return;
+
+                evolutionStart = EvolutionStart.of(result.population(), result.generation() + 1);
+
+                if (checkpointPath != null && configuration.isCheckpointDue(++sinceCheckpoint, (System.nanoTime() - lastCheckpoint) / 1_000_000)) {
+                    writeCheckpoint(generation, steadyGenerations, start, List.of(result.population()));
+                    sinceCheckpoint = 0;
+                    lastCheckpoint = System.nanoTime();
+                }
+            }
+        } finally {
+            releaseState(List.of(evolutionStart.population()), List.of());
+        }
+    }
+
+    /**
+     * Create unevaluated phenotypes of genotypes, e.g. to resume an evolution from a checkpoint.
+     *
+     * @param genotypes  genotypes of the phenotypes
+     * @param generation generation of the phenotypes
+     * @param <C>        fitness type of the phenotypes
+     * @return unevaluated phenotypes
+     */
+    private static <C extends Comparable<? super C>> ISeq<Phenotype<DiscreteGene, C>> unevaluated(final ISeq<Genotype<DiscreteGene>> genotypes, final long generation) {
+        return genotypes.map(genotype -> Phenotype.of(genotype, generation));
+    }
+
+    /**
+     * Remove the evaluations of resumed populations from the {@link #evaluations}.
+     * The engine evaluates the phenotypes of a resumed population again, limited to its population size,
+     * but they were counted before the checkpoint was written.
+     *
+     * @param engine      engine evolving the populations
+     * @param populations resumed populations of the islands
+     */
+    private void uncountResumed(final Engine<DiscreteGene, ?> engine, final List<? extends ISeq<?>> populations) {
+        for (final ISeq<?> population : populations)
+            evaluations.add(-Math.min(population.size(), engine.populationSize()));
+    }
+
+    /**
+     * Write a checkpoint of the run to the {@link #checkpointPath}.
+     * A failed checkpoint is logged and does not stop the run.
+     *
+     * @param generation        last evolved generation
+     * @param steadyGenerations amount of generations without improvement
+     * @param start             adjusted start of the run in nanoseconds
+     * @param populations       populations of the islands to evolve next
+     */
+    private void writeCheckpoint(final long generation, final int steadyGenerations, final long start, final List<? extends ISeq<? extends Phenotype<DiscreteGene, ?>>> populations) {
+        final List<ISeq<Genotype<DiscreteGene>>> genotypes = new ArrayList<>(populations.size());
+        for (final ISeq<? extends Phenotype<DiscreteGene, ?>> population : populations)
+            genotypes.add(population.map(Phenotype::genotype));
+
+        final Checkpoint checkpoint = new Checkpoint(
+                configuration,
+                generation,
+                steadyGenerations,
+                (System.nanoTime() - start) / 1_000_000,
+                evaluations.sum(),
+                Checkpoint.captureRandom(),
+                genotypes,
+                new ArrayList<>(history),
+                bestPhenotype,
+                paretoFront
+        );
+        try {
+            CheckpointService.write(checkpointPath, checkpoint);
+            log.debug("Checkpoint of generation {} written to {}", generation, checkpointPath);
+        } catch (final IOException e) {
+            log.error("Could not write the checkpoint " + checkpointPath, e);
+        }
+    }
+
+    /**
+     * Merge the results of all islands of one generation into one result.
+     *
+     * @param results results of the islands
+     * @return result holding all islands' populations
+     */
+    private static EvolutionResult<DiscreteGene, Double> merge(final List<EvolutionResult<DiscreteGene, Double>> results) {
+        final List<Phenotype<DiscreteGene, Double>> population = new ArrayList<>();
+        int killCount = 0;
+        int invalidCount = 0;
+        int alterCount = 0;
+        for (final EvolutionResult<DiscreteGene, Double> result : results) {
+            population.addAll(result.population().asList());
+            killCount += result.killCount();
+            invalidCount += result.invalidCount();
+            alterCount += result.alterCount();
+        }
+        final EvolutionResult<DiscreteGene, Double> first = results.get(0);
+        return EvolutionResult.of(
+                Optimize.MINIMUM,
+                ISeq.of(population),
+                first.generation(),
+                first.totalGenerations(),
+                EvolutionDurations.ZERO,
+                killCount,
+                invalidCount,
+                alterCount
+        );
+    }
+
+    /**
+     * Exchange the best individuals between the islands.
+     * Each island sends its best individuals to its targets in the topology.
+     * The received individuals replace the worst individuals of the target island.
+     *
+     * @param results  results of the islands
+     * @param migrants amount of individuals sent to each target
+     * @param topology topology connecting the islands
+     * @return populations of the islands after the migration
+     */
+    static List<ISeq<Phenotype<DiscreteGene, Double>>> migrate(final List<EvolutionResult<DiscreteGene, Double>> results, final int migrants, final MigrationTopology topology) {
+        final int islands = results.size();
+        final Comparator<Phenotype<DiscreteGene, Double>> byFitness = Comparator.comparing(Phenotype::fitness);
+
+        final List<MSeq<Phenotype<DiscreteGene, Double>>> populations = new ArrayList<>();
+        final List<List<Phenotype<DiscreteGene, Double>>> incoming = new ArrayList<>();
+        for (final EvolutionResult<DiscreteGene, Double> result : results) {
+            final MSeq<Phenotype<DiscreteGene, Double>> population = result.population().copy();
+            population.sort(byFitness);
+            populations.add(population);
+            incoming.add(new ArrayList<>());
+        }
+
+        for (int island = 0; island < islands; island++) {
+            final MSeq<Phenotype<DiscreteGene, Double>> population = populations.get(island);
+            final int amount = Math.min(Math.max(0, migrants), population.size());
+            for (final int target : topology.targets(island, islands))
+                for (int i = 0; i < amount; i++)
+                    incoming.get(target).add(population.get(i));
+        }
+
+        final List<ISeq<Phenotype<DiscreteGene, Double>>> migrated = new ArrayList<>();
+        for (int island = 0; island < islands; island++) {
+            final MSeq<Phenotype<DiscreteGene, Double>> population = populations.get(island);
+            final List<Phenotype<DiscreteGene, Double>> received = incoming.get(island);
+            final int replaced = Math.min(received.size(), population.size());
+            for (int i = 0; i < replaced; i++)
+                population.set(population.size() - 1 - i, received.get(i));
+            migrated.add(population.toISeq());
+        }
+        return migrated;
+    }
 
-        EventService.LOG_LABEL.trigger(LangService.get("environment.evolving"));
-        final AtomicInteger progressCounter = new AtomicInteger();
-        engine
-                .stream()
-                .limit(discreteGeneDoubleEvolutionResult -> !aborted)
-                .limit(configuration.getLimit())
-                .forEach(result -> {
-                    progressConsumer.accept(progressCounter.incrementAndGet());
-                    bestConsumer.accept(result.bestPhenotype());
-                    history.add(result);
-                });
+    /**
+     * Release the incremental evaluation state of the chromosomes, that left the populations.
+     * Offspring are only derived from the current populations, so the state of the left
+     * chromosomes is not resumed from anymore, but would be retained by the history.
+     *
+     * @param previous populations before the generation
+     * @param current  populations after the generation
+     * @param <C>      fitness type of the phenotypes
+     */
+    private static <C extends Comparable<? super C>> void releaseState(final List<ISeq<Phenotype<DiscreteGene, C>>> previous, final List<ISeq<Phenotype<DiscreteGene, C>>> current) {
+        final Set<Chromosome<DiscreteGene>> kept = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (final ISeq<Phenotype<DiscreteGene, C>> population : current)
+            for (final Phenotype<DiscreteGene, C> phenotype : population)
+                kept.add(phenotype.genotype().chromosome());
+        for (final ISeq<Phenotype<DiscreteGene, C>> population : previous)
+            for (final Phenotype<DiscreteGene, C> phenotype : population) {
+                final Chromosome<DiscreteGene> chromosome = phenotype.genotype().chromosome();
+                if (chromosome instanceof DiscreteChromosome && !kept.contains(chromosome))
+                    ((DiscreteChromosome) chromosome).releaseState();
+            }
+    }
+
+    /**
+     * Retain an evolution result in the {@link #history} according to the configuration's
+     * {@link HistoryRetention} and update the {@link #bestPhenotype}.
+     *
+     * @param result evolution result of one generation
+     */
+    private void record(final EvolutionResult<DiscreteGene, Double> result) {
+        final Phenotype<DiscreteGene, Double> best = result.bestPhenotype();
+        if (bestPhenotype == null || best.fitness() < bestPhenotype.fitness())
+            bestPhenotype = best;
+
+        final GenerationRecord record = configuration
+                .getHistoryRetention()
+                .record(result, configuration.getHistorySampleInterval());
+        if (record == null)
+            return;
+        history.add(record);
+        recordConsumer.accept(record);
+    }
+
+    /**
+     * Retain a multi-objective evolution result with the current {@link #paretoFront} in the
+     * {@link #history} and update the {@link #bestPhenotype} by the first objective.
+     *
+     * @param result evolution result of one generation
+     */
+    private void recordFront(final EvolutionResult<DiscreteGene, Vec<double[]>> result) {
+        for (final Phenotype<DiscreteGene, Vec<double[]>> phenotype : result.population())
+            if (bestPhenotype == null || phenotype.fitness().data()[0] < bestPhenotype.fitness())
+                bestPhenotype = GenerationRecord.firstObjective(phenotype);
+
+        final GenerationRecord record = configuration
+                .getHistoryRetention()
+                .recordFront(result, paretoFront, configuration.getHistorySampleInterval());
+        if (record == null)
+            return;
+        history.add(record);
+        recordConsumer.accept(record);
     }
 
     /**
@@ -133,13 +652,12 @@ public class Evolution implements Runnable, Serializable, Cloneable {
      *
      * @param chromosome chromosome to evaluate
      * @return chromosome fitness based on single treasure
-     * @see AnalysisUtils#traceLength(List, DiscreteGene)
+     * @see TreasureIndex#traceLengths(PackedChromosome, double[], int)
      */
-    public double fitnessSingular(final List<DiscreteGene> chromosome) {
+    public double fitnessSingular(final PackedChromosome chromosome) {
         if (configuration.getTreasures().size() == 0)
             return 0;
-        final DiscreteGene treasure = configuration.getTreasures().get(0);
-        return AnalysisUtils.traceLength(chromosome, treasure);
+        return traceLengths(chromosome, 1)[0];
     }
 
     /**
@@ -151,15 +669,85 @@ public class Evolution implements Runnable, Serializable, Cloneable {
      *
      * @param chromosome chromosome to evaluate
      * @return chromosome fitness based on multiple treasures
-     * @see AnalysisUtils#traceLength(List, DiscreteGene)
+     * @see TreasureIndex#traceLengths(PackedChromosome, double[], int)
      */
-    public double fitnessMulti(final List<DiscreteGene> chromosome) {
-        final List<DiscreteGene> treasures = configuration.getTreasures();
-        if (treasures.size() == 0) return 0;
+    public double fitnessMulti(final PackedChromosome chromosome) {
+        final int treasures = configuration.getTreasures().size();
+        if (treasures == 0) return 0;
+        final double[] traceLengths = traceLengths(chromosome, treasures);
         double sum = 0;
-        for (final DiscreteGene treasure : treasures)
-            sum += AnalysisUtils.traceLength(chromosome, treasure);
-        return sum / treasures.size();
+        for (int i = 0; i < treasures; i++)
+            sum += traceLengths[i];
+        return sum / treasures;
+    }
+
+    /**
+     * Compute the trace lengths of a chromosome to find the first treasures in a single walk.
+     * Takes the path lengths from the incremental evaluation, if the configuration sets
+     * a checkpoint interval.
+     * <p>
+     * The lengths are stored in a buffer of the calling thread, which is reused by its next evaluation
+     * and may be longer than the amount of treasures.
+     *
+     * @param chromosome chromosome to evaluate
+     * @param amount     amount of treasures to find
+     * @return trace length per treasure
+     * @see TreasureIndex#traceLengths(PackedChromosome, double[], int, double[])
+     */
+    private double[] traceLengths(final PackedChromosome chromosome, final int amount) {
+        final double[] pathLengths = configuration.getCheckpointInterval() > 0
+                ? IncrementalEvaluation.pathLengths(chromosome)
+                : null;
+        final TreasureIndex index = treasureIndex();
+        return index.traceLengths(chromosome, pathLengths, amount, index.lengthsBuffer());
+    }
+
+    /**
+     * Get the index of the configuration's treasures.
+     * The index is rebuilt, if the configuration's treasures were replaced or changed.
+     *
+     * @return index of the configuration's treasures
+     */
+    private TreasureIndex treasureIndex() {
+        final List<DiscreteGene> treasures = configuration.getTreasures();
+        TreasureIndex index = treasureIndex;
+        if (index == null || !index.isIndexOf(treasures)) {
+            index = new TreasureIndex(treasures);
+            treasureIndex = index;
+        }
+        return index;
+    }
+
+    /**
+     * Compute the worst case of a chromosome.
+     * Evaluates incrementally, if the configuration sets a checkpoint interval.
+     *
+     * @param chromosome  chromosome to evaluate
+     * @param minDistance minimum distance a worst case is placed away from the origin
+     * @return worst case fitness
+     * @see IncrementalEvaluation#worstCase(PackedChromosome, float, int)
+     */
+    private double worstCase(final PackedChromosome chromosome, final float minDistance) {
+        final int interval = configuration.getCheckpointInterval();
+        if (interval > 0)
+            return IncrementalEvaluation.worstCase(chromosome, minDistance, interval);
+        return AnalysisUtils.worstCase(chromosome, minDistance);
+    }
+
+    /**
+     * Compute the mean worst case of a chromosome.
+     * Evaluates incrementally, if the configuration sets a checkpoint interval.
+     *
+     * @param chromosome chromosome to evaluate
+     * @param epsilon    distance the worst case is missed by
+     * @return mean worst case fitness
+     * @see IncrementalEvaluation#worstCaseMean(PackedChromosome, float, int)
+     */
+    private double worstCaseMean(final PackedChromosome chromosome, final float epsilon) {
+        final int interval = configuration.getCheckpointInterval();
+        if (interval > 0)
+            return IncrementalEvaluation.worstCaseMean(chromosome, epsilon, interval);
+        return AnalysisUtils.worstCaseMean(chromosome, epsilon);
     }
 
     /**
@@ -169,7 +757,7 @@ public class Evolution implements Runnable, Serializable, Cloneable {
      * @param areaCalculation area function
      * @return fitness as quotient between trace length and area
      */
-    private static double areaFitness(final List<DiscreteGene> chromosome, final ToDoubleFunction<List<DiscreteGene>> areaCalculation) {
+    private static double areaFitness(final PackedChromosome chromosome, final ToDoubleFunction<PackedChromosome> areaCalculation) {
         final double area = areaCalculation.applyAsDouble(chromosome);
         if (area <= 0)
             return Double.POSITIVE_INFINITY;
@@ -179,13 +767,23 @@ public class Evolution implements Runnable, Serializable, Cloneable {
 
     /**
      * Build evolution engine.
+     * The population's fitness is evaluated in batches on the given executor.
      *
-     * @param problem problem to solve
+     * @param problem  problem to solve
+     * @param executor executor to evaluate and alter the population on
      * @return evolution engine
+     * @see BatchEvaluator
      */
-    private Engine<DiscreteGene, Double> buildEngine(final Problem<List<DiscreteGene>, DiscreteGene, Double> problem) {
-        final Engine.Builder<DiscreteGene, Double> evolutionBuilder = Engine
-                .builder(problem)
+    private Engine<DiscreteGene, Double> buildEngine(final Problem<PackedChromosome, DiscreteGene, Double> problem, final Executor executor) {
+        final Codec<PackedChromosome, DiscreteGene> codec = problem.codec();
+        final BatchEvaluator<Double> evaluator = new BatchEvaluator<>(
+                genotype -> problem.fitness().apply(codec.decode(genotype)),
+                executor,
+                configuration.getEvaluationParallelism()
+        );
+
+        final Engine.Builder<DiscreteGene, Double> evolutionBuilder = new Engine.Builder<>(evaluator, codec.encoding())
+                .executor(executor)
                 .minimizing();
 
         final List<? extends DiscreteAlterer> alterers = new ArrayList<>(configuration.getAlterers());
@@ -207,14 +805,91 @@ public class Evolution implements Runnable, Serializable, Cloneable {
                 .build();
     }
 
+    /**
+     * Build the engine of a multi-objective evolution.
+     * The survivors are selected by non-dominated sorting and crowding distance,
+     * the offspring by tournaments on Pareto dominance. The configured alterers are
+     * applied through an {@link AltererAdapter}.
+     *
+     * @param executor executor to evaluate and alter the population on
+     * @return multi-objective evolution engine
+     * @see #evalObjectives(PackedChromosome)
+     */
+    private Engine<DiscreteGene, Vec<double[]>> buildFrontEngine(final Executor executor) {
+        final Codec<PackedChromosome, DiscreteGene> codec = constructCodec();
+        final BatchEvaluator<Vec<double[]>> evaluator = new BatchEvaluator<>(
+                genotype -> evalObjectives(codec.decode(genotype)),
+                executor,
+                configuration.getEvaluationParallelism()
+        );
+
+        final Engine.Builder<DiscreteGene, Vec<double[]>> evolutionBuilder = new Engine.Builder<>(evaluator, codec.encoding())
+                .executor(executor)
+                .minimizing();
+
+        final List<? extends DiscreteAlterer> alterers = configuration.getAlterers();
+        if (alterers.size() > 0) {
+            alterers.forEach(alterer -> {
+                if (alterer instanceof DistanceMutator)
+                    ((DistanceMutator) alterer).setConfiguration(configuration);
+            });
+            evolutionBuilder.alterers(new AltererAdapter<>(Alterer.of(alterers.toArray(DiscreteAlterer[]::new))));
+        }
+
+        return evolutionBuilder
+                .offspringFraction(configuration.getOffspring() / (double) configuration.getPopulation())
+                .populationSize(configuration.getPopulation())
+                .offspringSelector(new TournamentSelector<>(3))
+                .survivorsSelector(NSGA2Selector.ofVec())
+                .build();
+    }
+
+    /**
+     * Evaluate all configured objectives of a chromosome in one pass.
+     * The objectives share the chromosome's packed arrays and incremental evaluation state.
+     * Takes each objective from the {@link #fitnessCache}, if the chromosome was already evaluated.
+     * Releases the chromosome's link to its origin afterwards.
+     *
+     * @param chromosome chromosome to evaluate
+     * @return objective values in the order of the configured objectives
+     */
+    public Vec<double[]> evalObjectives(final PackedChromosome chromosome) {
+        final List<FitnessMethod> objectives = configuration.getObjectives();
+        if (evaluations != null)
+            evaluations.increment();
+        try {
+            final double[] values = new double[objectives.size()];
+            for (int i = 0; i < values.length; i++) {
+                final FitnessMethod objective = objectives.get(i);
+                values[i] = fitnessCache == null
+                        ? objective.evaluate(this, chromosome)
+                        : fitnessCache.get(chromosome, objective.getName(), genes -> objective.evaluate(this, genes));
+            }
+            return Vec.of(values);
+        } finally {
+            chromosome.releaseOrigin();
+        }
+    }
+
     /**
      * Evaluate fitness method.
+     * Takes the fitness from the {@link #fitnessCache}, if the chromosome was already evaluated.
+     * Releases the chromosome's link to its origin afterwards.
      *
      * @param chromosome chromosome to evaluate
      * @return evaluated fitness
      */
-    public double evalFitness(final List<DiscreteGene> chromosome) {
-        return configuration.getFitness().getMethod().apply(this, chromosome);
+    public double evalFitness(final PackedChromosome chromosome) {
+        final FitnessMethod fitness = configuration.getFitness();
+        if (evaluations != null)
+            evaluations.increment();
+        try {
+            if (fitnessCache == null)
+                return fitness.evaluate(this, chromosome);
+            return fitnessCache.get(chromosome, fitness.getName(), genes -> fitness.evaluate(this, genes));
+        } finally {
+            chromosome.releaseOrigin();
+        }
     }
 
     /**
@@ -227,28 +902,31 @@ public class Evolution implements Runnable, Serializable, Cloneable {
         try {
             return (Evolution) super.clone();
         } catch (final CloneNotSupportedException e) {
-            return new Evolution(progressConsumer, bestConsumer, configuration, history, aborted);
+            return new Evolution(progressConsumer, bestConsumer, recordConsumer, configuration, history, bestPhenotype, stopReason, aborted, fitnessCache, evaluations, treasureIndex, paretoFront, checkpointPath, resume);
         }
     }
 
     /**
-     * Fitness method enum.
+     * Built-in fitness methods.
+     * Further methods are provided through the {@link FitnessMethod} service.
+     *
+     * @see FitnessMethods
      */
     @Getter
     @AllArgsConstructor
-    public enum Fitness {
+    public enum Fitness implements FitnessMethod {
         /**
          * The singular method computes the fitness based on the competitive ratio of
          * finding one distinct treasure point.
          *
-         * @see #fitnessSingular(List)
+         * @see #fitnessSingular(PackedChromosome)
          */
         SINGULAR(Evolution::fitnessSingular),
         /**
          * The multi method computes the fitness based on the competitive ratio of
          * finding a set of distinct treasure points.
          *
-         * @see #fitnessMulti(List)
+         * @see #fitnessMulti(PackedChromosome)
          */
         MULTI(Evolution::fitnessMulti),
         /**
@@ -256,12 +934,12 @@ public class Evolution implements Runnable, Serializable, Cloneable {
          * points to find their worst-case treasure (when the treasure is just an epsilon further
          * away from the origin than the point).
          */
-        WORST_CASE((e, genes) -> AnalysisUtils.worstCase(genes, 1f)),
+        WORST_CASE((e, genes) -> e.worstCase(genes, 1f)),
         /**
          * This fitness method calculates the mean of the worst cases for
          * each point of the strategy.
          */
-        WORST_MEAN((e, genes) -> AnalysisUtils.worstCaseMean(genes, 1f)),
+        WORST_MEAN((e, genes) -> e.worstCaseMean(genes, 1f)),
         /**
          * The max area method computes the fitness based on the competitive ratio of explored space
          * divided by the path's length.
@@ -280,7 +958,154 @@ public class Evolution implements Runnable, Serializable, Cloneable {
         /**
          * Fitness method used in the evolution stream.
          */
-        private final BiFunction<Evolution, List<DiscreteGene>, Double> method;
+        private final ToDoubleBiFunction<Evolution, PackedChromosome> method;
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public String getName() {
+            return name();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public double evaluate(final Evolution evolution, final PackedChromosome chromosome) {
+            return method.applyAsDouble(evolution, chromosome);
+        }
+    }
+
+    /**
+     * Reason an evolution stopped.
+     */
+    public enum StopReason {
+        /**
+         * The configured generation limit was reached.
+         */
+        LIMIT,
+        /**
+         * The evolution was aborted.
+         */
+        ABORTED,
+        /**
+         * The best fitness did not improve for the configured amount of generations.
+         */
+        STEADY_FITNESS,
+        /**
+         * The best fitness reached the configured threshold.
+         */
+        FITNESS_THRESHOLD,
+        /**
+         * The configured wall-clock budget was used up.
+         */
+        TIME_BUDGET,
+        /**
+         * The configured amount of fitness evaluations was used up.
+         */
+        EVALUATION_BUDGET
+    }
 
+    /**
+     * Topology connecting the islands of an island evolution.
+     * Defines, which islands receive the migrants of an island.
+     */
+    public enum MigrationTopology {
+        /**
+         * Each island sends its migrants to the next island in a ring.
+         */
+        RING,
+        /**
+         * Each island sends its migrants to all other islands.
+         */
+        FULL;
+
+        /**
+         * Get the islands receiving the migrants of an island.
+         *
+         * @param island  index of the sending island
+         * @param islands amount of islands
+         * @return indices of the receiving islands
+         */
+        public int[] targets(final int island, final int islands) {
+            if (islands < 2)
+                return new int[0];
+            if (this == RING)
+                return new int[]{(island + 1) % islands};
+            final int[] targets = new int[islands - 1];
+            for (int i = 0, target = 0; target < islands; target++)
+                if (target != island)
+                    targets[i++] = target;
+            return targets;
+        }
+    }
+
+    /**
+     * Policy of which parts of each generation are retained in the {@link #history}.
+     */
+    public enum HistoryRetention {
+        /**
+         * Retain the whole population of every generation.
+         */
+        FULL,
+        /**
+         * Retain the best phenotype of every generation.
+         * Multi-objective evolutions also retain their Pareto front, as it holds the best individuals of all objectives.
+         */
+        BEST,
+        /**
+         * Retain only the fitness statistics of every generation.
+         */
+        STATISTICS,
+        /**
+         * Retain the whole population of every n-th generation.
+         */
+        SAMPLED;
+
+        /**
+         * Create the history record for an evolution result.
+         *
+         * @param result         evolution result to record
+         * @param sampleInterval generation interval between two {@link #SAMPLED} records
+         * @return history record, null if the generation is not retained
+         */
+        public GenerationRecord record(final EvolutionResult<DiscreteGene, Double> result, final int sampleInterval) {
+            switch (this) {
+                case BEST:
+                    return GenerationRecord.of(result, true, false);
+                case STATISTICS:
+                    return GenerationRecord.of(result, false, false);
+                case SAMPLED:
+                    if (result.generation() % Math.max(1, sampleInterval) != 0 && result.generation() != 1)
+                        return null;
+                    return GenerationRecord.of(result, true, true);
+                default:
+                    return GenerationRecord.of(result, true, true);
+            }
+        }
+
+        /**
+         * Create the history record for a multi-objective evolution result.
+         * The front takes the place of the population, so {@link #BEST} retains the front
+         * along with the best phenotype by the first objective.
+         *
+         * @param result         evolution result to record
+         * @param front          Pareto front after the generation
+         * @param sampleInterval generation interval between two {@link #SAMPLED} records
+         * @return history record, null if the generation is not retained
+         */
+        public GenerationRecord recordFront(final EvolutionResult<DiscreteGene, Vec<double[]>> result, final List<ParetoMember> front, final int sampleInterval) {
+            switch (this) {
+                case STATISTICS:
+                    return GenerationRecord.ofFront(result, null, false);
+                case SAMPLED:
+                    if (result.generation() % Math.max(1, sampleInterval) != 0 && result.generation() != 1)
+                        return null;
+                    return GenerationRecord.ofFront(result, front, true);
+                default:
+                    return GenerationRecord.ofFront(result, front, true);
+            }
+        }
     }
 }
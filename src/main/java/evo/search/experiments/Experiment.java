@@ -4,8 +4,10 @@ import com.opencsv.CSVWriter;
 import lombok.extern.slf4j.Slf4j;
 import org.jetbrains.annotations.NotNull;
 
+import java.io.IOException;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.function.Consumer;
 
@@ -63,6 +65,24 @@ public abstract class Experiment implements Consumer<String[]> {
         }
     }
 
+    /**
+     * Take the experiments arguments and parse the checkpoint directory from the third argument.
+     * The directory is created, if it does not exist.
+     *
+     * @param args list of arguments
+     * @return directory for the checkpoints of the runs, null if checkpoints are disabled
+     */
+    public static Path parseCheckpointDirectory(final String[] args) {
+        if (args.length < 3 || args[2].isBlank())
+            return null;
+        try {
+            return Files.createDirectories(Path.of(args[2]));
+        } catch (final IOException e) {
+            log.error("Could not create the checkpoint directory " + args[2], e);
+            return null;
+        }
+    }
+
     /**
      * Create the standard formatted csv output writer.
      *
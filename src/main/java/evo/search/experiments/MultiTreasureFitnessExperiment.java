@@ -1,6 +1,7 @@
 package evo.search.experiments;
 
 import com.opencsv.CSVWriter;
+import evo.search.EnsembleRunner;
 import evo.search.Evolution;
 import evo.search.ga.DiscreteGene;
 import evo.search.ga.mutators.*;
@@ -9,7 +10,6 @@ import evo.search.io.service.FileService;
 import evo.search.util.ListUtils;
 import evo.search.util.RandomUtils;
 import io.jenetics.Chromosome;
-import io.jenetics.engine.EvolutionResult;
 import io.jenetics.util.ISeq;
 import io.jenetics.util.RandomRegistry;
 import lombok.extern.slf4j.Slf4j;
@@ -19,8 +19,8 @@ import java.awt.geom.Point2D;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.*;
-import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -32,6 +32,22 @@ import java.util.stream.Collectors;
 @Slf4j
 public class MultiTreasureFitnessExperiment extends Experiment {
 
+    /**
+     * Amount of evolutions per treasure amount.
+     */
+    private static final int RUNS = 20;
+
+    /**
+     * Master seed of the evolution ensembles.
+     */
+    private long seed = System.nanoTime();
+
+    /**
+     * Directory for the checkpoints of the ensembles.
+     * Null disables checkpoints.
+     */
+    private Path checkpointDirectory;
+
     /**
      * Adds a name and two identifiers in front of a row.
      *
@@ -52,12 +68,8 @@ public class MultiTreasureFitnessExperiment extends Experiment {
      */
     @NotNull
     private static List<DiscreteGene> bestPhenotype(final Evolution evolution) {
-        final EvolutionResult<DiscreteGene, Double> best = Collections.min(
-                evolution.getHistory(),
-                Comparator.comparingDouble(EvolutionResult::bestFitness)
-        );
-        final Chromosome<DiscreteGene> chromosome = best
-                .bestPhenotype()
+        final Chromosome<DiscreteGene> chromosome = evolution
+                .getBestPhenotype()
                 .genotype()
                 .chromosome();
         return ISeq.of(chromosome).asList();
@@ -68,8 +80,11 @@ public class MultiTreasureFitnessExperiment extends Experiment {
         final String fileName = parseFileName(args);
 
         final long seed = parseSeed(args);
-        if (seed > -1)
-            RandomRegistry.random(new Random(1234));
+        if (seed > -1) {
+            RandomRegistry.random(new Random(seed));
+            this.seed = seed;
+        }
+        checkpointDirectory = parseCheckpointDirectory(args);
 
         System.out.println("Starting " + getClass().getSimpleName());
 
@@ -152,49 +167,46 @@ public class MultiTreasureFitnessExperiment extends Experiment {
     @NotNull
     private List<List<DiscreteGene>> getResultMatrix(final CSVWriter writer, final Configuration configuration, final List<DiscreteGene> treasures) {
         final int amount = treasures.size();
-        final List<List<DiscreteGene>> results = new ArrayList<>();
-        final CompletableFuture<?>[] futures = new CompletableFuture[20];
-        for (int iteration = 0; iteration < 20; iteration++) {
-            final int runIndex = iteration;
-            final Configuration clone = configuration.clone();
-            clone.setTreasures(treasures);
-            Collections.shuffle(clone.getDistances());
-            final Evolution evolution = Evolution.builder().configuration(clone).build();
-
-            final CompletableFuture<Void> future = CompletableFuture
-                    .runAsync(evolution)
-                    .thenRun(() -> {
-                        System.out.printf("Run %d:%d finished\n", evolution.getConfiguration().getTreasures().size(), runIndex);
-
-
-                        final List<DiscreteGene> result = bestPhenotype(evolution);
-                        results.add(result);
-
-                        final List<String> distances = result.stream().map(DiscreteGene::getDistance).map(d -> Double.toString(d)).collect(Collectors.toList());
-                        final List<String> positions = result.stream().map(DiscreteGene::getPosition).map(d -> Integer.toString(d)).collect(Collectors.toList());
-
-                        distances.addAll(0, List.of(
-                                Integer.toString(amount),
-                                Integer.toString(runIndex),
-                                "Distances"
-
-                        ));
-                        positions.addAll(0, List.of(
-                                Integer.toString(amount),
-                                Integer.toString(runIndex),
-                                "Positions"
-                        ));
-
-                        synchronized (writer) {
-                            writer.writeNext(distances.toArray(String[]::new));
-                            writer.writeNext(positions.toArray(String[]::new));
-                        }
-                    });
-            futures[iteration] = future;
-        }
-
-        CompletableFuture.allOf(futures).join();
-        return results;
+        final List<EnsembleRunner.Run> runs = EnsembleRunner.builder()
+                .configuration(configuration)
+                .runs(RUNS)
+                .seed(seed + amount)
+                .checkpointDirectory(checkpointDirectory == null ? null : checkpointDirectory.resolve("treasures-" + amount))
+                .customizer((index, clone) -> {
+                    clone.setTreasures(treasures);
+                    final List<Double> distances = new ArrayList<>(clone.getDistances());
+                    Collections.shuffle(distances, RandomRegistry.random());
+                    clone.setDistances(distances);
+                })
+                .runConsumer(run -> {
+                    System.out.printf("Run %d:%d finished in %d ms\n", amount, run.getIndex(), run.getDuration().toMillis());
+
+                    final List<DiscreteGene> result = bestPhenotype(run.getEvolution());
+
+                    final List<String> distances = result.stream().map(DiscreteGene::getDistance).map(d -> Double.toString(d)).collect(Collectors.toList());
+                    final List<String> positions = result.stream().map(DiscreteGene::getPosition).map(d -> Integer.toString(d)).collect(Collectors.toList());
+
+                    distances.addAll(0, List.of(
+                            Integer.toString(amount),
+                            Integer.toString(run.getIndex()),
+                            "Distances"
+
+                    ));
+                    positions.addAll(0, List.of(
+                            Integer.toString(amount),
+                            Integer.toString(run.getIndex()),
+                            "Positions"
+                    ));
+
+                    synchronized (writer) {
+                        writer.writeNext(distances.toArray(String[]::new));
+                        writer.writeNext(positions.toArray(String[]::new));
+                    }
+                })
+                .build()
+                .run();
+
+        return ListUtils.map(runs, run -> bestPhenotype(run.getEvolution()));
     }
 
     /**
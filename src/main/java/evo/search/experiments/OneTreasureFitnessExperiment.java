@@ -1,6 +1,7 @@
 package evo.search.experiments;
 
 import com.opencsv.CSVWriter;
+import evo.search.EnsembleRunner;
 import evo.search.Evolution;
 import evo.search.ga.DiscreteGene;
 import evo.search.ga.mutators.DistanceMutator;
@@ -20,10 +21,10 @@ import org.jetbrains.annotations.NotNull;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
@@ -34,6 +35,11 @@ import java.util.stream.IntStream;
 @Slf4j
 public class OneTreasureFitnessExperiment extends Experiment {
 
+    /**
+     * Amount of evolutions.
+     */
+    private static final int RUNS = 100;
+
     /**
      * Main test.
      *
@@ -51,7 +57,8 @@ public class OneTreasureFitnessExperiment extends Experiment {
             final DiscreteGene treasure = RandomUtils.generatePoint(positions, 5, 10);
             final List<Double> distances = getDistances(treasure, 14);
 
-            final List<Chromosome<DiscreteGene>> chromosomes = runSingularEvolutions(positions, treasure, distances);
+            final long seed = parseSeed(args);
+            final List<Chromosome<DiscreteGene>> chromosomes = runSingularEvolutions(positions, treasure, distances, seed > -1 ? seed : System.nanoTime(), parseCheckpointDirectory(args));
 
             try (final CSVWriter csvWriter = createCSVWriter(outputStream)) {
                 final List<List<String>> collected = ListUtils.map(
@@ -107,46 +114,46 @@ public class OneTreasureFitnessExperiment extends Experiment {
     /**
      * Run evolutions with shuffled distances and one treasure.
      *
-     * @param positions amount of rays
-     * @param treasure  single treasure point
-     * @param distances distances used
+     * @param positions   amount of rays
+     * @param treasure    single treasure point
+     * @param distances   distances used
+     * @param seed        master seed of the evolutions
+     * @param checkpoints directory for the checkpoints of the runs, null to disable checkpoints
      * @return list of evolution results
      */
     @NotNull
-    private List<Chromosome<DiscreteGene>> runSingularEvolutions(final int positions, final DiscreteGene treasure, final List<Double> distances) {
+    private List<Chromosome<DiscreteGene>> runSingularEvolutions(final int positions, final DiscreteGene treasure, final List<Double> distances, final long seed, final Path checkpoints) {
         final AtomicInteger progress = new AtomicInteger();
         final int limit = 1000;
-        final List<Chromosome<DiscreteGene>> chromosomes = new ArrayList<>();
-        final CompletableFuture<?>[] futures = new CompletableFuture[100];
-        for (int iteration = 0; iteration < futures.length; iteration++) {
-            Collections.shuffle(distances);
-            futures[iteration] = CompletableFuture
-                    .supplyAsync(() -> Configuration.builder()
-                            .positions(positions)
-                            .limit(limit)
-                            .distances(ListUtils.deepClone(distances, Double::doubleValue))
-                            .alterers(List.of(
-                                    new SwapGeneMutator(0.02),
-                                    new SwapPositionsMutator(0.02),
-                                    new DistanceMutator(0.02),
-                                    new PositionMutator(0.02)
-                            ))
-                            .fitness(Evolution.Fitness.SINGULAR)
-                            .treasures(List.of(treasure))
-                            .build()
-                    )
-                    .thenApply(configuration -> Evolution.builder()
-                            .configuration(configuration)
-                            .progressConsumer(p -> printProgress(progress.incrementAndGet(), limit * 100))
-                            .build())
-                    .thenAccept(evolution -> {
-                        evolution.run();
-                        chromosomes.add(evolution.getHistory().get(evolution.getHistory().size() - 1).bestPhenotype().genotype().chromosome());
-                    });
-            System.out.println("Thread " + iteration + " started");
-        }
-        CompletableFuture.allOf(futures).join();
-        return chromosomes;
+        final Configuration configuration = Configuration.builder()
+                .positions(positions)
+                .limit(limit)
+                .distances(distances)
+                .alterers(List.of(
+                        new SwapGeneMutator(0.02),
+                        new SwapPositionsMutator(0.02),
+                        new DistanceMutator(0.02),
+                        new PositionMutator(0.02)
+                ))
+                .fitness(Evolution.Fitness.SINGULAR)
+                .treasures(List.of(treasure))
+                .build();
+
+        final List<EnsembleRunner.Run> runs = EnsembleRunner.builder()
+                .configuration(configuration)
+                .runs(RUNS)
+                .seed(seed)
+                .checkpointDirectory(checkpoints)
+                .customizer((index, clone) -> {
+                    final List<Double> shuffled = new ArrayList<>(distances);
+                    Collections.shuffle(shuffled, RandomRegistry.random());
+                    clone.setDistances(shuffled);
+                })
+                .progressConsumer(p -> printProgress(progress.incrementAndGet(), limit * RUNS))
+                .build()
+                .run();
+
+        return ListUtils.map(runs, run -> run.getEvolution().getBestPhenotype().genotype().chromosome());
     }
 
 }
@@ -0,0 +1,277 @@
+package evo.search.experiments;
+
+import com.opencsv.CSVWriter;
+import evo.search.ga.AnalysisUtils;
+import evo.search.ga.DiscreteGene;
+import evo.search.ga.PackedChromosome;
+import evo.search.io.service.FileService;
+import evo.search.util.ListUtils;
+import evo.search.util.MathUtils;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.Collectors;
+
+/**
+ * Benchmark of the worst case kernels of the {@link AnalysisUtils} against the frozen
+ * list based kernels they replaced, which allocate per call and take every cosine from {@link Math#cos(double)}.
+ * <p>
+ * Writes the mean time per call of the baseline, of the current kernel on gene lists, which packs the genes per call,
+ * and of the current kernel on already {@link PackedChromosome}s, as the evolution calls it,
+ * together with the largest relative deviation of the current kernel from the baseline.
+ */
+@Slf4j
+public class WorstCaseKernelExperiment extends Experiment {
+
+    /**
+     * Amount of random chromosomes evaluated per round.
+     */
+    private static final int CHROMOSOMES = 500;
+
+    /**
+     * Amount of genes per chromosome.
+     */
+    private static final int GENES = 100;
+
+    /**
+     * Amount of untimed warm up rounds.
+     */
+    private static final int WARM_UP = 20;
+
+    /**
+     * Amount of timed rounds.
+     */
+    private static final int ROUNDS = 50;
+
+    /**
+     * Distance between two genes as computed before the cosine table,
+     * taking the cosine of the angle between the rays from {@link Math#cos(double)}.
+     *
+     * @param a first gene
+     * @param b second gene
+     * @return euclidean distance between the genes
+     */
+    private static double baselineDistance(final DiscreteGene a, final DiscreteGene b) {
+        final double angle = MathUtils.sectorAngle(a.getPositions()) * (a.getPosition() - b.getPosition());
+        final double subtract = 2d * a.getDistance() * b.getDistance() * Math.cos(angle);
+        return Math.sqrt((double) a.getDistance() * a.getDistance() + (double) b.getDistance() * b.getDistance() - subtract);
+    }
+
+    /**
+     * Frozen list based worst case, allocating its maximum distances per call.
+     *
+     * @param points      points forming a path
+     * @param minDistance minimum distance a worst case is placed away from the origin
+     * @return worst case scenario fitness
+     */
+    public static double baselineWorstCase(final List<DiscreteGene> points, final float minDistance) {
+        if (points.isEmpty())
+            return Double.POSITIVE_INFINITY;
+
+        final short positions = points.get(0).getPositions();
+        final float[] maxDistances = new float[positions];
+        Arrays.fill(maxDistances, minDistance);
+
+        double path = points.get(0).getDistance();
+        double factor = 0;
+        for (int i = 0; i < points.size(); i++) {
+            final DiscreteGene point = points.get(i);
+            if (i > 0)
+                path += baselineDistance(point, points.get(i - 1));
+            final float optimalPath = maxDistances[point.getPosition()];
+            maxDistances[point.getPosition()] = Math.max(optimalPath, point.getDistance());
+            factor = Math.max(factor, path / optimalPath);
+        }
+
+        float max = 0;
+        for (final float distance : maxDistances)
+            if (distance > max) max = distance;
+
+        final DiscreteGene last = points.get(points.size() - 1);
+        final double sectorDistance = Math.sqrt(2d * max * max - 2d * max * max * Math.cos(MathUtils.sectorAngle(positions)));
+        path += Math.abs(max - last.getDistance());
+
+        for (int position = 0; position < positions; position++) {
+            final int delta = Math.abs(position - last.getPosition());
+            final int maxDelta = delta == 0 ? 0 : Math.max(positions - delta, delta);
+            factor = Math.max(factor, (path + maxDelta * sectorDistance) / maxDistances[position]);
+        }
+        return factor;
+    }
+
+    /**
+     * Frozen list based mean worst case, allocating its maximum distances per call.
+     *
+     * @param points  points of the strategy
+     * @param epsilon distance the worst case is missed by
+     * @return mean worst case fitness
+     */
+    public static double baselineWorstCaseMean(final List<DiscreteGene> points, final float epsilon) {
+        if (points.isEmpty())
+            return Double.POSITIVE_INFINITY;
+
+        final float[] maxDistances = new float[points.get(0).getPositions()];
+        Arrays.fill(maxDistances, epsilon);
+
+        double path = points.get(0).getDistance();
+        double factor = 0;
+        double sum = 0;
+        for (int i = 0; i < points.size(); i++) {
+            final DiscreteGene point = points.get(i);
+            if (i > 0)
+                path += baselineDistance(point, points.get(i - 1));
+            final float optimalPath = maxDistances[point.getPosition()];
+            maxDistances[point.getPosition()] = Math.max(optimalPath, point.getDistance());
+            sum += path / optimalPath;
+            if (optimalPath < point.getDistance())
+                factor = Math.max(factor, sum / (i + 1));
+        }
+        return factor * ListUtils.getMinMaxRatio(maxDistances);
+    }
+
+    /**
+     * Frozen list based worst case of the spiral strategy, cloning and sorting the genes per call.
+     *
+     * @param chromosome individual to analyze
+     * @return optimal worst case factor
+     */
+    public static double baselineWorstCaseSpiralStrategy(final List<DiscreteGene> chromosome) {
+        if (chromosome.isEmpty())
+            return Double.POSITIVE_INFINITY;
+
+        final List<DiscreteGene> spiral = ListUtils.map(chromosome, DiscreteGene::clone);
+        spiral.sort(Comparator.comparing(DiscreteGene::getDistance));
+        final short positions = spiral.get(0).getPositions();
+        for (int i = 0; i < spiral.size(); i++)
+            spiral.get(i).setPosition((short) (i % positions));
+        return baselineWorstCase(spiral, 1f);
+    }
+
+    /**
+     * Create random chromosomes with two to nine rays.
+     *
+     * @param random random to draw the genes with
+     * @return random chromosomes
+     */
+    private static List<List<DiscreteGene>> chromosomes(final Random random) {
+        final List<List<DiscreteGene>> chromosomes = new ArrayList<>();
+        for (int run = 0; run < CHROMOSOMES; run++) {
+            final int positions = 2 + random.nextInt(8);
+            final List<DiscreteGene> genes = new ArrayList<>();
+            for (int i = 0; i < GENES; i++)
+                genes.add(new DiscreteGene(positions, random.nextInt(positions), 1 + random.nextDouble() * 40));
+            chromosomes.add(genes);
+        }
+        return chromosomes;
+    }
+
+    /**
+     * Measure the mean time of a kernel per chromosome.
+     *
+     * @param chromosomes chromosomes to evaluate
+     * @param kernel      kernel to measure
+     * @param <T>         type of the chromosomes
+     * @return mean nanoseconds per call
+     */
+    private static <T> double time(final List<T> chromosomes, final ToDoubleFunction<T> kernel) {
+        double sink = 0;
+        for (int round = 0; round < WARM_UP; round++)
+            for (final T chromosome : chromosomes)
+                sink += kernel.applyAsDouble(chromosome);
+
+        final long start = System.nanoTime();
+        for (int round = 0; round < ROUNDS; round++)
+            for (final T chromosome : chromosomes)
+                sink += kernel.applyAsDouble(chromosome);
+        final long nanos = System.nanoTime() - start;
+
+        if (Double.isNaN(sink))
+            log.warn("A kernel returned NaN.");
+        return (double) nanos / ROUNDS / chromosomes.size();
+    }
+
+    /**
+     * Compute the largest relative deviation of a kernel from its baseline.
+     *
+     * @param chromosomes chromosomes to evaluate
+     * @param baseline    frozen baseline kernel
+     * @param kernel      current kernel
+     * @return largest relative deviation
+     */
+    private static double deviation(final List<List<DiscreteGene>> chromosomes, final ToDoubleFunction<List<DiscreteGene>> baseline, final ToDoubleFunction<List<DiscreteGene>> kernel) {
+        double max = 0;
+        for (final List<DiscreteGene> chromosome : chromosomes) {
+            final double expected = baseline.applyAsDouble(chromosome);
+            max = Math.max(max, Math.abs(kernel.applyAsDouble(chromosome) - expected) / expected);
+        }
+        return max;
+    }
+
+    /**
+     * Benchmark the kernels on random chromosomes.
+     *
+     * @param args cli args (csv file name and seed)
+     */
+    @Override
+    public void accept(final String[] args) {
+        log.info("Beginning with experiment: Worst Case Kernels");
+
+        final String filename = parseFileName(args);
+        final long seed = parseSeed(args);
+        final List<List<DiscreteGene>> chromosomes = chromosomes(new Random(seed > -1 ? seed : System.nanoTime()));
+        final List<PackedChromosome> packed = chromosomes.stream().map(PackedChromosome::of).collect(Collectors.toList());
+
+        final List<String[]> lines = new ArrayList<>();
+        lines.add(new String[]{"kernel", "baselineNanos", "listNanos", "packedNanos", "maxRelativeDeviation"});
+        lines.add(line("worstCase", chromosomes, packed,
+                genes -> baselineWorstCase(genes, 1f),
+                genes -> AnalysisUtils.worstCase(genes, 1f),
+                genes -> AnalysisUtils.worstCase(genes, 1f)
+        ));
+        lines.add(line("worstCaseMean", chromosomes, packed,
+                genes -> baselineWorstCaseMean(genes, 1f),
+                genes -> AnalysisUtils.worstCaseMean(genes, 1f),
+                genes -> AnalysisUtils.worstCaseMean(genes, 1f)
+        ));
+        lines.add(line("worstCaseSpiralStrategy", chromosomes, packed,
+                WorstCaseKernelExperiment::baselineWorstCaseSpiralStrategy,
+                AnalysisUtils::worstCaseSpiralStrategy,
+                AnalysisUtils::worstCaseSpiralStrategy
+        ));
+
+        try (final OutputStream outputStream = Files.newOutputStream(FileService.uniquePath(filename, ".csv"));
+             final CSVWriter csvWriter = createCSVWriter(outputStream)) {
+            csvWriter.writeAll(lines);
+        } catch (final IOException e) {
+            log.error("Could not write the csv file.", e);
+        }
+    }
+
+    /**
+     * Benchmark one kernel and log its result.
+     *
+     * @param name        name of the kernel
+     * @param chromosomes chromosomes to evaluate
+     * @param packed      packed copies of the chromosomes
+     * @param baseline    frozen baseline kernel
+     * @param list        current kernel on gene lists
+     * @param kernel      current kernel on packed chromosomes
+     * @return csv line of the kernel
+     */
+    private static String[] line(final String name, final List<List<DiscreteGene>> chromosomes, final List<PackedChromosome> packed, final ToDoubleFunction<List<DiscreteGene>> baseline, final ToDoubleFunction<List<DiscreteGene>> list, final ToDoubleFunction<PackedChromosome> kernel) {
+        final double deviation = deviation(chromosomes, baseline, list);
+        final double baselineNanos = time(chromosomes, baseline);
+        final double listNanos = time(chromosomes, list);
+        final double packedNanos = time(packed, kernel);
+        log.info("{}: baseline {} ns, list {} ns, packed {} ns, max relative deviation {}", name, baselineNanos, listNanos, packedNanos, deviation);
+        return new String[]{name, Double.toString(baselineNanos), Double.toString(listNanos), Double.toString(packedNanos), Double.toString(deviation)};
+    }
+}
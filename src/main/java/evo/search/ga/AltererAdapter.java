@@ -0,0 +1,61 @@
+package evo.search.ga;
+
+import io.jenetics.Alterer;
+import io.jenetics.AltererResult;
+import io.jenetics.Phenotype;
+import io.jenetics.util.ISeq;
+import io.jenetics.util.MSeq;
+import io.jenetics.util.Seq;
+
+/**
+ * Applies an alterer of single objective phenotypes to phenotypes of another fitness type.
+ * <p>
+ * The {@link evo.search.ga.mutators.DiscreteAlterer}s only alter the genotypes, so they are
+ * independent of the fitness type. The adapter hands unevaluated copies of the population to
+ * the wrapped alterer and keeps the evaluated phenotypes, whose genotypes were not altered.
+ *
+ * @param <C> fitness type of the altered population
+ * @author jotoh
+ */
+public class AltererAdapter<C extends Comparable<? super C>> implements Alterer<DiscreteGene, C> {
+
+    /**
+     * Wrapped single objective alterer.
+     */
+    private final Alterer<DiscreteGene, Double> alterer;
+
+    /**
+     * Construct an adapter.
+     *
+     * @param alterer single objective alterer to apply
+     */
+    public AltererAdapter(final Alterer<DiscreteGene, Double> alterer) {
+        this.alterer = alterer;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public AltererResult<DiscreteGene, C> alter(final Seq<Phenotype<DiscreteGene, C>> population, final long generation) {
+        final MSeq<Phenotype<DiscreteGene, Double>> unevaluated = MSeq.ofLength(population.size());
+        for (int i = 0; i < population.size(); i++) {
+            final Phenotype<DiscreteGene, C> phenotype = population.get(i);
+            unevaluated.set(i, Phenotype.of(phenotype.genotype(), phenotype.generation()));
+        }
+
+        final AltererResult<DiscreteGene, Double> result = alterer.alter(unevaluated.toISeq(), generation);
+        final ISeq<Phenotype<DiscreteGene, Double>> altered = result.population();
+
+        final MSeq<Phenotype<DiscreteGene, C>> adapted = MSeq.ofLength(altered.size());
+        for (int i = 0; i < altered.size(); i++) {
+            final Phenotype<DiscreteGene, Double> phenotype = altered.get(i);
+            adapted.set(i, i < population.size() && phenotype.genotype() == population.get(i).genotype()
+                    ? population.get(i)
+                    : Phenotype.of(phenotype.genotype(), phenotype.generation())
+            );
+        }
+
+        return AltererResult.of(adapted.toISeq(), result.alterations());
+    }
+}
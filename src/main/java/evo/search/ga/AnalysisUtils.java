@@ -2,6 +2,7 @@ package evo.search.ga;
 
 import evo.search.util.ListUtils;
 import evo.search.util.MathUtils;
+import evo.search.util.TrigTable;
 
 import java.util.*;
 
@@ -22,33 +23,45 @@ public class AnalysisUtils {
      * @return Spiral likeness between 0.0 and infinity 0.0 means spiral
      */
     public static double spiralLikeness(final List<DiscreteGene> chromosome) {
+        return spiralLikeness(PackedChromosome.of(chromosome));
+    }
 
-        if (chromosome.size() == 0) return 0;
+    /**
+     * Measures the spiral-likeness of a packed chromosome.
+     *
+     * @param chromosome the individual measured
+     * @return Spiral likeness between 0.0 and infinity 0.0 means spiral
+     * @see #spiralLikeness(List)
+     */
+    public static double spiralLikeness(final PackedChromosome chromosome) {
+        final int size = chromosome.size();
+        if (size == 0) return 0;
 
-        final short positions = chromosome.get(0).getPositions();
+        final short positions = chromosome.positions();
 
-        final List<Float> distances = ListUtils.map(chromosome, DiscreteGene::getDistance);
-        distances.sort(Float::compareTo);
+        final float[] distances = chromosome.distanceArray().clone();
+        Arrays.sort(distances);
 
         double spiralCounterDistance = 0;
         double spiralClockDistance = 0;
 
-        for (int index = 0; index < chromosome.size(); index++) {
-            final DiscreteGene actualPoint = chromosome.get(index);
+        for (int index = 0; index < size; index++) {
+            final short position = chromosome.position(index);
+            final float distance = chromosome.distance(index);
 
             spiralCounterDistance += MathUtils.polarDistance(
                     positions,
-                    actualPoint.getPosition(),
-                    actualPoint.getDistance(),
+                    position,
+                    distance,
                     (short) (index % positions),
-                    distances.get(index)
+                    distances[index]
             );
             spiralClockDistance += MathUtils.polarDistance(
                     positions,
-                    actualPoint.getPosition(),
-                    actualPoint.getDistance(),
+                    position,
+                    distance,
                     (short) Math.floorMod(-index, positions),
-                    distances.get(index)
+                    distances[index]
             );
         }
 
@@ -65,37 +78,52 @@ public class AnalysisUtils {
      * @return rotation independent spiral likeness
      */
     public static double spiralLikenessInvariant(final List<DiscreteGene> chromosome) {
+        return spiralLikenessInvariant(PackedChromosome.of(chromosome));
+    }
 
-        if (chromosome.size() < 2)
+    /**
+     * Measure for the spiral-likeness of the chromosome with rotation invariance.
+     * Analyses the likeness pairwise: The gene following a gene should sit on the neighbouring
+     * ray with the next greater distance of the chromosome.
+     * <p>
+     * Equal distances are ranked in the order of their genes, so each of them has its own successor.
+     *
+     * @param chromosome chromosome to measure
+     * @return rotation independent spiral likeness
+     */
+    public static double spiralLikenessInvariant(final PackedChromosome chromosome) {
+        final int size = chromosome.size();
+        if (size < 2)
             return 1;
 
-        final List<Float> distances = ListUtils.map(chromosome, DiscreteGene::getDistance);
-        distances.sort(Float::compareTo);
+        final float[] sorted = new float[size];
+        final int[] ranks = ranks(chromosome.distanceArray(), size, sorted);
 
-        final short positions = chromosome.get(0).getPositions();
+        final short positions = chromosome.positions();
 
         double sumCounter = 0;
         double sumClock = 0;
-        for (int i = 0; i < chromosome.size() - 1; i++) {
-            final DiscreteGene current = chromosome.get(i);
-            final int index = distances.indexOf(current.getDistance());
-            if (index < 0 || index > distances.size() - 2)
+        for (int i = 0; i < size - 1; i++) {
+            final int rank = ranks[i];
+            if (rank > size - 2)
                 continue;
-            final Float idealDistance = distances.get(index + 1);
-            final DiscreteGene actualGene = chromosome.get(i + 1);
+            final float idealDistance = sorted[rank + 1];
+            final short currentPosition = chromosome.position(i);
+            final short actualPosition = chromosome.position(i + 1);
+            final float actualDistance = chromosome.distance(i + 1);
 
             sumCounter += MathUtils.polarDistance(
                     positions,
-                    actualGene.getPosition(),
-                    actualGene.getDistance(),
-                    (short) ((current.getPosition() + 1) % positions),
+                    actualPosition,
+                    actualDistance,
+                    (short) ((currentPosition + 1) % positions),
                     idealDistance
             );
             sumClock += MathUtils.polarDistance(
                     positions,
-                    actualGene.getPosition(),
-                    actualGene.getDistance(),
-                    (short) Math.floorMod(current.getPosition() - 1, positions),
+                    actualPosition,
+                    actualDistance,
+                    (short) Math.floorMod(currentPosition - 1, positions),
                     idealDistance
             );
 
@@ -107,6 +135,34 @@ public class AnalysisUtils {
         return Math.min(sumClock, sumCounter);
     }
 
+    /**
+     * Rank the distances in ascending order.
+     * Every distance is packed with its index into one {@code long} key, so a single
+     * primitive sort yields the ranks. Equal distances are ranked by their index.
+     *
+     * @param distances distances to rank
+     * @param size      amount of distances
+     * @param sorted    array receiving the distances in ascending order
+     * @return rank of each distance
+     */
+    static int[] ranks(final float[] distances, final int size, final float[] sorted) {
+        final long[] keys = new long[size];
+        for (int i = 0; i < size; i++) {
+            final int bits = Float.floatToIntBits(distances[i]);
+            final int sortableBits = bits ^ ((bits >> 31) & 0x7fffffff);
+            keys[i] = ((long) sortableBits << 32) | i;
+        }
+        Arrays.sort(keys);
+
+        final int[] ranks = new int[size];
+        for (int rank = 0; rank < size; rank++) {
+            final int index = (int) keys[rank];
+            ranks[index] = rank;
+            sorted[rank] = distances[index];
+        }
+        return ranks;
+    }
+
     /**
      * Calculate the optimal worst case factor for the strategy.
      * This fitness is the worst case factor of the strategy's spiral counterpart.
@@ -115,17 +171,31 @@ public class AnalysisUtils {
      * @return optimal worst case factor
      */
     public static double worstCaseSpiralStrategy(final List<DiscreteGene> chromosome) {
-        if (chromosome.size() < 1)
-            return Double.POSITIVE_INFINITY;
+        return worstCaseSpiralStrategy(PackedChromosome.of(chromosome));
+    }
 
-        final List<DiscreteGene> distances = ListUtils.map(chromosome, DiscreteGene::clone);
-        distances.sort(Comparator.comparing(DiscreteGene::getDistance));
+    /**
+     * Calculate the optimal worst case factor for the strategy.
+     * This fitness is the worst case factor of the strategy's spiral counterpart.
+     *
+     * @param chromosome individual to analyze
+     * @return optimal worst case factor
+     */
+    public static double worstCaseSpiralStrategy(final PackedChromosome chromosome) {
+        final int size = chromosome.size();
+        if (size < 1)
+            return Double.POSITIVE_INFINITY;
 
-        final short positions = distances.get(0).getPositions();
-        for (int i = 0; i < distances.size(); i++)
-            distances.get(i).setPosition((short) (i % positions));
+        final short positions = chromosome.positions();
+        final Scratch scratch = SCRATCH.get();
+        final short[] position = scratch.spiralPositions(size);
+        final float[] distance = scratch.spiralDistances(size);
+        System.arraycopy(chromosome.distanceArray(), 0, distance, 0, size);
+        Arrays.sort(distance, 0, size);
+        for (int i = 0; i < size; i++)
+            position[i] = (short) (i % positions);
 
-        return worstCase(distances, 1f);
+        return worstCase(positions, position, distance, size, 1f, scratch);
     }
 
     /**
@@ -137,13 +207,29 @@ public class AnalysisUtils {
      * @return trace length necessary for the individual to find the treasure
      */
     public static double traceLength(final List<DiscreteGene> chromosome, final DiscreteGene treasure) {
-        double trace = 0d;
+        return traceLength(PackedChromosome.of(chromosome), treasure);
+    }
+
+    /**
+     * Computes the trace length necessary for the packed chromosome
+     * to find the given treasure {@link DiscreteGene}.
+     * The trace starts in the origin.
+     *
+     * @param chromosome chromosome to evaluate the trace length on
+     * @param treasure   treasure point to be found
+     * @return trace length necessary for the individual to find the treasure
+     */
+    public static double traceLength(final PackedChromosome chromosome, final DiscreteGene treasure) {
+        final short treasurePosition = treasure.getPosition();
+        final float treasureDistance = treasure.getDistance();
 
-        DiscreteGene previous = new DiscreteGene(1, 0, 0d);
-        for (final DiscreteGene gene : chromosome) {
-            if (finds(previous, treasure)) break;
-            trace += previous.distance(gene);
-            previous = gene;
+        if (treasurePosition == 0 && treasureDistance <= 0)
+            return 0d;
+
+        double trace = 0d;
+        for (int i = 0; i < chromosome.size(); i++) {
+            trace += i == 0 ? chromosome.distance(0) : chromosome.distance(i - 1, i);
+            if (chromosome.finds(i, treasurePosition, treasureDistance)) break;
         }
 
         return trace;
@@ -156,8 +242,17 @@ public class AnalysisUtils {
      * @return trace length of the path of points
      */
     public static double traceLength(final List<DiscreteGene> points) {
-        final List<Double> distances = ListUtils.consecMap(points, DiscreteGene::distance);
-        return ListUtils.sum(distances);
+        return traceLength(PackedChromosome.of(points));
+    }
+
+    /**
+     * Calculates the trace length of a path consisting of the packed points.
+     *
+     * @param points points forming a trace
+     * @return trace length of the path of points
+     */
+    public static double traceLength(final PackedChromosome points) {
+        return FitnessKernel.INSTANCE.pathLength(points.positions(), points.positionArray(), points.distanceArray(), points.size());
     }
 
     /**
@@ -217,16 +312,18 @@ public class AnalysisUtils {
         if (((double) difference) == positions / 2d || difference == 0)
             return Collections.emptyList();
 
-        final double anglePart = MathUtils.sectorAngle(positions);
+        final TrigTable table = TrigTable.of(positions);
 
         final double distanceToPointA = a.getDistance();
-        final double angleAtPointA = Math.asin(Math.sin(anglePart * shortestPath) * b.getDistance() / a.distance(b));
+        final double sinAtPointA = table.sin(shortestPath) * b.getDistance() / a.distance(b);
+        final double cosAtPointA = Math.sqrt(1 - sinAtPointA * sinAtPointA);
 
         final int increase = (a.getPosition() + shortestPath) % positions == b.getPosition() ? 1 : -1;
 
         final List<DiscreteGene> fill = new ArrayList<>();
         for (int i = 1; i < shortestPath; i++) {
-            final double y = distanceToPointA * Math.sin(angleAtPointA) / Math.sin(angleAtPointA + (anglePart * i));
+            final double sinAtRay = sinAtPointA * table.cos(i) + cosAtPointA * table.sin(i);
+            final double y = distanceToPointA * sinAtPointA / sinAtRay;
             fill.add(new DiscreteGene(positions, (a.getPosition() + positions + increase * i) % positions, y));
         }
 
@@ -246,7 +343,7 @@ public class AnalysisUtils {
      * @return triangle area in a sector given two point distances
      */
     public static double areaInSector(final double distanceA, final double distanceB, final int rayCount) {
-        return MathUtils.areaInTriangle(MathUtils.sectorAngle(rayCount), distanceA, distanceB);
+        return MathUtils.areaInTriangleBySine(TrigTable.of(rayCount).sin(1), distanceA, distanceB);
     }
 
     /**
@@ -261,52 +358,124 @@ public class AnalysisUtils {
      * @return maximised area covered by the points
      */
     public static double areaCovered(final List<DiscreteGene> points) {
+        return areaCovered(PackedChromosome.of(points));
+    }
+
+    /**
+     * Calculates the maximised area covered by the packed points.
+     *
+     * @param points packed points distributed on consecutive rays
+     * @return maximised area covered by the points
+     * @see #areaCovered(List)
+     */
+    public static double areaCovered(final PackedChromosome points) {
         if (points.size() < 2)
             return 0;
 
-        final short positions = points.get(0).getPositions();
-        final double sectorAngle = MathUtils.sectorAngle(positions);
+        final short positions = points.positions();
+        final double sectorSine = TrigTable.of(positions).sin(1);
 
         final double[] maxDistance = new double[positions];
 
-        for (final DiscreteGene gene : points)
-            maxDistance[gene.getPosition()] = Math.max(gene.getDistance(), maxDistance[gene.getPosition()]);
-
-        double area = MathUtils.areaInTriangle(sectorAngle, maxDistance[0], maxDistance[maxDistance.length - 1]);
-
-        for (int i = 0; i < positions - 1; i++)
-            area += MathUtils.areaInTriangle(sectorAngle, maxDistance[i], maxDistance[i + 1]);
+        for (int i = 0; i < points.size(); i++) {
+            final short position = points.position(i);
+            maxDistance[position] = Math.max(points.distance(i), maxDistance[position]);
+        }
 
-        return area;
+        return FitnessKernel.INSTANCE.sectorArea(sectorSine, maxDistance, positions);
     }
 
     /**
      * Computes the sum of newly covered area per step of the chromosome.
+     * <p>
+     * Walks the consecutive genes and emits the intersections {@link #inBetween(DiscreteGene, DiscreteGene)}
+     * would insert through {@link #fill(List)} on the fly, so no intermediate genes or lists are created.
+     * The result equals the area of the filled chromosome.
      *
      * @param points path of the chromosome
      * @return sum of the newly covered area per step
      */
-    public static double newAreaCovered(final List<DiscreteGene> points) {
-        if (points.size() < 2)
+    public static double newAreaCovered(final PackedChromosome points) {
+        final int size = points.size();
+        if (size < 2)
             return 0;
 
-        final List<DiscreteGene> filledIn = fill(points);
+        final short positions = points.positions();
+        final TrigTable table = TrigTable.of(positions);
+        final double sectorSine = table.sin(1);
+        final double[] areasCovered = SCRATCH.get().areasCovered(positions);
+        Arrays.fill(areasCovered, 0, positions, 0d);
 
-        final int positions = points.get(0).getPositions();
-        final double[] areasCovered = new double[positions];
+        double sum = 0;
+        short previousPosition = points.position(0);
+        float previousDistance = points.distance(0);
+
+        for (int i = 1; i < size; i++) {
+            final short positionA = points.position(i - 1);
+            final float distanceA = points.distance(i - 1);
+            final short positionB = points.position(i);
+            final float distanceB = points.distance(i);
+
+            final int difference = Math.abs(positionA - positionB);
+            if (difference > 1 && ((double) difference) != positions / 2d) {
+                final int shortestPath = Math.min(positions - difference, difference);
+                final double sinAtPointA = table.sin(shortestPath) * distanceB / points.distance(i - 1, i);
+                final double cosAtPointA = Math.sqrt(1 - sinAtPointA * sinAtPointA);
+                final int increase = (positionA + shortestPath) % positions == positionB ? 1 : -1;
+
+                for (int step = 1; step < shortestPath; step++) {
+                    final double sinAtRay = sinAtPointA * table.cos(step) + cosAtPointA * table.sin(step);
+                    final short position = (short) ((positionA + positions + increase * step) % positions);
+                    final float distance = (float) (distanceA * sinAtPointA / sinAtRay);
+
+                    sum += newAreaInSector(areasCovered, sectorSine, previousPosition, previousDistance, position, distance);
+                    previousPosition = position;
+                    previousDistance = distance;
+                }
+            }
+
+            sum += newAreaInSector(areasCovered, sectorSine, previousPosition, previousDistance, positionB, distanceB);
+            previousPosition = positionB;
+            previousDistance = distanceB;
+        }
 
-        return ListUtils.consecSum(filledIn, (pointA, pointB) -> {
-            int index = Math.min(pointA.getPosition(), pointB.getPosition());
-            final int delta = Math.abs(pointA.getPosition() - pointB.getPosition());
-            if (index == 0 && delta > 1)
-                index = delta;
+        return sum;
+    }
 
-            final double areaCoveredInSector = areaInSector(pointA.getDistance(), pointB.getDistance(), positions);
-            final double newAreaCovered = areaCoveredInSector - areasCovered[index];
-            areasCovered[index] = Math.max(areasCovered[index], areaCoveredInSector);
+    /**
+     * Computes the sum of newly covered area per step of the chromosome.
+     *
+     * @param points path of the chromosome
+     * @return sum of the newly covered area per step
+     * @see #newAreaCovered(PackedChromosome)
+     */
+    public static double newAreaCovered(final List<DiscreteGene> points) {
+        return newAreaCovered(PackedChromosome.of(points));
+    }
 
-            return Math.max(newAreaCovered, 0d);
-        });
+    /**
+     * Compute the area newly covered by the step between two points and
+     * remember the covered area of the step's sector.
+     *
+     * @param areasCovered maximum area covered per sector so far
+     * @param sectorSine   sine of the sector angle
+     * @param positionA    ray index of the first point
+     * @param distanceA    distance of the first point
+     * @param positionB    ray index of the second point
+     * @param distanceB    distance of the second point
+     * @return newly covered area, at least zero
+     */
+    private static double newAreaInSector(final double[] areasCovered, final double sectorSine, final short positionA, final float distanceA, final short positionB, final float distanceB) {
+        int index = Math.min(positionA, positionB);
+        final int delta = Math.abs(positionA - positionB);
+        if (index == 0 && delta > 1)
+            index = delta;
+
+        final double areaCoveredInSector = MathUtils.areaInTriangleBySine(sectorSine, distanceA, distanceB);
+        final double newAreaCovered = areaCoveredInSector - areasCovered[index];
+        areasCovered[index] = Math.max(areasCovered[index], areaCoveredInSector);
+
+        return Math.max(newAreaCovered, 0d);
     }
 
     /**
@@ -317,31 +486,64 @@ public class AnalysisUtils {
      * @return worst case scenario fitness
      */
     public static double worstCase(final List<DiscreteGene> points, final float minDistance) {
-        final int size = points.size();
+        return worstCase(PackedChromosome.of(points), minDistance);
+    }
 
+    /**
+     * Calculates the worst case trace length of a packed trace barely missing a treasure.
+     *
+     * @param points      packed points forming a path
+     * @param minDistance minimum distance a worst case is placed away from the origin
+     * @return worst case scenario fitness
+     */
+    public static double worstCase(final PackedChromosome points, final float minDistance) {
+        return worstCase(points.positions(), points.positionArray(), points.distanceArray(), points.size(), minDistance, SCRATCH.get());
+    }
+
+    /**
+     * Calculates the worst case trace length of a trace given by its raw arrays.
+     * Works on the thread's scratch arrays without allocating.
+     *
+     * @param positions   amount of rays
+     * @param position    ray indices of the points
+     * @param distance    distances of the points
+     * @param size        amount of points
+     * @param minDistance minimum distance a worst case is placed away from the origin
+     * @param scratch     scratch arrays of the current thread
+     * @return worst case scenario fitness
+     */
+    private static double worstCase(final short positions, final short[] position, final float[] distance, final int size, final float minDistance, final Scratch scratch) {
         if (size < 1)
             return Double.POSITIVE_INFINITY;
 
-        double pathToCurrentPoint = points.get(0).getDistance();
-        final short positions = points.get(0).getPositions();
+        final double[] steps = scratch.steps(size);
+        FitnessKernel.INSTANCE.stepDistances(positions, position, distance, 1, size, steps);
+
+        double pathToCurrentPoint = distance[0];
 
         double worstCaseFactor = 0;
 
-        final float[] worstCaseDistances = new float[positions];
-        Arrays.fill(worstCaseDistances, minDistance);
+        final float[] worstCaseDistances = scratch.rayDistances(positions);
+        Arrays.fill(worstCaseDistances, 0, positions, minDistance);
+        float maxDistance = Math.max(0, minDistance);
 
         for (int currentIndex = 0; currentIndex < size; currentIndex++) {
-            final DiscreteGene point = points.get(currentIndex);
+            final short currentPosition = position[currentIndex];
             if (currentIndex > 0)
-                pathToCurrentPoint += point.distance(points.get(currentIndex - 1));
-            final float optimalPath = worstCaseDistances[point.getPosition()];
-            worstCaseDistances[point.getPosition()] = Math.max(optimalPath, point.getDistance());
+                pathToCurrentPoint += steps[currentIndex];
+            final float optimalPath = worstCaseDistances[currentPosition];
+            final float visited = Math.max(optimalPath, distance[currentIndex]);
+            worstCaseDistances[currentPosition] = visited;
+            maxDistance = Math.max(maxDistance, visited);
             worstCaseFactor = Math.max(worstCaseFactor, pathToCurrentPoint / optimalPath);
         }
 
         final double arcWorstCase = arcWorstCase(
                 worstCaseDistances,
-                points.get(points.size() - 1),
+                maxDistance,
+                positions,
+                position[size - 1],
+                distance[size - 1],
                 pathToCurrentPoint
         );
 
@@ -356,37 +558,49 @@ public class AnalysisUtils {
      * @return mean worst case fitness
      */
     public static double worstCaseMean(final List<DiscreteGene> points, final float epsilon) {
+        return worstCaseMean(PackedChromosome.of(points), epsilon);
+    }
+
+    /**
+     * Compute the mean worst case over all packed points in the strategy.
+     *
+     * @param points  packed points of the strategy
+     * @param epsilon distance the worst case is missed by
+     * @return mean worst case fitness
+     */
+    public static double worstCaseMean(final PackedChromosome points, final float epsilon) {
         final int size = points.size();
 
         if (size < 1)
             return Double.POSITIVE_INFINITY;
 
-        double pathToCurrentPoint = points.get(0).getDistance();
-        final short positions = points.get(0).getPositions();
+        double pathToCurrentPoint = points.distance(0);
+        final short positions = points.positions();
 
         double worstCaseFactor = 0;
 
-        final float[] worstCaseDistances = new float[positions];
-        Arrays.fill(worstCaseDistances, epsilon);
+        final float[] worstCaseDistances = SCRATCH.get().rayDistances(positions);
+        Arrays.fill(worstCaseDistances, 0, positions, epsilon);
 
         double worstCaseSum = 0d;
 
         for (int currentIndex = 0; currentIndex < size; currentIndex++) {
-            final DiscreteGene point = points.get(currentIndex);
+            final short position = points.position(currentIndex);
+            final float distance = points.distance(currentIndex);
             if (currentIndex > 0)
-                pathToCurrentPoint += point.distance(points.get(currentIndex - 1));
+                pathToCurrentPoint += points.distance(currentIndex, currentIndex - 1);
 
-            final float optimalPath = worstCaseDistances[point.getPosition()];
+            final float optimalPath = worstCaseDistances[position];
 
-            worstCaseDistances[point.getPosition()] = Math.max(optimalPath, point.getDistance());
+            worstCaseDistances[position] = Math.max(optimalPath, distance);
 
             worstCaseSum += pathToCurrentPoint / optimalPath;
 
-            if (optimalPath < point.getDistance())
+            if (optimalPath < distance)
                 worstCaseFactor = Math.max(worstCaseFactor, worstCaseSum / (currentIndex + 1));
         }
 
-        return worstCaseFactor * ListUtils.getMinMaxRatio(worstCaseDistances);
+        return worstCaseFactor * ListUtils.getMinMaxRatio(worstCaseDistances, positions);
     }
 
     /**
@@ -410,25 +624,32 @@ public class AnalysisUtils {
         return sum;
     }
 
-    private static double arcWorstCase(final float[] maxDistances, final DiscreteGene lastPoint, double pathLength) {
-        float max = 0;
-        for (final float distance : maxDistances)
-            if (distance > max) max = distance;
-
-        final double sectorAngle = MathUtils.sectorAngle(lastPoint.getPositions());
-        final double sectorDistance = MathUtils.lawOfCosine(sectorAngle, max, max);
+    /**
+     * Calculate the worst case of a treasure found after the last point
+     * by spiralling out on an arc over all rays.
+     *
+     * @param maxDistances  maximum distances visited per ray, only the first {@code positions} are read
+     * @param max           maximum of the maximum distances, at least zero
+     * @param positions     amount of rays
+     * @param lastPosition  ray index of the last point
+     * @param lastDistance  distance of the last point
+     * @param pathLength    path length up to the last point
+     * @return worst case factor of the arc
+     */
+    static double arcWorstCase(final float[] maxDistances, final float max, final short positions, final short lastPosition, final float lastDistance, double pathLength) {
+        final double sectorDistance = MathUtils.lawOfCosineByCosine(TrigTable.of(positions).cos(1), max, max);
 
-        pathLength += Math.abs(max - lastPoint.getDistance());
+        pathLength += Math.abs(max - lastDistance);
 
         double maxWorstCase = 0d;
-        for (int position = 0; position < maxDistances.length; position++) {
-            final int delta = Math.abs(position - lastPoint.getPosition());
+        for (int position = 0; position < positions; position++) {
+            final int delta = Math.abs(position - lastPosition);
             final int maxDelta;
 
             if (delta == 0)
                 maxDelta = 0;
             else
-                maxDelta = Math.max(lastPoint.getPositions() - delta, delta);
+                maxDelta = Math.max(positions - delta, delta);
 
             final double worstCase = (pathLength + maxDelta * sectorDistance) / maxDistances[position];
 
@@ -439,4 +660,100 @@ public class AnalysisUtils {
         return maxWorstCase;
     }
 
+    /**
+     * Scratch arrays of the current thread.
+     */
+    private static final ThreadLocal<Scratch> SCRATCH = ThreadLocal.withInitial(Scratch::new);
+
+    /**
+     * Reusable arrays of the worst case and area kernels.
+     * The arrays only grow and are never shrunk.
+     */
+    private static final class Scratch {
+
+        /**
+         * Maximum distance per ray.
+         */
+        private float[] rayDistances = new float[0];
+
+        /**
+         * Maximum area covered per sector.
+         */
+        private double[] areasCovered = new double[0];
+
+        /**
+         * Distances between consecutive genes.
+         */
+        private double[] steps = new double[0];
+
+        /**
+         * Ray indices of the spiral strategy.
+         */
+        private short[] spiralPositions = new short[0];
+
+        /**
+         * Sorted distances of the spiral strategy.
+         */
+        private float[] spiralDistances = new float[0];
+
+        /**
+         * Get an array to hold a maximum distance per ray.
+         *
+         * @param positions amount of rays
+         * @return array of at least the length of the amount of rays
+         */
+        private float[] rayDistances(final int positions) {
+            if (rayDistances.length < positions)
+                rayDistances = new float[positions];
+            return rayDistances;
+        }
+
+        /**
+         * Get an array to hold the maximum area covered per sector.
+         *
+         * @param positions amount of rays
+         * @return array of at least the length of the amount of rays
+         */
+        private double[] areasCovered(final int positions) {
+            if (areasCovered.length < positions)
+                areasCovered = new double[positions];
+            return areasCovered;
+        }
+
+        /**
+         * Get an array to hold the distances between consecutive genes.
+         *
+         * @param size amount of genes
+         * @return array of at least the amount of genes
+         */
+        private double[] steps(final int size) {
+            if (steps.length < size)
+                steps = new double[size];
+            return steps;
+        }
+
+        /**
+         * Get an array to hold the ray indices of the spiral strategy.
+         *
+         * @param size amount of genes
+         * @return array of at least the amount of genes
+         */
+        private short[] spiralPositions(final int size) {
+            if (spiralPositions.length < size)
+                spiralPositions = new short[size];
+            return spiralPositions;
+        }
+
+        /**
+         * Get an array to hold the distances of the spiral strategy.
+         *
+         * @param size amount of genes
+         * @return array of at least the amount of genes
+         */
+        private float[] spiralDistances(final int size) {
+            if (spiralDistances.length < size)
+                spiralDistances = new float[size];
+            return spiralDistances;
+        }
+    }
 }
@@ -0,0 +1,98 @@
+package evo.search.ga;
+
+import io.jenetics.Genotype;
+import io.jenetics.Phenotype;
+import io.jenetics.engine.Evaluator;
+import io.jenetics.util.ISeq;
+import io.jenetics.util.MSeq;
+import io.jenetics.util.Seq;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+/**
+ * Evaluator splitting the population into one batch per worker and
+ * evaluating the batches on a dedicated {@link Executor}.
+ * <p>
+ * Compared to one task per individual, the batches keep the scheduling
+ * overhead independent of the population size.
+ *
+ * @param <C> fitness type
+ * @author jotoh
+ */
+public class BatchEvaluator<C extends Comparable<? super C>> implements Evaluator<DiscreteGene, C> {
+
+    /**
+     * Fitness function applied to every genotype.
+     */
+    private final Function<? super Genotype<DiscreteGene>, ? extends C> fitness;
+
+    /**
+     * Executor the batches are evaluated on.
+     */
+    private final Executor executor;
+
+    /**
+     * Amount of batches the population is split into.
+     */
+    private final int batches;
+
+    /**
+     * Construct a batch evaluator.
+     *
+     * @param fitness  fitness function applied to every genotype
+     * @param executor executor the batches are evaluated on
+     * @param batches  amount of batches the population is split into
+     */
+    public BatchEvaluator(final Function<? super Genotype<DiscreteGene>, ? extends C> fitness, final Executor executor, final int batches) {
+        this.fitness = fitness;
+        this.executor = executor;
+        this.batches = Math.max(1, batches);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ISeq<Phenotype<DiscreteGene, C>> eval(final Seq<Phenotype<DiscreteGene, C>> population) {
+        final int size = population.size();
+        final MSeq<Phenotype<DiscreteGene, C>> evaluated = MSeq.ofLength(size);
+
+        if (batches == 1 || size < 2) {
+            evaluate(population, evaluated, 0, size);
+            return evaluated.toISeq();
+        }
+
+        final int batchSize = (size + batches - 1) / batches;
+        final List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (int from = 0; from < size; from += batchSize) {
+            final int start = from;
+            final int end = Math.min(size, from + batchSize);
+            futures.add(CompletableFuture.runAsync(() -> evaluate(population, evaluated, start, end), executor));
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+
+        return evaluated.toISeq();
+    }
+
+    /**
+     * Evaluate the not yet evaluated phenotypes of a population range.
+     *
+     * @param population population to evaluate
+     * @param evaluated  sequence to store the evaluated phenotypes in
+     * @param start      first index of the range (inclusive)
+     * @param end        last index of the range (exclusive)
+     */
+    private void evaluate(final Seq<Phenotype<DiscreteGene, C>> population, final MSeq<Phenotype<DiscreteGene, C>> evaluated, final int start, final int end) {
+        for (int i = start; i < end; i++) {
+            final Phenotype<DiscreteGene, C> phenotype = population.get(i);
+            evaluated.set(i, phenotype.isEvaluated()
+                    ? phenotype
+                    : phenotype.withFitness(fitness.apply(phenotype.genotype()))
+            );
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package evo.search.ga;
+
+import evo.search.io.entities.Configuration;
+import io.jenetics.Genotype;
+import io.jenetics.Phenotype;
+import io.jenetics.util.ISeq;
+import io.jenetics.util.RandomRegistry;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * State of a running {@link evo.search.Evolution} to resume it from.
+ * <p>
+ * Holds the populations to evolve next, the counters of the stop criteria and the retained
+ * history. The populations are held as genotypes and evaluated again, when the evolution resumes.
+ *
+ * @author jotoh
+ * @see evo.search.io.service.CheckpointService
+ */
+@Getter
+@AllArgsConstructor
+public class Checkpoint {
+
+    /**
+     * Configuration of the evolution.
+     */
+    private final Configuration configuration;
+
+    /**
+     * Last evolved generation.
+     */
+    private final long generation;
+
+    /**
+     * Amount of generations without improvement up to the checkpoint.
+     */
+    private final int steadyGenerations;
+
+    /**
+     * Milliseconds the evolution ran up to the checkpoint.
+     */
+    private final long elapsed;
+
+    /**
+     * Amount of fitness evaluations up to the checkpoint.
+     */
+    private final long evaluations;
+
+    /**
+     * Serialized state of the seeded random of the evolution.
+     * Null, if the evolution did not use a seeded random.
+     *
+     * @see #captureRandom()
+     */
+    private final byte[] randomState;
+
+    /**
+     * Populations of the islands to evolve next.
+     */
+    private final List<ISeq<Genotype<DiscreteGene>>> populations;
+
+    /**
+     * Retained history up to the checkpoint.
+     */
+    private final List<GenerationRecord> history;
+
+    /**
+     * Best phenotype up to the checkpoint.
+     */
+    private final Phenotype<DiscreteGene, Double> best;
+
+    /**
+     * Pareto front of a multi-objective evolution up to the checkpoint.
+     */
+    private final List<ParetoMember> front;
+
+    /**
+     * Capture the state of the random of the {@link RandomRegistry}.
+     * Only a seeded {@link Random}, as used by the ensemble runs and the runs of the main form, has a state to capture.
+     * A resumed run only repeats the uninterrupted one, if it evolves on its own thread,
+     * i.e. on one evaluation thread and one island. Tasks of other threads draw from their own randoms.
+     *
+     * @return serialized state of the random, null if it is no seeded random
+     */
+    public static byte[] captureRandom() {
+        final Random random = RandomRegistry.random();
+        if (random.getClass() != Random.class)
+            return null;
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (final ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(random);
+        } catch (final IOException e) {
+            return null;
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Restore the random captured at the checkpoint.
+     *
+     * @return random continuing with the captured state, null if none was captured
+     */
+    public Random restoreRandom() {
+        if (randomState == null)
+            return null;
+        try (final ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(randomState))) {
+            return (Random) in.readObject();
+        } catch (final IOException | ClassNotFoundException e) {
+            return null;
+        }
+    }
+}
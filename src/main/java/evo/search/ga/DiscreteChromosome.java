@@ -10,6 +10,7 @@ import org.dom4j.Attribute;
 import org.dom4j.Element;
 import org.dom4j.tree.DefaultElement;
 
+import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -20,6 +21,20 @@ import java.util.List;
  */
 public class DiscreteChromosome extends AbstractChromosome<DiscreteGene> implements XmlEntity<DiscreteChromosome> {
 
+    /**
+     * Lazily packed form of the genes used for the evaluation.
+     *
+     * @see #packed()
+     */
+    private transient volatile PackedChromosome packed;
+
+    /**
+     * Packed form of the chromosome this chromosome was derived from.
+     * Linked to this chromosome's packed form, once it is computed.
+     *
+     * @see PackedChromosome#linkOrigin(PackedChromosome)
+     */
+    private transient PackedChromosome origin;
 
     /**
      * Create a new {@code DiscreteChromosome} from the given {@code genes}
@@ -47,9 +62,64 @@ public class DiscreteChromosome extends AbstractChromosome<DiscreteGene> impleme
         super(ISeq.of(genes));
     }
 
+    /**
+     * Create a chromosome from its packed form.
+     * The packed chromosome is kept as this chromosome's packed form and must not
+     * be altered afterwards.
+     *
+     * @param packed packed genes
+     * @return chromosome of the packed genes
+     */
+    public static DiscreteChromosome of(final PackedChromosome packed) {
+        final DiscreteGene[] genes = new DiscreteGene[packed.size()];
+        for (int i = 0; i < genes.length; i++)
+            genes[i] = packed.gene(i);
+        final DiscreteChromosome chromosome = new DiscreteChromosome(genes);
+        chromosome.packed = packed;
+        return chromosome;
+    }
+
+    /**
+     * Get the packed form of the genes.
+     * It is computed once and shared, so it must not be altered.
+     *
+     * @return packed form of the genes
+     */
+    public PackedChromosome packed() {
+        PackedChromosome result = packed;
+        if (result == null) {
+            result = PackedChromosome.of(_genes.asList());
+            result.linkOrigin(origin);
+            origin = null;
+            packed = result;
+        }
+        return result;
+    }
+
+    /**
+     * Release the incremental evaluation state of the packed form.
+     * The genes and the packed arrays are kept.
+     *
+     * @see PackedChromosome#releaseState()
+     */
+    public void releaseState() {
+        final PackedChromosome result = packed;
+        if (result != null)
+            result.releaseState();
+        origin = null;
+    }
+
+    /**
+     * {@inheritDoc}
+     * The new chromosome is linked to this chromosome's packed form, if this chromosome
+     * was already packed, or to this chromosome's own origin otherwise.
+     */
     @Override
     public Chromosome<DiscreteGene> newInstance(final ISeq<DiscreteGene> genes) {
-        return new DiscreteChromosome(genes.map(DiscreteGene::clone));
+        final DiscreteChromosome chromosome = new DiscreteChromosome(genes.map(DiscreteGene::clone));
+        final PackedChromosome result = packed;
+        chromosome.origin = result != null ? result : origin;
+        return chromosome;
     }
 
     @Override
@@ -80,4 +150,60 @@ public class DiscreteChromosome extends AbstractChromosome<DiscreteGene> impleme
         });
         return new DiscreteChromosome(genes.toArray(DiscreteGene[]::new));
     }
+
+    /**
+     * Replace the chromosome with its packed genes in the object serialization,
+     * since the genes of an {@link AbstractChromosome} are not serialized.
+     *
+     * @return serialized form of the chromosome
+     */
+    private Object writeReplace() {
+        return new SerializedForm(packed());
+    }
+
+    /**
+     * Serialized form of a chromosome holding its packed genes.
+     */
+    private static final class SerializedForm implements Serializable {
+
+        /**
+         * Serial version of the form.
+         */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * Amount of rays.
+         */
+        private final short positions;
+
+        /**
+         * Ray indices of the genes.
+         */
+        private final short[] position;
+
+        /**
+         * Distances of the genes.
+         */
+        private final float[] distance;
+
+        /**
+         * Construct the serialized form of a chromosome.
+         *
+         * @param packed packed genes of the chromosome
+         */
+        private SerializedForm(final PackedChromosome packed) {
+            positions = packed.positions();
+            position = packed.positionArray();
+            distance = packed.distanceArray();
+        }
+
+        /**
+         * Restore the chromosome from its packed genes.
+         *
+         * @return deserialized chromosome
+         */
+        private Object readResolve() {
+            return DiscreteChromosome.of(new PackedChromosome(positions, position, distance));
+        }
+    }
 }
@@ -4,6 +4,7 @@ import evo.search.io.entities.Configuration;
 import evo.search.io.entities.XmlEntity;
 import evo.search.util.MathUtils;
 import evo.search.util.RandomUtils;
+import evo.search.util.TrigTable;
 import io.jenetics.Gene;
 import io.jenetics.util.RandomRegistry;
 import lombok.AllArgsConstructor;
@@ -63,8 +64,8 @@ public class DiscreteGene implements Gene<Point2D, DiscreteGene>, Serializable,
      */
     @Override
     public Point2D allele() {
-        final double angle = MathUtils.sectorAngle(positions) * position;
-        return new Point2D.Double(distance * Math.cos(angle), distance * Math.sin(angle));
+        final TrigTable table = TrigTable.of(positions);
+        return new Point2D.Double(distance * table.cos(position), distance * table.sin(position));
     }
 
     /**
@@ -0,0 +1,185 @@
+package evo.search.ga;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Bounded cache of fitness values addressed by the content of a chromosome.
+ * <p>
+ * A chromosome is keyed by its packed (position, distance) sequence and the
+ * name of the fitness method. When the cache is full, the least recently used
+ * entry gets evicted.
+ *
+ * @author jotoh
+ */
+public class FitnessCache {
+
+    /**
+     * Maximum amount of cached fitness values.
+     */
+    private final int capacity;
+
+    /**
+     * Access ordered map of cached fitness values.
+     */
+    private final Map<Key, Double> entries;
+
+    /**
+     * Amount of fitness values taken from the cache.
+     */
+    private final AtomicLong hits = new AtomicLong();
+
+    /**
+     * Amount of fitness values computed due to an absent cache entry.
+     */
+    private final AtomicLong misses = new AtomicLong();
+
+    /**
+     * Construct a fitness cache with a maximum amount of entries.
+     *
+     * @param capacity maximum amount of cached fitness values
+     */
+    public FitnessCache(final int capacity) {
+        this.capacity = capacity;
+        this.entries = new LinkedHashMap<>(16, .75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<Key, Double> eldest) {
+                return size() > FitnessCache.this.capacity;
+            }
+        };
+    }
+
+    /**
+     * Get the cached fitness of a chromosome or compute and cache it.
+     * The computation runs outside of the cache's lock, so concurrent evaluations
+     * of the same chromosome may compute the fitness twice.
+     *
+     * @param chromosome chromosome to get the fitness for
+     * @param fitness    name of the fitness method
+     * @param method     fitness method computing an absent fitness
+     * @return fitness of the chromosome
+     */
+    public double get(final PackedChromosome chromosome, final String fitness, final ToDoubleFunction<PackedChromosome> method) {
+        final Key key = new Key(fitness, pack(chromosome));
+
+        final Double cached;
+        synchronized (entries) {
+            cached = entries.get(key);
+        }
+        if (cached != null) {
+            hits.incrementAndGet();
+            return cached;
+        }
+
+        misses.incrementAndGet();
+        final double value = method.applyAsDouble(chromosome);
+        synchronized (entries) {
+            entries.put(key, value);
+        }
+        return value;
+    }
+
+    /**
+     * Get the amount of fitness values taken from the cache.
+     *
+     * @return amount of cache hits
+     */
+    public long getHits() {
+        return hits.get();
+    }
+
+    /**
+     * Get the amount of fitness values computed due to an absent cache entry.
+     *
+     * @return amount of cache misses
+     */
+    public long getMisses() {
+        return misses.get();
+    }
+
+    /**
+     * Get the amount of cached fitness values.
+     *
+     * @return amount of cached fitness values
+     */
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    /**
+     * Remove all cached fitness values and reset the counters.
+     */
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+        hits.set(0);
+        misses.set(0);
+    }
+
+    /**
+     * Pack the genes of a chromosome into one {@code long} per gene.
+     * The upper half holds the position, the lower half the distance's bits.
+     *
+     * @param chromosome chromosome to pack
+     * @return packed genes
+     */
+    static long[] pack(final PackedChromosome chromosome) {
+        final long[] packed = new long[chromosome.size()];
+        for (int i = 0; i < packed.length; i++)
+            packed[i] = ((long) chromosome.position(i) << 32) | (Float.floatToIntBits(chromosome.distance(i)) & 0xffffffffL);
+        return packed;
+    }
+
+    /**
+     * Key of a cached fitness value.
+     * The hash is computed once on construction.
+     */
+    private static final class Key {
+
+        /**
+         * Name of the fitness method.
+         */
+        private final String fitness;
+
+        /**
+         * Packed genes of the chromosome.
+         */
+        private final long[] genes;
+
+        /**
+         * Precomputed hash of the fitness and genes.
+         */
+        private final int hash;
+
+        /**
+         * Construct a cache key.
+         *
+         * @param fitness name of the fitness method
+         * @param genes   packed genes of the chromosome
+         */
+        private Key(final String fitness, final long[] genes) {
+            this.fitness = fitness;
+            this.genes = genes;
+            this.hash = 31 * fitness.hashCode() + Arrays.hashCode(genes);
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            final Key other = (Key) o;
+            return hash == other.hash && fitness.equals(other.fitness) && Arrays.equals(genes, other.genes);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
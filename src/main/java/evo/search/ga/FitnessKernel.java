@@ -0,0 +1,55 @@
+package evo.search.ga;
+
+/**
+ * Data parallel loops of the fitness functions on the raw arrays of a {@link PackedChromosome}.
+ * <p>
+ * The {@link ScalarKernel} runs on every runtime. When the application is packaged as a
+ * multi-release jar and runs on Java 17 or later with the {@code jdk.incubator.vector}
+ * module added, the {@link KernelLoader} of the versioned layer returns a kernel using
+ * the Vector API instead.
+ *
+ * @author jotoh
+ */
+interface FitnessKernel {
+
+    /**
+     * Kernel used by the fitness functions.
+     */
+    FitnessKernel INSTANCE = KernelLoader.load();
+
+    /**
+     * Compute the distances between consecutive genes.
+     * The step of a gene is its euclidean distance to the previous gene.
+     * The steps equal the ones computed gene by gene through the law of cosines.
+     *
+     * @param positions amount of rays
+     * @param position  ray indices of the genes
+     * @param distance  distances of the genes
+     * @param from      index of the first step to compute, at least one
+     * @param to        index after the last step to compute
+     * @param steps     array to write the steps into at the indices of the genes
+     */
+    void stepDistances(short positions, short[] position, float[] distance, int from, int to, double[] steps);
+
+    /**
+     * Compute the length of the path from the first to the last gene.
+     *
+     * @param positions amount of rays
+     * @param position  ray indices of the genes
+     * @param distance  distances of the genes
+     * @param size      amount of genes
+     * @return sum of the steps between consecutive genes
+     */
+    double pathLength(short positions, short[] position, float[] distance, int size);
+
+    /**
+     * Compute the area of the triangles spanned by the maximum distances of neighbouring rays.
+     * The last ray neighbours the first one.
+     *
+     * @param sectorSine  sine of the angle between two neighbouring rays
+     * @param maxDistance maximum distance per ray
+     * @param positions   amount of rays
+     * @return sum of the triangle areas of all sectors
+     */
+    double sectorArea(double sectorSine, double[] maxDistance, int positions);
+}
@@ -0,0 +1,39 @@
+package evo.search.ga;
+
+import evo.search.Evolution;
+
+import java.io.Serializable;
+
+/**
+ * Fitness method evaluating a chromosome in its packed primitive form.
+ * <p>
+ * Besides the built-in {@link Evolution.Fitness} methods, implementations are discovered
+ * through the {@link java.util.ServiceLoader} by listing their class names in
+ * {@code META-INF/services/evo.search.ga.FitnessMethod}. The {@link evo.search.io.entities.Configuration}
+ * references its fitness method by {@link #getName()}.
+ * <p>
+ * A fitness method is minimized and is called concurrently from multiple threads.
+ * It is stored with the configuration of an evolution and should therefore be stateless.
+ *
+ * @author jotoh
+ * @see FitnessMethods
+ */
+public interface FitnessMethod extends Serializable {
+
+    /**
+     * Get the unique name of the fitness method.
+     * The name identifies the method in the configuration files and in the fitness cache.
+     *
+     * @return name of the fitness method
+     */
+    String getName();
+
+    /**
+     * Evaluate the fitness of a chromosome.
+     *
+     * @param evolution  evolution the chromosome is evaluated in, giving access to its configuration
+     * @param chromosome chromosome to evaluate, must not be altered
+     * @return fitness of the chromosome, lower is better
+     */
+    double evaluate(Evolution evolution, PackedChromosome chromosome);
+}
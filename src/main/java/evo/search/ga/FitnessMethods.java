@@ -0,0 +1,91 @@
+package evo.search.ga;
+
+import evo.search.Evolution;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+
+/**
+ * Registry of the available {@link FitnessMethod}s by their names.
+ * <p>
+ * Holds the built-in {@link Evolution.Fitness} methods followed by the methods
+ * provided through the {@link ServiceLoader}. A provided method cannot replace
+ * a method registered under the same name before.
+ *
+ * @author jotoh
+ */
+@Slf4j
+public final class FitnessMethods {
+
+    /**
+     * Utility class, not to be instantiated.
+     */
+    private FitnessMethods() {
+    }
+
+    /**
+     * Get all available fitness methods.
+     *
+     * @return unmodifiable list of the built-in and the provided fitness methods
+     */
+    public static List<FitnessMethod> all() {
+        return Registry.ALL;
+    }
+
+    /**
+     * Get a fitness method by its name.
+     *
+     * @param name name of the fitness method
+     * @return fitness method with the name
+     * @throws IllegalArgumentException if no fitness method has the name
+     */
+    public static FitnessMethod forName(final String name) {
+        final FitnessMethod method = Registry.BY_NAME.get(name);
+        if (method == null)
+            throw new IllegalArgumentException("Unknown fitness method: " + name);
+        return method;
+    }
+
+    /**
+     * Lazily initialized registry.
+     */
+    private static final class Registry {
+
+        /**
+         * Fitness methods by their names in the order of registration.
+         */
+        private static final Map<String, FitnessMethod> BY_NAME = load();
+
+        /**
+         * All fitness methods in the order of registration.
+         */
+        private static final List<FitnessMethod> ALL = Collections.unmodifiableList(new ArrayList<>(BY_NAME.values()));
+
+        /**
+         * Register the built-in and the provided fitness methods.
+         *
+         * @return fitness methods by their names
+         */
+        private static Map<String, FitnessMethod> load() {
+            final Map<String, FitnessMethod> methods = new LinkedHashMap<>();
+            for (final Evolution.Fitness fitness : Evolution.Fitness.values())
+                methods.put(fitness.getName(), fitness);
+
+            try {
+                for (final FitnessMethod method : ServiceLoader.load(FitnessMethod.class)) {
+                    if (methods.putIfAbsent(method.getName(), method) != null)
+                        log.warn("Fitness method {} of {} is already registered.", method.getName(), method.getClass().getName());
+                }
+            } catch (final ServiceConfigurationError error) {
+                log.error("Could not load the provided fitness methods.", error);
+            }
+            return methods;
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package evo.search.ga;
+
+import io.jenetics.Phenotype;
+import io.jenetics.engine.EvolutionResult;
+import io.jenetics.ext.moea.Vec;
+import io.jenetics.util.ISeq;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * Retained part of one generation of an {@link evo.search.Evolution}.
+ * Always holds the generations fitness statistics. The best phenotype and
+ * the whole population are only held, if the history retention keeps them.
+ * <p>
+ * Records of a multi-objective evolution hold the Pareto front instead of the population.
+ * Their statistics and best phenotype refer to the first objective.
+ *
+ * @author jotoh
+ * @see evo.search.Evolution.HistoryRetention
+ */
+@Getter
+@AllArgsConstructor
+public class GenerationRecord implements Serializable {
+
+    /**
+     * Generation number, starting with one.
+     */
+    private final long generation;
+
+    /**
+     * Fitness of the best phenotype.
+     */
+    private final double bestFitness;
+
+    /**
+     * Mean fitness over the population.
+     */
+    private final double meanFitness;
+
+    /**
+     * Fitness of the worst phenotype.
+     */
+    private final double worstFitness;
+
+    /**
+     * Size of the population.
+     */
+    private final int populationSize;
+
+    /**
+     * Best phenotype of the generation.
+     * May be {@code null}, if only statistics are retained.
+     */
+    private final Phenotype<DiscreteGene, Double> best;
+
+    /**
+     * Whole population of the generation.
+     * May be {@code null}, if the population is not retained.
+     */
+    private final ISeq<Phenotype<DiscreteGene, Double>> population;
+
+    /**
+     * Pareto front of a multi-objective evolution after the generation.
+     * May be {@code null}, if the front is not retained or the evolution has a single objective.
+     */
+    private final List<ParetoMember> front;
+
+    /**
+     * Create a record from an evolution result.
+     *
+     * @param result         evolution result to record
+     * @param keepBest       whether to retain the best phenotype
+     * @param keepPopulation whether to retain the whole population
+     * @return record of the evolution result
+     */
+    public static GenerationRecord of(final EvolutionResult<DiscreteGene, Double> result, final boolean keepBest, final boolean keepPopulation) {
+        final ISeq<Phenotype<DiscreteGene, Double>> population = result.population();
+        double sum = 0;
+        for (final Phenotype<DiscreteGene, Double> phenotype : population)
+            sum += phenotype.fitness();
+
+        return new GenerationRecord(
+                result.generation(),
+                result.bestFitness(),
+                population.isEmpty() ? Double.NaN : sum / population.size(),
+                result.worstFitness(),
+                population.size(),
+                keepBest || keepPopulation ? result.bestPhenotype() : null,
+                keepPopulation ? population : null,
+                null
+        );
+    }
+
+    /**
+     * Create a record from a multi-objective evolution result.
+     *
+     * @param result   evolution result to record
+     * @param front    Pareto front after the generation, null to not retain it
+     * @param keepBest whether to retain the best phenotype by the first objective
+     * @return record of the evolution result
+     */
+    public static GenerationRecord ofFront(final EvolutionResult<DiscreteGene, Vec<double[]>> result, final List<ParetoMember> front, final boolean keepBest) {
+        final ISeq<Phenotype<DiscreteGene, Vec<double[]>>> population = result.population();
+        Phenotype<DiscreteGene, Vec<double[]>> best = null;
+        double worst = Double.NaN;
+        double sum = 0;
+        for (final Phenotype<DiscreteGene, Vec<double[]>> phenotype : population) {
+            final double objective = phenotype.fitness().data()[0];
+            sum += objective;
+            if (best == null || objective < best.fitness().data()[0])
+                best = phenotype;
+            if (Double.isNaN(worst) || objective > worst)
+                worst = objective;
+        }
+
+        return new GenerationRecord(
+                result.generation(),
+                best == null ? Double.NaN : best.fitness().data()[0],
+                population.isEmpty() ? Double.NaN : sum / population.size(),
+                worst,
+                population.size(),
+                keepBest && best != null ? firstObjective(best) : null,
+                null,
+                front
+        );
+    }
+
+    /**
+     * Convert a multi-objective phenotype to a phenotype of its first objective.
+     *
+     * @param phenotype evaluated multi-objective phenotype
+     * @return phenotype with the first objective as fitness
+     */
+    public static Phenotype<DiscreteGene, Double> firstObjective(final Phenotype<DiscreteGene, Vec<double[]>> phenotype) {
+        return Phenotype.of(phenotype.genotype(), phenotype.generation(), phenotype.fitness().data()[0]);
+    }
+
+    /**
+     * Check, if the best phenotype was retained.
+     *
+     * @return true, if the best phenotype is available, false otherwise
+     */
+    public boolean hasBest() {
+        return best != null;
+    }
+
+    /**
+     * Check, if the population was retained.
+     *
+     * @return true, if the population is available, false otherwise
+     */
+    public boolean hasPopulation() {
+        return population != null;
+    }
+
+    /**
+     * Check, if the Pareto front was retained.
+     *
+     * @return true, if the front is available, false otherwise
+     */
+    public boolean hasFront() {
+        return front != null;
+    }
+
+    /**
+     * Get the genes of the best phenotype.
+     *
+     * @return genes of the best phenotype, null if it was not retained
+     */
+    public List<DiscreteGene> getBestChromosome() {
+        if (best == null)
+            return null;
+        return ISeq.of(best.genotype().chromosome()).asList();
+    }
+}
@@ -0,0 +1,297 @@
+package evo.search.ga;
+
+import evo.search.util.ListUtils;
+
+import java.util.Arrays;
+
+/**
+ * Incremental variants of the prefix dependent fitness kernels of the {@link AnalysisUtils}.
+ * <p>
+ * The path lengths and the state of the worst case evaluations are kept in the
+ * evaluated {@link PackedChromosome}. A chromosome linked to its evaluated origin through
+ * {@link PackedChromosome#linkOrigin(PackedChromosome)} takes over the origin's state
+ * up to the first changed gene and only re-evaluates the remaining genes.
+ * The results equal the ones of the {@link AnalysisUtils}.
+ *
+ * @author jotoh
+ */
+public final class IncrementalEvaluation {
+
+    /**
+     * Utility class, not to be instantiated.
+     */
+    private IncrementalEvaluation() {
+    }
+
+    /**
+     * Computes the trace length necessary for the chromosome to find the given treasure.
+     *
+     * @param chromosome chromosome to evaluate the trace length on
+     * @param treasure   treasure point to be found
+     * @return trace length necessary for the individual to find the treasure
+     * @see AnalysisUtils#traceLength(PackedChromosome, DiscreteGene)
+     */
+    public static double traceLength(final PackedChromosome chromosome, final DiscreteGene treasure) {
+        final short treasurePosition = treasure.getPosition();
+        final float treasureDistance = treasure.getDistance();
+
+        if (chromosome.size() == 0 || treasurePosition == 0 && treasureDistance <= 0)
+            return 0d;
+
+        final double[] pathLengths = pathLengths(chromosome);
+        for (int i = 0; i < pathLengths.length; i++)
+            if (chromosome.finds(i, treasurePosition, treasureDistance))
+                return pathLengths[i];
+
+        return pathLengths[pathLengths.length - 1];
+    }
+
+    /**
+     * Calculates the worst case trace length of a trace barely missing a treasure.
+     *
+     * @param chromosome  chromosome forming a path
+     * @param minDistance minimum distance a worst case is placed away from the origin
+     * @param interval    amount of genes between two checkpoints
+     * @return worst case scenario fitness
+     * @see AnalysisUtils#worstCase(PackedChromosome, float)
+     */
+    public static double worstCase(final PackedChromosome chromosome, final float minDistance, final int interval) {
+        if (chromosome.size() < 1)
+            return Double.POSITIVE_INFINITY;
+
+        final Checkpoints checkpoints;
+        synchronized (chromosome) {
+            chromosome.worstCase = evaluate(chromosome, checkpointsOf(chromosome.origin, false), minDistance, interval, false);
+            checkpoints = chromosome.worstCase;
+        }
+
+        final int last = chromosome.size() - 1;
+        float max = 0;
+        for (final float distance : checkpoints.distances)
+            if (distance > max) max = distance;
+
+        final double arcWorstCase = AnalysisUtils.arcWorstCase(
+                checkpoints.distances,
+                max,
+                chromosome.positions(),
+                chromosome.position(last),
+                chromosome.distance(last),
+                pathLengths(chromosome)[last]
+        );
+
+        return Math.max(checkpoints.factor, arcWorstCase);
+    }
+
+    /**
+     * Compute the mean worst case over all points in the strategy.
+     *
+     * @param chromosome chromosome of the strategy
+     * @param epsilon    distance the worst case is missed by
+     * @param interval   amount of genes between two checkpoints
+     * @return mean worst case fitness
+     * @see AnalysisUtils#worstCaseMean(PackedChromosome, float)
+     */
+    public static double worstCaseMean(final PackedChromosome chromosome, final float epsilon, final int interval) {
+        if (chromosome.size() < 1)
+            return Double.POSITIVE_INFINITY;
+
+        final Checkpoints checkpoints;
+        synchronized (chromosome) {
+            chromosome.worstCaseMean = evaluate(chromosome, checkpointsOf(chromosome.origin, true), epsilon, interval, true);
+            checkpoints = chromosome.worstCaseMean;
+        }
+
+        return checkpoints.factor * ListUtils.getMinMaxRatio(checkpoints.distances);
+    }
+
+    /**
+     * Get the path lengths from the origin to each gene of the chromosome.
+     * The lengths up to the first changed gene are taken from the chromosome's origin,
+     * which is read under its own lock.
+     *
+     * @param chromosome chromosome forming a path
+     * @return path length from the origin to each gene
+     */
+    public static double[] pathLengths(final PackedChromosome chromosome) {
+        synchronized (chromosome) {
+            if (chromosome.pathLengths != null)
+                return chromosome.pathLengths;
+
+            final int size = chromosome.size();
+            final double[] pathLengths = new double[size];
+            final PackedChromosome origin = chromosome.origin;
+            double[] originLengths = null;
+            if (origin != null)
+                synchronized (origin) {
+                    originLengths = origin.pathLengths;
+                }
+
+            int start = 0;
+            if (originLengths != null) {
+                start = chromosome.firstChange;
+                System.arraycopy(originLengths, 0, pathLengths, 0, start);
+            }
+
+            if (start == 0 && size > 0)
+                pathLengths[start++] = chromosome.distance(0);
+
+            FitnessKernel.INSTANCE.stepDistances(chromosome.positions(), chromosome.positionArray(), chromosome.distanceArray(), start, size, pathLengths);
+            for (int i = start; i < size; i++)
+                pathLengths[i] += pathLengths[i - 1];
+
+            chromosome.pathLengths = pathLengths;
+            return pathLengths;
+        }
+    }
+
+    /**
+     * Get the worst case checkpoints of a chromosome's origin.
+     * The origin's state is read under its lock, since it may be evaluated or released concurrently.
+     *
+     * @param origin origin of the evaluated chromosome, may be null
+     * @param mean   whether to get the checkpoints of the mean worst case
+     * @return checkpoints of the origin, null if it holds none
+     */
+    private static Checkpoints checkpointsOf(final PackedChromosome origin, final boolean mean) {
+        if (origin == null)
+            return null;
+        synchronized (origin) {
+            return mean ? origin.worstCaseMean : origin.worstCase;
+        }
+    }
+
+    /**
+     * Run the worst case evaluation, resuming from the last valid checkpoint of the origin.
+     *
+     * @param chromosome chromosome to evaluate
+     * @param previous   checkpoints of the origin, may be null
+     * @param parameter  minimum distance or epsilon of the evaluation
+     * @param interval   amount of genes between two checkpoints
+     * @param mean       whether to evaluate the mean worst case
+     * @return checkpoints of the chromosome holding the final state
+     */
+    private static Checkpoints evaluate(final PackedChromosome chromosome, final Checkpoints previous, final float parameter, final int interval, final boolean mean) {
+        final Checkpoints current = mean ? chromosome.worstCaseMean : chromosome.worstCase;
+        if (current != null && current.matches(parameter, interval))
+            return current;
+
+        final int size = chromosome.size();
+        final double[] pathLengths = pathLengths(chromosome);
+        final Checkpoints checkpoints = new Checkpoints(parameter, interval, size);
+
+        int start = 0;
+        double factor = 0;
+        double sum = 0;
+        final float[] distances;
+
+        if (previous != null && previous.matches(parameter, interval) && chromosome.origin != null) {
+            final int checkpoint = Math.min(chromosome.firstChange, size - 1) / interval;
+            System.arraycopy(previous.factors, 0, checkpoints.factors, 0, checkpoint + 1);
+            System.arraycopy(previous.sums, 0, checkpoints.sums, 0, checkpoint + 1);
+            System.arraycopy(previous.states, 0, checkpoints.states, 0, checkpoint + 1);
+            start = checkpoint * interval;
+            factor = previous.factors[checkpoint];
+            sum = previous.sums[checkpoint];
+            distances = previous.states[checkpoint].clone();
+        } else {
+            distances = new float[chromosome.positions()];
+            Arrays.fill(distances, parameter);
+        }
+
+        for (int index = start; index < size; index++) {
+            if (index % interval == 0) {
+                checkpoints.factors[index / interval] = factor;
+                checkpoints.sums[index / interval] = sum;
+                checkpoints.states[index / interval] = distances.clone();
+            }
+
+            final short position = chromosome.position(index);
+            final float distance = chromosome.distance(index);
+            final float optimalPath = distances[position];
+            distances[position] = Math.max(optimalPath, distance);
+
+            if (mean) {
+                sum += pathLengths[index] / optimalPath;
+                if (optimalPath < distance)
+                    factor = Math.max(factor, sum / (index + 1));
+            } else {
+                factor = Math.max(factor, pathLengths[index] / optimalPath);
+            }
+        }
+
+        checkpoints.factor = factor;
+        checkpoints.distances = distances;
+        return checkpoints;
+    }
+
+    /**
+     * State of a worst case evaluation at every checkpoint.
+     * The state at a checkpoint is the state before evaluating the checkpoint's gene.
+     */
+    static final class Checkpoints {
+
+        /**
+         * Minimum distance or epsilon the checkpoints were evaluated with.
+         */
+        private final float parameter;
+
+        /**
+         * Amount of genes between two checkpoints.
+         */
+        private final int interval;
+
+        /**
+         * Worst case factor at each checkpoint.
+         */
+        private final double[] factors;
+
+        /**
+         * Sum of the worst case factors at each checkpoint.
+         * Only used by the mean worst case.
+         */
+        private final double[] sums;
+
+        /**
+         * Maximum distances per ray at each checkpoint.
+         * The arrays are shared between chromosomes and must not be altered.
+         */
+        private final float[][] states;
+
+        /**
+         * Worst case factor after evaluating all genes.
+         */
+        private double factor;
+
+        /**
+         * Maximum distances per ray after evaluating all genes.
+         */
+        private float[] distances;
+
+        /**
+         * Construct empty checkpoints.
+         *
+         * @param parameter minimum distance or epsilon of the evaluation
+         * @param interval  amount of genes between two checkpoints
+         * @param size      amount of genes
+         */
+        private Checkpoints(final float parameter, final int interval, final int size) {
+            this.parameter = parameter;
+            this.interval = interval;
+            final int amount = (size + interval - 1) / interval;
+            this.factors = new double[amount];
+            this.sums = new double[amount];
+            this.states = new float[amount][];
+        }
+
+        /**
+         * Check, if the checkpoints were evaluated with the same parameters.
+         *
+         * @param parameter minimum distance or epsilon of the evaluation
+         * @param interval  amount of genes between two checkpoints
+         * @return whether the checkpoints can be resumed from
+         */
+        private boolean matches(final float parameter, final int interval) {
+            return this.parameter == parameter && this.interval == interval;
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package evo.search.ga;
+
+/**
+ * Chooses the {@link FitnessKernel} of the runtime.
+ * <p>
+ * This is the base version for Java 11. The multi-release layer for Java 17
+ * replaces this class with a loader able to choose the Vector API kernel.
+ *
+ * @author jotoh
+ */
+final class KernelLoader {
+
+    /**
+     * Utility class, not to be instantiated.
+     */
+    private KernelLoader() {
+    }
+
+    /**
+     * Load the fitness kernel of the runtime.
+     *
+     * @return the scalar kernel
+     */
+    static FitnessKernel load() {
+        return new ScalarKernel();
+    }
+}
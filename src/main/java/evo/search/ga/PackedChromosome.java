@@ -0,0 +1,342 @@
+package evo.search.ga;
+
+import evo.search.util.MathUtils;
+import io.jenetics.Chromosome;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Primitive representation of a {@link DiscreteGene} chromosome.
+ * The genes' positions and distances are stored in two parallel arrays,
+ * so the fitness functions can walk a chromosome without interface calls
+ * or allocating objects per gene.
+ * <p>
+ * A packed chromosome obtained through {@link DiscreteChromosome#packed()}
+ * is shared and must not be altered. Alterations are made on a {@link #copy()}.
+ * <p>
+ * A chromosome derived from an already evaluated one may be linked to it through
+ * {@link #linkOrigin(PackedChromosome)}, so the {@link IncrementalEvaluation}
+ * only re-evaluates the genes from the first changed index on.
+ *
+ * @author jotoh
+ */
+public final class PackedChromosome {
+
+    /**
+     * Amount of rays the genes are distributed on.
+     */
+    private final short positions;
+
+    /**
+     * Ray indices of the genes.
+     */
+    private final short[] position;
+
+    /**
+     * Distances of the genes from the origin.
+     */
+    private final float[] distance;
+
+    /**
+     * Chromosome this chromosome was derived from.
+     * Only held until this chromosome is evaluated.
+     *
+     * @see #linkOrigin(PackedChromosome)
+     */
+    PackedChromosome origin;
+
+    /**
+     * Index of the first gene differing from the {@link #origin}.
+     */
+    int firstChange;
+
+    /**
+     * Path length from the origin to each gene.
+     *
+     * @see IncrementalEvaluation#traceLength(PackedChromosome, DiscreteGene)
+     */
+    double[] pathLengths;
+
+    /**
+     * Checkpoints of the worst case evaluation.
+     *
+     * @see IncrementalEvaluation#worstCase(PackedChromosome, float, int)
+     */
+    IncrementalEvaluation.Checkpoints worstCase;
+
+    /**
+     * Checkpoints of the mean worst case evaluation.
+     *
+     * @see IncrementalEvaluation#worstCaseMean(PackedChromosome, float, int)
+     */
+    IncrementalEvaluation.Checkpoints worstCaseMean;
+
+    /**
+     * Construct a packed chromosome from its parallel arrays.
+     * The arrays are not copied.
+     *
+     * @param positions amount of rays
+     * @param position  ray indices of the genes
+     * @param distance  distances of the genes
+     */
+    public PackedChromosome(final int positions, final short[] position, final float[] distance) {
+        if (position.length != distance.length)
+            throw new IllegalArgumentException("Positions and distances differ in length.");
+        this.positions = (short) positions;
+        this.position = position;
+        this.distance = distance;
+    }
+
+    /**
+     * Pack a list of genes.
+     *
+     * @param genes genes to pack
+     * @return packed chromosome of the genes
+     */
+    public static PackedChromosome of(final List<DiscreteGene> genes) {
+        final int size = genes.size();
+        final short[] position = new short[size];
+        final float[] distance = new float[size];
+        for (int i = 0; i < size; i++) {
+            final DiscreteGene gene = genes.get(i);
+            position[i] = gene.getPosition();
+            distance[i] = gene.getDistance();
+        }
+        return new PackedChromosome(size == 0 ? 1 : genes.get(0).getPositions(), position, distance);
+    }
+
+    /**
+     * Get the packed form of a chromosome.
+     * Uses the cached packed form of {@link DiscreteChromosome}s.
+     *
+     * @param chromosome chromosome to pack
+     * @return packed chromosome
+     */
+    public static PackedChromosome of(final Chromosome<DiscreteGene> chromosome) {
+        if (chromosome instanceof DiscreteChromosome)
+            return ((DiscreteChromosome) chromosome).packed();
+        final List<DiscreteGene> genes = new ArrayList<>(chromosome.length());
+        chromosome.forEach(genes::add);
+        return of(genes);
+    }
+
+    /**
+     * Get the amount of genes.
+     *
+     * @return amount of genes
+     */
+    public int size() {
+        return position.length;
+    }
+
+    /**
+     * Get the amount of rays the genes are distributed on.
+     *
+     * @return amount of rays
+     */
+    public short positions() {
+        return positions;
+    }
+
+    /**
+     * Get the ray index of a gene.
+     *
+     * @param index gene index
+     * @return ray index of the gene
+     */
+    public short position(final int index) {
+        return position[index];
+    }
+
+    /**
+     * Get the distance of a gene.
+     *
+     * @param index gene index
+     * @return distance of the gene
+     */
+    public float distance(final int index) {
+        return distance[index];
+    }
+
+    /**
+     * Get the ray indices of all genes.
+     * The array is not copied and must not be altered.
+     *
+     * @return ray indices of the genes
+     */
+    short[] positionArray() {
+        return position;
+    }
+
+    /**
+     * Get the distances of all genes.
+     * The array is not copied and must not be altered.
+     *
+     * @return distances of the genes
+     */
+    float[] distanceArray() {
+        return distance;
+    }
+
+    /**
+     * Calculate the euclidean distance between two genes.
+     *
+     * @param a index of the first gene
+     * @param b index of the second gene
+     * @return euclidean distance between the genes
+     */
+    public double distance(final int a, final int b) {
+        return MathUtils.polarDistance(positions, position[a], distance[a], position[b], distance[b]);
+    }
+
+    /**
+     * Check, if a gene finds a treasure.
+     *
+     * @param index            gene index
+     * @param treasurePosition ray index of the treasure
+     * @param treasureDistance distance of the treasure
+     * @return whether the gene finds the treasure
+     * @see AnalysisUtils#finds(DiscreteGene, DiscreteGene)
+     */
+    public boolean finds(final int index, final int treasurePosition, final float treasureDistance) {
+        return position[index] == treasurePosition && distance[index] >= treasureDistance;
+    }
+
+    /**
+     * Set the ray index of a gene.
+     *
+     * @param index    gene index
+     * @param position new ray index
+     */
+    public void setPosition(final int index, final short position) {
+        this.position[index] = position;
+    }
+
+    /**
+     * Set the distance of a gene.
+     *
+     * @param index    gene index
+     * @param distance new distance
+     */
+    public void setDistance(final int index, final float distance) {
+        this.distance[index] = distance;
+    }
+
+    /**
+     * Swap the ray indices of two genes.
+     *
+     * @param a index of the first gene
+     * @param b index of the second gene
+     */
+    public void swapPositions(final int a, final int b) {
+        final short temp = position[a];
+        position[a] = position[b];
+        position[b] = temp;
+    }
+
+    /**
+     * Swap the distances of two genes.
+     *
+     * @param a index of the first gene
+     * @param b index of the second gene
+     */
+    public void swapDistances(final int a, final int b) {
+        final float temp = distance[a];
+        distance[a] = distance[b];
+        distance[b] = temp;
+    }
+
+    /**
+     * Create a gene object from a packed gene.
+     *
+     * @param index gene index
+     * @return new gene
+     */
+    public DiscreteGene gene(final int index) {
+        return new DiscreteGene(positions, position[index], distance[index]);
+    }
+
+    /**
+     * Unpack the chromosome into gene objects.
+     *
+     * @return list of new genes
+     */
+    public List<DiscreteGene> toGenes() {
+        final List<DiscreteGene> genes = new ArrayList<>(position.length);
+        for (int i = 0; i < position.length; i++)
+            genes.add(gene(i));
+        return genes;
+    }
+
+    /**
+     * Link this chromosome to the chromosome it was derived from.
+     * An origin, that was not evaluated itself, is skipped for its own evaluated origin.
+     * The index of the first differing gene is computed by comparing both chromosomes.
+     * Chromosomes of different lengths or ray counts are not linked.
+     *
+     * @param origin chromosome this chromosome was derived from, may be null
+     */
+    public void linkOrigin(final PackedChromosome origin) {
+        PackedChromosome evaluated = origin;
+        while (evaluated != null && !evaluated.isEvaluated())
+            evaluated = evaluated.getOrigin();
+        final PackedChromosome link = evaluated == null ? origin : evaluated;
+        if (link == null || link == this || link.size() != size() || link.positions != positions)
+            return;
+        int index = 0;
+        while (index < position.length && position[index] == link.position[index] && distance[index] == link.distance[index])
+            index++;
+        synchronized (this) {
+            this.origin = link;
+            this.firstChange = index;
+        }
+    }
+
+    /**
+     * Check, if the chromosome holds state of the incremental evaluation.
+     *
+     * @return true, if the chromosome was evaluated incrementally, false otherwise
+     */
+    synchronized boolean isEvaluated() {
+        return pathLengths != null || worstCase != null || worstCaseMean != null;
+    }
+
+    /**
+     * Get the chromosome this chromosome was derived from.
+     *
+     * @return linked origin, null if it is not linked or was released
+     */
+    synchronized PackedChromosome getOrigin() {
+        return origin;
+    }
+
+    /**
+     * Release the link to the chromosome this chromosome was derived from.
+     * Called once the chromosome is evaluated, so the origins are not retained over generations.
+     */
+    public synchronized void releaseOrigin() {
+        origin = null;
+    }
+
+    /**
+     * Release the link to the origin and the state of the incremental evaluation.
+     * Called once the chromosome left the population, so no offspring is derived from it anymore.
+     * A later evaluation evaluates the chromosome from its first gene.
+     */
+    public synchronized void releaseState() {
+        origin = null;
+        pathLengths = null;
+        worstCase = null;
+        worstCaseMean = null;
+    }
+
+    /**
+     * Copy the chromosome to alter it.
+     *
+     * @return deep copy of the packed chromosome
+     */
+    public PackedChromosome copy() {
+        return new PackedChromosome(positions, position.clone(), distance.clone());
+    }
+}
@@ -0,0 +1,82 @@
+package evo.search.ga;
+
+import io.jenetics.Phenotype;
+import io.jenetics.engine.EvolutionResult;
+import io.jenetics.ext.moea.MOEA;
+import io.jenetics.ext.moea.Vec;
+import io.jenetics.util.ISeq;
+import io.jenetics.util.IntRange;
+
+import java.util.HashSet;
+import java.util.stream.Collector;
+
+/**
+ * Pareto front over all generations of a multi-objective evolution.
+ * <p>
+ * Accumulates the evolution results one by one into the Pareto set collector of
+ * the jenetics {@link MOEA} support, which trims the front by crowding distance.
+ *
+ * @param <A> accumulation type of the collector
+ * @author jotoh
+ */
+public final class ParetoArchive<A> {
+
+    /**
+     * Pareto set collector of the evolution results.
+     */
+    private final Collector<EvolutionResult<DiscreteGene, Vec<double[]>>, A, ISeq<Phenotype<DiscreteGene, Vec<double[]>>>> collector;
+
+    /**
+     * Accumulated front.
+     */
+    private final A container;
+
+    /**
+     * Current front.
+     */
+    private ISeq<Phenotype<DiscreteGene, Vec<double[]>>> front = ISeq.empty();
+
+    /**
+     * Construct an archive on a collector.
+     *
+     * @param collector Pareto set collector
+     */
+    private ParetoArchive(final Collector<EvolutionResult<DiscreteGene, Vec<double[]>>, A, ISeq<Phenotype<DiscreteGene, Vec<double[]>>>> collector) {
+        this.collector = collector;
+        this.container = collector.supplier().get();
+    }
+
+    /**
+     * Create an archive keeping at most the given amount of phenotypes.
+     *
+     * @param size maximum size of the front
+     * @return empty archive
+     */
+    public static ParetoArchive<?> of(final int size) {
+        final int max = Math.max(1, size);
+        return new ParetoArchive<>(MOEA.<DiscreteGene, double[], Vec<double[]>>toParetoSet(IntRange.of(max, max + 1)));
+    }
+
+    /**
+     * Add the population of an evolution result to the front.
+     *
+     * @param result evolution result of one generation
+     * @return whether the front changed
+     */
+    public boolean add(final EvolutionResult<DiscreteGene, Vec<double[]>> result) {
+        collector.accumulator().accept(container, result);
+        final ISeq<Phenotype<DiscreteGene, Vec<double[]>>> updated = collector.finisher().apply(container);
+        final boolean changed = !new HashSet<>(updated.asList()).equals(new HashSet<>(front.asList()));
+        front = updated;
+        return changed;
+    }
+
+    /**
+     * Get the current front.
+     *
+     * @return phenotypes of the front
+     */
+    public ISeq<Phenotype<DiscreteGene, Vec<double[]>>> front() {
+        return front;
+    }
+}
@@ -0,0 +1,55 @@
+package evo.search.ga;
+
+import io.jenetics.Phenotype;
+import io.jenetics.ext.moea.Vec;
+import io.jenetics.util.ISeq;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Retained member of the Pareto front of a multi-objective evolution.
+ *
+ * @author jotoh
+ * @see evo.search.io.entities.Configuration#getObjectives()
+ */
+@Getter
+@AllArgsConstructor
+public class ParetoMember implements Serializable {
+
+    /**
+     * Genes of the member's chromosome.
+     */
+    private final List<DiscreteGene> chromosome;
+
+    /**
+     * Values of the objectives in the order of the configured objectives.
+     */
+    private final double[] objectives;
+
+    /**
+     * Create a member from an evaluated phenotype.
+     *
+     * @param phenotype phenotype of the front
+     * @return member holding the phenotype's genes and objective values
+     */
+    public static ParetoMember of(final Phenotype<DiscreteGene, Vec<double[]>> phenotype) {
+        return new ParetoMember(
+                new ArrayList<>(ISeq.of(phenotype.genotype().chromosome()).asList()),
+                phenotype.fitness().data().clone()
+        );
+    }
+
+    /**
+     * Get the value of one objective.
+     *
+     * @param objective index of the objective
+     * @return value of the objective
+     */
+    public double getObjective(final int objective) {
+        return objectives[objective];
+    }
+}
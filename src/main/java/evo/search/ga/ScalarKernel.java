@@ -0,0 +1,46 @@
+package evo.search.ga;
+
+import evo.search.util.MathUtils;
+import evo.search.util.TrigTable;
+
+/**
+ * Fitness kernel computing one gene at a time.
+ * Runs on every Java runtime and is the reference for every other kernel.
+ *
+ * @author jotoh
+ */
+final class ScalarKernel implements FitnessKernel {
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void stepDistances(final short positions, final short[] position, final float[] distance, final int from, final int to, final double[] steps) {
+        final TrigTable table = TrigTable.of(positions);
+        for (int i = from; i < to; i++)
+            steps[i] = MathUtils.lawOfCosineByCosine(table.cos(position[i] - position[i - 1]), distance[i - 1], distance[i]);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double pathLength(final short positions, final short[] position, final float[] distance, final int size) {
+        final TrigTable table = TrigTable.of(positions);
+        double path = 0d;
+        for (int i = 1; i < size; i++)
+            path += MathUtils.lawOfCosineByCosine(table.cos(position[i] - position[i - 1]), distance[i - 1], distance[i]);
+        return path;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double sectorArea(final double sectorSine, final double[] maxDistance, final int positions) {
+        double area = MathUtils.areaInTriangleBySine(sectorSine, maxDistance[0], maxDistance[positions - 1]);
+        for (int i = 0; i < positions - 1; i++)
+            area += MathUtils.areaInTriangleBySine(sectorSine, maxDistance[i], maxDistance[i + 1]);
+        return area;
+    }
+}
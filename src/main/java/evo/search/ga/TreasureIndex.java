@@ -0,0 +1,241 @@
+package evo.search.ga;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Index of the treasures of a configuration bucketed by their ray and
+ * sorted by their distance within each ray.
+ * <p>
+ * The index computes the trace lengths to find all treasures in a single walk
+ * over a chromosome. A gene finds all not yet found treasures on its ray up to
+ * its distance, so every ray only has to advance a pointer into its sorted bucket.
+ *
+ * @author jotoh
+ * @see AnalysisUtils#traceLength(PackedChromosome, DiscreteGene)
+ */
+public final class TreasureIndex {
+
+    /**
+     * Scratch arrays of the current thread.
+     */
+    private static final ThreadLocal<Scratch> SCRATCH = ThreadLocal.withInitial(Scratch::new);
+
+    /**
+     * Copy of the treasures the index was built from.
+     */
+    private final List<DiscreteGene> treasures;
+
+    /**
+     * Distances of the treasures per ray in ascending order.
+     */
+    private final float[][] distances;
+
+    /**
+     * Indices of the treasures in {@link #treasures} per ray in the order of {@link #distances}.
+     */
+    private final int[][] indices;
+
+    /**
+     * Whether a treasure lies in the origin and is found without moving.
+     */
+    private final boolean[] inOrigin;
+
+    /**
+     * Build the index of a list of treasures.
+     *
+     * @param treasures treasures to index
+     */
+    public TreasureIndex(final List<DiscreteGene> treasures) {
+        this.treasures = new ArrayList<>(treasures);
+        this.inOrigin = new boolean[treasures.size()];
+
+        int rays = 0;
+        for (final DiscreteGene treasure : treasures)
+            rays = Math.max(rays, treasure.getPosition() + 1);
+
+        final int[] counts = new int[rays];
+        for (int i = 0; i < treasures.size(); i++) {
+            final DiscreteGene treasure = treasures.get(i);
+            inOrigin[i] = treasure.getPosition() == 0 && treasure.getDistance() <= 0;
+            if (!inOrigin[i])
+                counts[treasure.getPosition()]++;
+        }
+
+        distances = new float[rays][];
+        indices = new int[rays][];
+        for (int ray = 0; ray < rays; ray++) {
+            final int bucketRay = ray;
+            final Integer[] bucket = new Integer[counts[ray]];
+            for (int i = 0, j = 0; i < treasures.size(); i++)
+                if (!inOrigin[i] && treasures.get(i).getPosition() == bucketRay)
+                    bucket[j++] = i;
+            Arrays.sort(bucket, Comparator.comparing(i -> treasures.get(i).getDistance()));
+
+            distances[ray] = new float[bucket.length];
+            indices[ray] = new int[bucket.length];
+            for (int j = 0; j < bucket.length; j++) {
+                indices[ray][j] = bucket[j];
+                distances[ray][j] = treasures.get(bucket[j]).getDistance();
+            }
+        }
+    }
+
+    /**
+     * Check, if this index was built from the given treasures.
+     * The treasures are compared by their contents, so lists changed in place are detected.
+     *
+     * @param treasures treasures to check
+     * @return whether the index was built from equal treasures in the same order
+     */
+    public boolean isIndexOf(final List<DiscreteGene> treasures) {
+        return this.treasures.equals(treasures);
+    }
+
+    /**
+     * Get the amount of indexed treasures.
+     *
+     * @return amount of treasures
+     */
+    public int size() {
+        return inOrigin.length;
+    }
+
+    /**
+     * Compute the trace lengths the chromosome needs to find the first treasures.
+     * Treasures that are never found get the length of the whole trace.
+     * The walk stops as soon as all requested treasures are found.
+     *
+     * @param chromosome  chromosome walking the trace
+     * @param pathLengths path length from the origin to each gene, null to compute them during the walk
+     * @param amount      amount of treasures to find, starting with the first treasure
+     * @return trace length per treasure, zero for the treasures not requested
+     * @see #traceLengths(PackedChromosome, double[], int, double[])
+     */
+    public double[] traceLengths(final PackedChromosome chromosome, final double[] pathLengths, final int amount) {
+        return traceLengths(chromosome, pathLengths, amount, new double[inOrigin.length]);
+    }
+
+    /**
+     * Compute the trace lengths the chromosome needs to find the first treasures into an array.
+     * Uses scratch arrays of the calling thread, so a walk allocates nothing.
+     *
+     * @param chromosome  chromosome walking the trace
+     * @param pathLengths path length from the origin to each gene, null to compute them during the walk
+     * @param amount      amount of treasures to find, starting with the first treasure
+     * @param lengths     array of at least the amount of treasures to store the trace lengths in
+     * @return the array holding the trace length per treasure, zero for the treasures not requested
+     * @see #traceLengths(PackedChromosome, double[], int)
+     */
+    public double[] traceLengths(final PackedChromosome chromosome, final double[] pathLengths, final int amount, final double[] lengths) {
+        final int requested = Math.min(amount, inOrigin.length);
+        Arrays.fill(lengths, 0, inOrigin.length, 0);
+        final int[] found = SCRATCH.get().found(distances.length);
+
+        int remaining = 0;
+        for (int i = 0; i < requested; i++)
+            if (!inOrigin[i]) remaining++;
+
+        final int size = chromosome.size();
+        double path = 0;
+        int gene = 0;
+        for (; gene < size && remaining > 0; gene++) {
+            path = pathLength(chromosome, pathLengths, gene, path);
+
+            final int ray = chromosome.position(gene);
+            if (ray >= distances.length)
+                continue;
+
+            final float distance = chromosome.distance(gene);
+            final float[] rayDistances = distances[ray];
+            while (found[ray] < rayDistances.length && rayDistances[found[ray]] <= distance) {
+                final int treasure = indices[ray][found[ray]++];
+                if (treasure < requested) {
+                    lengths[treasure] = path;
+                    remaining--;
+                }
+            }
+        }
+
+        if (remaining > 0) {
+            for (; gene < size; gene++)
+                path = pathLength(chromosome, pathLengths, gene, path);
+            for (int ray = 0; ray < distances.length; ray++)
+                for (int j = found[ray]; j < indices[ray].length; j++)
+                    if (indices[ray][j] < requested)
+                        lengths[indices[ray][j]] = path;
+        }
+
+        return lengths;
+    }
+
+    /**
+     * Get an array of the calling thread to hold the trace lengths of this index's treasures.
+     * The array is reused by the thread's next call and may be longer than the amount of treasures.
+     *
+     * @return array of at least the length of the amount of treasures
+     */
+    public double[] lengthsBuffer() {
+        return SCRATCH.get().lengths(inOrigin.length);
+    }
+
+    /**
+     * Get the path length from the origin to a gene.
+     *
+     * @param chromosome  chromosome walking the trace
+     * @param pathLengths precomputed path lengths, may be null
+     * @param gene        index of the gene
+     * @param previous    path length to the previous gene
+     * @return path length to the gene
+     */
+    private static double pathLength(final PackedChromosome chromosome, final double[] pathLengths, final int gene, final double previous) {
+        if (pathLengths != null)
+            return pathLengths[gene];
+        return gene == 0 ? chromosome.distance(0) : previous + chromosome.distance(gene, gene - 1);
+    }
+
+    /**
+     * Reusable arrays of the trace length walk.
+     * The arrays only grow and are never shrunk.
+     */
+    private static final class Scratch {
+
+        /**
+         * Amount of found treasures per ray.
+         */
+        private int[] found = new int[0];
+
+        /**
+         * Trace lengths per treasure.
+         */
+        private double[] lengths = new double[0];
+
+        /**
+         * Get a cleared array to count the found treasures per ray.
+         *
+         * @param rays amount of rays
+         * @return zeroed array of at least the length of the amount of rays
+         */
+        private int[] found(final int rays) {
+            if (found.length < rays)
+                found = new int[rays];
+            else
+                Arrays.fill(found, 0, rays, 0);
+            return found;
+        }
+
+        /**
+         * Get an array to hold a trace length per treasure.
+         *
+         * @param treasures amount of treasures
+         * @return array of at least the length of the amount of treasures
+         */
+        private double[] lengths(final int treasures) {
+            if (lengths.length < treasures)
+                lengths = new double[treasures];
+            return lengths;
+        }
+    }
+}
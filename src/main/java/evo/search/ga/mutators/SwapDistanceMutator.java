@@ -1,7 +1,7 @@
 package evo.search.ga.mutators;
 
 import evo.search.ga.DiscreteGene;
-import io.jenetics.util.MSeq;
+import evo.search.ga.PackedChromosome;
 
 /**
  * Mutator which swaps whole the positions between {@link DiscreteGene}s.
@@ -20,17 +20,15 @@ public class SwapDistanceMutator extends SwapPropertyMutator {
 
     /**
      * Swap the distances of two {@link DiscreteGene}s in a
-     * chromosome sequence of {@link DiscreteGene}s.
+     * packed chromosome of {@link DiscreteGene}s.
      *
-     * @param mSeq chromosome sequence
-     * @param a    integer position a for swap
-     * @param b    integer position b for swap
+     * @param genes packed chromosome
+     * @param a     integer position a for swap
+     * @param b     integer position b for swap
      */
     @Override
-    protected void swapComponent(final MSeq<DiscreteGene> mSeq, final int a, final int b) {
-        final float temp = mSeq.get(a).getDistance();
-        mSeq.get(a).setDistance(mSeq.get(b).getDistance());
-        mSeq.get(b).setDistance(temp);
+    protected void swapComponent(final PackedChromosome genes, final int a, final int b) {
+        genes.swapDistances(a, b);
     }
 
 }
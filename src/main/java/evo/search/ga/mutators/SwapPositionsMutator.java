@@ -1,7 +1,7 @@
 package evo.search.ga.mutators;
 
 import evo.search.ga.DiscreteGene;
-import io.jenetics.util.MSeq;
+import evo.search.ga.PackedChromosome;
 
 /**
  * Mutator which swaps whole the positions between {@link DiscreteGene}s.
@@ -20,17 +20,15 @@ public class SwapPositionsMutator extends SwapPropertyMutator {
 
     /**
      * Swap the positions of two {@link DiscreteGene}s in a
-     * chromosome sequence of {@link DiscreteGene}s.
+     * packed chromosome of {@link DiscreteGene}s.
      *
-     * @param mSeq chromosome sequence
-     * @param a    integer position a for swap
-     * @param b    integer position b for swap
+     * @param genes packed chromosome
+     * @param a     integer position a for swap
+     * @param b     integer position b for swap
      */
     @Override
-    protected void swapComponent(final MSeq<DiscreteGene> mSeq, final int a, final int b) {
-        final short temp = mSeq.get(a).getPosition();
-        mSeq.get(a).setPosition(mSeq.get(b).getPosition());
-        mSeq.get(b).setPosition(temp);
+    protected void swapComponent(final PackedChromosome genes, final int a, final int b) {
+        genes.swapPositions(a, b);
     }
 
 }
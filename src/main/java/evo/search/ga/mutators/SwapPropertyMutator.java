@@ -1,9 +1,10 @@
 package evo.search.ga.mutators;
 
+import evo.search.ga.DiscreteChromosome;
 import evo.search.ga.DiscreteGene;
+import evo.search.ga.PackedChromosome;
 import io.jenetics.Chromosome;
 import io.jenetics.MutatorResult;
-import io.jenetics.util.MSeq;
 
 import java.util.Random;
 
@@ -27,12 +28,14 @@ public abstract class SwapPropertyMutator extends SwapGeneMutator {
     protected MutatorResult<Chromosome<DiscreteGene>> mutate(final Chromosome<DiscreteGene> chromosome, final double p, final Random random) {
         final MutatorResult<Chromosome<DiscreteGene>> result;
         if (chromosome.length() > 1) {
-            final MSeq<DiscreteGene> genes = MSeq.of(chromosome);
-            final int mutations = (int) indexes(random, genes.length(), p)
-                    .peek(i -> swapComponent(genes, i, random.nextInt(genes.length())))
+            final PackedChromosome origin = PackedChromosome.of(chromosome);
+            final PackedChromosome genes = origin.copy();
+            final int mutations = (int) indexes(random, genes.size(), p)
+                    .peek(i -> swapComponent(genes, i, random.nextInt(genes.size())))
                     .count();
+            genes.linkOrigin(origin);
             result = MutatorResult.of(
-                    chromosome.newInstance(genes.toISeq()),
+                    DiscreteChromosome.of(genes),
                     mutations
             );
         } else {
@@ -45,10 +48,10 @@ public abstract class SwapPropertyMutator extends SwapGeneMutator {
     /**
      * Swap a property of two genes at positions a and b.
      *
-     * @param mSeq sequence of genes
-     * @param a    position a
-     * @param b    position b
+     * @param genes packed copy of the chromosome
+     * @param a     position a
+     * @param b     position b
      */
-    protected abstract void swapComponent(final MSeq<DiscreteGene> mSeq, final int a, final int b);
+    protected abstract void swapComponent(final PackedChromosome genes, final int a, final int b);
 
 }
@@ -4,6 +4,8 @@ import evo.search.Evolution;
 import evo.search.Main;
 import evo.search.ga.DiscreteChromosome;
 import evo.search.ga.DiscreteGene;
+import evo.search.ga.FitnessMethod;
+import evo.search.ga.FitnessMethods;
 import evo.search.ga.mutators.DiscreteAlterer;
 import evo.search.ga.mutators.DistanceMutator;
 import evo.search.ga.mutators.SwapGeneMutator;
@@ -20,13 +22,22 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.dom4j.Attribute;
 import org.dom4j.Element;
 import org.dom4j.tree.DefaultElement;
 
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.XMLStreamWriter;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OptionalDataException;
 import java.io.Serializable;
 import java.lang.reflect.InvocationTargetException;
 import java.util.*;
+import java.util.concurrent.Executor;
 
 /**
  * Environment configuration for the evolution.
@@ -39,6 +50,12 @@ import java.util.*;
 @Data
 public class Configuration implements Cloneable, XmlEntity<Configuration>, Serializable {
 
+    /**
+     * Version of the serialized form.
+     * Has to be increased, if the serialized fields change incompatibly.
+     */
+    private static final long serialVersionUID = 1L;
+
     /**
      * Version for configuration compatibility checks.
      */
@@ -73,11 +90,13 @@ public class Configuration implements Cloneable, XmlEntity<Configuration>, Seria
 
     /**
      * Fitness method used to evaluate the individuals.
+     * Stored by its name in the configuration file.
      *
      * @see Evolution.Fitness
+     * @see FitnessMethods
      */
     @Builder.Default
-    private Evolution.Fitness fitness = Evolution.Fitness.MAX_AREA;
+    private FitnessMethod fitness = Evolution.Fitness.MAX_AREA;
 
     /**
      * List of alterers used during the {@link Evolution}'s mutation phase.
@@ -92,10 +111,10 @@ public class Configuration implements Cloneable, XmlEntity<Configuration>, Seria
 
     /**
      * Selection method for offspring.
+     * Serialized by its class name.
      */
     @Builder.Default
-    private Selector<DiscreteGene, Double> selector = new StochasticUniversalSelector<>();
-    //TODO:serialization
+    private transient Selector<DiscreteGene, Double> selector = new StochasticUniversalSelector<>();
 
     /**
      * Amount of offspring individuals.
@@ -128,30 +147,184 @@ public class Configuration implements Cloneable, XmlEntity<Configuration>, Seria
     private double distanceMutationDelta = 1.0;
 
     /**
-     * Parse a {@link DiscreteAlterer} from an {@link Element}.
+     * Amount of threads evaluating the fitness of a population.
+     * Zero or less uses all available processors, one evaluates on the evolution's own thread.
+     *
+     * @see evo.search.ga.BatchEvaluator
+     */
+    @Builder.Default
+    private int evaluationThreads = 0;
+
+    /**
+     * Executor evaluating the fitness of a population.
+     * If not set, every {@link Evolution} runs on its own executor
+     * with {@link #evaluationThreads} threads.
+     */
+    @Builder.Default
+    private transient Executor executor = null;
+
+    /**
+     * Maximum amount of fitness values cached during an evolution.
+     * Zero disables the cache.
+     *
+     * @see evo.search.ga.FitnessCache
+     */
+    @Builder.Default
+    private int fitnessCacheSize = 10000;
+
+    /**
+     * Policy of which parts of the generations are retained in the evolution's history.
+     * Retains the best phenotype of every generation by default, so long runs do not hold
+     * every population in memory.
+     *
+     * @see Evolution.HistoryRetention
+     */
+    @Builder.Default
+    private Evolution.HistoryRetention historyRetention = Evolution.HistoryRetention.BEST;
+
+    /**
+     * Generation interval between two retained generations
+     * of the {@link Evolution.HistoryRetention#SAMPLED} retention.
+     */
+    @Builder.Default
+    private int historySampleInterval = 100;
+
+    /**
+     * Amount of genes between two checkpoints of the incremental fitness evaluation.
+     * Zero or less evaluates every chromosome from its first gene.
+     *
+     * @see evo.search.ga.IncrementalEvaluation
+     */
+    @Builder.Default
+    private int checkpointInterval = 32;
+
+    /**
+     * Amount of islands evolving their own population.
+     * One evolves a single population, zero or less evolves one island per processor.
+     *
+     * @see Evolution.MigrationTopology
+     */
+    @Builder.Default
+    private int islands = 1;
+
+    /**
+     * Generation interval between two migrations between the islands.
+     */
+    @Builder.Default
+    private int migrationInterval = 10;
+
+    /**
+     * Amount of best individuals each island sends to each of its targets.
+     */
+    @Builder.Default
+    private int migrants = 1;
+
+    /**
+     * Topology the migrants are sent along.
+     */
+    @Builder.Default
+    private Evolution.MigrationTopology migrationTopology = Evolution.MigrationTopology.RING;
+
+    /**
+     * Amount of generations without improvement of the best fitness after which the evolution stops.
+     * Zero or less disables the criterion.
+     */
+    @Builder.Default
+    private int steadyGenerations = 0;
+
+    /**
+     * Best fitness at or below which the evolution stops.
+     * Negative infinity disables the criterion.
+     */
+    @Builder.Default
+    private double fitnessThreshold = Double.NEGATIVE_INFINITY;
+
+    /**
+     * Wall-clock budget of an evolution in milliseconds.
+     * Zero or less disables the criterion.
+     */
+    @Builder.Default
+    private long timeBudget = 0;
+
+    /**
+     * Budget of fitness evaluations of an evolution.
+     * Zero or less disables the criterion.
+     */
+    @Builder.Default
+    private long evaluationBudget = 0;
+
+    /**
+     * Fitness methods minimized together in a multi-objective evolution.
+     * With at least two objectives, the evolution keeps a Pareto front of them
+     * instead of minimizing the single {@link #fitness}.
+     *
+     * @see Evolution#getParetoFront()
+     */
+    @Builder.Default
+    private List<FitnessMethod> objectives = new ArrayList<>();
+
+    /**
+     * Maximum size of the Pareto front of a multi-objective evolution.
+     * Larger fronts are trimmed by crowding distance.
+     */
+    @Builder.Default
+    private int frontSize = 50;
+
+    /**
+     * Amount of generations between two saved resume checkpoints of a running evolution.
+     * Zero or less disables checkpoints by generations.
+     * Not to be confused with the {@link #checkpointInterval} of the incremental evaluation.
+     *
+     * @see Evolution#getCheckpointPath()
+     */
+    @Builder.Default
+    private int checkpointGenerations = 0;
+
+    /**
+     * Wall-clock period between two saved resume checkpoints of a running evolution in milliseconds.
+     * Zero or less disables checkpoints by time.
+     * Checkpoints are opt-in, an aborted evolution writes its checkpoint regardless.
+     *
+     * @see Evolution#getCheckpointPath()
+     */
+    @Builder.Default
+    private long checkpointPeriod = 0;
+
+    /**
+     * Parse a {@link DiscreteAlterer} from the attributes of an alterer element.
      *
-     * @param element element containing the discrete alterer
+     * @param method      class name of the alterer
+     * @param probability probability of the alterer, null for the standard probability
      * @return parsed discrete alterer
      * @see #parse(Element)
      */
-    private static DiscreteAlterer parseAlterer(final Element element) {
-        final Attribute methodAttribute = element.attribute("method");
-        final Attribute probabilityAttribute = element.attribute("probability");
-        if (methodAttribute == null) {
+    private static DiscreteAlterer parseAlterer(final String method, final String probability) {
+        if (method == null) {
             return null;
         }
-        double probability = .5;
+        double parsed = .5;
 
-        if (probabilityAttribute != null) {
+        if (probability != null) {
             try {
-                probability = Double.parseDouble(probabilityAttribute.getValue());
+                parsed = Double.parseDouble(probability);
             } catch (final NumberFormatException ignored) {
             }
         }
 
+        return createAlterer(method, parsed);
+    }
+
+    /**
+     * Create a {@link DiscreteAlterer} by its class name.
+     *
+     * @param method      class name of the alterer
+     * @param probability probability of the alterer
+     * @return created discrete alterer, null if it could not be created
+     */
+    private static DiscreteAlterer createAlterer(final String method, final double probability) {
         try {
             return (DiscreteAlterer) Class
-                    .forName(methodAttribute.getValue())
+                    .forName(method)
                     .getConstructor(double.class)
                     .newInstance(probability);
         } catch (final InstantiationException | IllegalAccessException | InvocationTargetException | NoSuchMethodException | ClassNotFoundException ignored) {
@@ -159,6 +332,75 @@ public class Configuration implements Cloneable, XmlEntity<Configuration>, Seria
         return null;
     }
 
+    /**
+     * Serialize the configuration with its transient selector by its class name
+     * and its transient alterers by their class names and probabilities.
+     *
+     * @param out object output stream
+     * @throws IOException if the configuration could not be written
+     */
+    private void writeObject(final ObjectOutputStream out) throws IOException {
+        out.defaultWriteObject();
+        out.writeUTF(selector.getClass().getName());
+        out.writeInt(alterers.size());
+        for (final DiscreteAlterer alterer : alterers) {
+            out.writeUTF(alterer.getClass().getName());
+            out.writeDouble(probability(alterer));
+        }
+    }
+
+    /**
+     * Deserialize the configuration and recreate its transient selector and alterers.
+     * Configurations serialized without them get the standard selector and no alterers.
+     *
+     * @param in object input stream
+     * @throws IOException            if the configuration could not be read
+     * @throws ClassNotFoundException if a class of the configuration is unknown
+     */
+    @SuppressWarnings("unchecked")
+    private void readObject(final ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        selector = new StochasticUniversalSelector<>();
+        int size;
+        try {
+            final String selectorClass = in.readUTF();
+            try {
+                selector = (Selector<DiscreteGene, Double>) Class.forName(selectorClass).getConstructor().newInstance();
+            } catch (final InstantiationException | IllegalAccessException | InvocationTargetException | NoSuchMethodException | ClassNotFoundException | ClassCastException ignored) {
+            }
+            size = in.readInt();
+        } catch (final OptionalDataException | EOFException e) {
+            size = 0;
+        }
+        final List<DiscreteAlterer> alterers = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            final DiscreteAlterer alterer = createAlterer(in.readUTF(), in.readDouble());
+            if (alterer != null)
+                alterers.add(alterer);
+        }
+        this.alterers = alterers;
+        fitness = resolve(fitness);
+        if (objectives != null)
+            objectives = ListUtils.map(objectives, Configuration::resolve);
+    }
+
+    /**
+     * Resolve a deserialized fitness method to the registered method of the same name.
+     * Provided methods are deserialized as new instances and would not be identical to the selectable ones.
+     *
+     * @param method deserialized fitness method
+     * @return registered fitness method, the deserialized one if its name is unknown
+     */
+    private static FitnessMethod resolve(final FitnessMethod method) {
+        if (method == null)
+            return null;
+        try {
+            return FitnessMethods.forName(method.getName());
+        } catch (final IllegalArgumentException ignored) {
+            return method;
+        }
+    }
+
     /**
      * Write a {@link DiscreteGene} to an {@link Element}.
      *
@@ -180,33 +422,41 @@ public class Configuration implements Cloneable, XmlEntity<Configuration>, Seria
      * @see #serialize()
      */
     private static Element writeAlterer(final DiscreteAlterer alterer) {
-        double probability = .5;
-        if (alterer instanceof AbstractAlterer) {
-            probability = ((AbstractAlterer<?, ?>) alterer).probability();
-        }
         return new DefaultElement("alterer")
                 .addAttribute("method", alterer.getClass().getName())
-                .addAttribute("probability", Double.toString(probability));
+                .addAttribute("probability", Double.toString(probability(alterer)));
+    }
+
+    /**
+     * Get the probability of a {@link DiscreteAlterer}.
+     *
+     * @param alterer alterer to get the probability of
+     * @return probability of the alterer, the standard probability if it has none
+     */
+    private static double probability(final DiscreteAlterer alterer) {
+        if (alterer instanceof AbstractAlterer) {
+            return ((AbstractAlterer<?, ?>) alterer).probability();
+        }
+        return .5;
     }
 
     /**
-     * Parse a treasure-{@link DiscreteGene} from an {@link Element}.
+     * Parse a treasure-{@link DiscreteGene} from the attributes of a treasure element.
      *
-     * @param element element containing the discrete alterer
+     * @param position position attribute of the treasure
+     * @param distance distance attribute of the treasure
      * @return parsed treasure point
      * @see #parse(Element)
      */
-    private DiscreteGene parseTreasure(final Element element) {
-        final Attribute positionAttribute = element.attribute("position");
-        final Attribute distanceAttribute = element.attribute("distance");
-        if (positionAttribute == null || distanceAttribute == null) {
+    private DiscreteGene parseTreasure(final String position, final String distance) {
+        if (position == null || distance == null) {
             return null;
         }
         try {
             return new DiscreteGene(
                     positions,
-                    Integer.parseInt(positionAttribute.getValue()),
-                    Double.parseDouble(distanceAttribute.getValue())
+                    Integer.parseInt(position),
+                    Double.parseDouble(distance)
             );
         } catch (final NumberFormatException | NullPointerException ignored) {
             return null;
@@ -222,6 +472,122 @@ public class Configuration implements Cloneable, XmlEntity<Configuration>, Seria
         }
     }
 
+    /**
+     * Parse a property of the configuration.
+     *
+     * @param name  name of the property
+     * @param value value of the property
+     * @see #properties()
+     */
+    private void parseProperty(final String name, final String value) {
+        switch (name) {
+            case "version":
+                setVersion(value);
+                break;
+            case "name":
+                setName(value);
+                break;
+            case "limit":
+                setLimit(Integer.parseInt(value));
+                break;
+            case "positions":
+                setPositions(Integer.parseInt(value));
+                break;
+            case "offspring":
+                setOffspring(Integer.parseInt(value));
+                break;
+            case "population":
+                setPopulation(Integer.parseInt(value));
+                break;
+            case "fitness":
+                FitnessMethod fitness;
+                try {
+                    fitness = FitnessMethods.forName(value);
+                } catch (final IllegalArgumentException ignored) {
+                    fitness = Evolution.Fitness.MAX_AREA;
+                }
+                setFitness(fitness);
+                break;
+            case "noPermutation":
+                setChooseWithoutPermutation(Boolean.parseBoolean(value));
+                break;
+            case "distanceDelta":
+                setDistanceMutationDelta(Double.parseDouble(value));
+                break;
+            case "evaluationThreads":
+                setEvaluationThreads(Integer.parseInt(value));
+                break;
+            case "fitnessCacheSize":
+                setFitnessCacheSize(Integer.parseInt(value));
+                break;
+            case "historyRetention":
+                Evolution.HistoryRetention retention;
+                try {
+                    retention = Evolution.HistoryRetention.valueOf(value);
+                } catch (final IllegalArgumentException ignored) {
+                    retention = Evolution.HistoryRetention.BEST;
+                }
+                setHistoryRetention(retention);
+                break;
+            case "historySampleInterval":
+                setHistorySampleInterval(Integer.parseInt(value));
+                break;
+            case "checkpointInterval":
+                setCheckpointInterval(Integer.parseInt(value));
+                break;
+            case "islands":
+                setIslands(Integer.parseInt(value));
+                break;
+            case "migrationInterval":
+                setMigrationInterval(Integer.parseInt(value));
+                break;
+            case "migrants":
+                setMigrants(Integer.parseInt(value));
+                break;
+            case "steadyGenerations":
+                setSteadyGenerations(Integer.parseInt(value));
+                break;
+            case "fitnessThreshold":
+                setFitnessThreshold(Double.parseDouble(value));
+                break;
+            case "timeBudget":
+                setTimeBudget(Long.parseLong(value));
+                break;
+            case "evaluationBudget":
+                setEvaluationBudget(Long.parseLong(value));
+                break;
+            case "objectives":
+                final List<FitnessMethod> objectives = new ArrayList<>();
+                for (final String objective : value.split(",")) {
+                    try {
+                        if (!objective.isBlank())
+                            objectives.add(FitnessMethods.forName(objective.trim()));
+                    } catch (final IllegalArgumentException ignored) {
+                    }
+                }
+                setObjectives(objectives);
+                break;
+            case "frontSize":
+                setFrontSize(Integer.parseInt(value));
+                break;
+            case "checkpointGenerations":
+                setCheckpointGenerations(Integer.parseInt(value));
+                break;
+            case "checkpointPeriod":
+                setCheckpointPeriod(Long.parseLong(value));
+                break;
+            case "migrationTopology":
+                Evolution.MigrationTopology topology;
+                try {
+                    topology = Evolution.MigrationTopology.valueOf(value);
+                } catch (final IllegalArgumentException ignored) {
+                    topology = Evolution.MigrationTopology.RING;
+                }
+                setMigrationTopology(topology);
+                break;
+        }
+    }
+
     @Override
     public Configuration parse(final Element rootElement) {
 
@@ -229,50 +595,14 @@ public class Configuration implements Cloneable, XmlEntity<Configuration>, Seria
 
         final Element properties = rootElement.element("properties");
 
-        XmlService.readProperties(properties, (name, value) -> {
-            switch (name) {
-                case "version":
-                    setVersion(value);
-                    break;
-                case "name":
-                    setName(value);
-                    break;
-                case "limit":
-                    setLimit(Integer.parseInt(value));
-                    break;
-                case "positions":
-                    setPositions(Integer.parseInt(value));
-                    break;
-                case "offspring":
-                    setOffspring(Integer.parseInt(value));
-                    break;
-                case "population":
-                    setPopulation(Integer.parseInt(value));
-                    break;
-                case "fitness":
-                    Evolution.Fitness fitness;
-                    try {
-                        fitness = Evolution.Fitness.valueOf(value);
-                    } catch (final IllegalArgumentException ignored) {
-                        fitness = Evolution.Fitness.MAX_AREA;
-                    }
-                    setFitness(fitness);
-                    break;
-                case "noPermutation":
-                    setChooseWithoutPermutation(Boolean.parseBoolean(value));
-                    break;
-                case "distanceDelta":
-                    setDistanceMutationDelta(Double.parseDouble(value));
-                    break;
-            }
-        });
+        XmlService.readProperties(properties, this::parseProperty);
 
 
         final Element treasuresElement = rootElement.element("treasures");
         if (treasuresElement != null) {
             final ArrayList<DiscreteGene> treasures = new ArrayList<>();
             XmlService.forEach("treasure", treasuresElement, element -> {
-                final DiscreteGene gene = parseTreasure(element);
+                final DiscreteGene gene = parseTreasure(element.attributeValue("position"), element.attributeValue("distance"));
                 if (gene != null)
                     treasures.add(gene);
             });
@@ -298,7 +628,7 @@ public class Configuration implements Cloneable, XmlEntity<Configuration>, Seria
             final ArrayList<DiscreteAlterer> alterers = new ArrayList<>();
             XmlService.forEach("alterer", alterersElement, element -> {
                 try {
-                    final DiscreteAlterer alterer = parseAlterer(element);
+                    final DiscreteAlterer alterer = parseAlterer(element.attributeValue("method"), element.attributeValue("probability"));
                     if (alterer != null) {
                         alterers.add(alterer);
                     }
@@ -311,24 +641,49 @@ public class Configuration implements Cloneable, XmlEntity<Configuration>, Seria
         return this;
     }
 
+    /**
+     * Get the properties of the configuration in the order they are serialized.
+     *
+     * @return properties by their names
+     * @see #parseProperty(String, String)
+     */
+    private Map<String, Object> properties() {
+        final Map<String, Object> properties = new LinkedHashMap<>();
+        properties.put("name", getName());
+        properties.put("version", getVersion());
+        properties.put("limit", getLimit());
+        properties.put("positions", getPositions());
+        properties.put("offspring", getOffspring());
+        properties.put("population", getPopulation());
+        properties.put("fitness", getFitness().getName());
+        properties.put("noPermutation", isChooseWithoutPermutation());
+        properties.put("distanceDelta", getDistanceMutationDelta());
+        properties.put("evaluationThreads", getEvaluationThreads());
+        properties.put("fitnessCacheSize", getFitnessCacheSize());
+        properties.put("historyRetention", getHistoryRetention().name());
+        properties.put("historySampleInterval", getHistorySampleInterval());
+        properties.put("checkpointInterval", getCheckpointInterval());
+        properties.put("islands", getIslands());
+        properties.put("migrationInterval", getMigrationInterval());
+        properties.put("migrants", getMigrants());
+        properties.put("migrationTopology", getMigrationTopology().name());
+        properties.put("steadyGenerations", getSteadyGenerations());
+        properties.put("fitnessThreshold", getFitnessThreshold());
+        properties.put("timeBudget", getTimeBudget());
+        properties.put("evaluationBudget", getEvaluationBudget());
+        properties.put("objectives", String.join(",", ListUtils.map(getObjectives(), FitnessMethod::getName)));
+        properties.put("frontSize", getFrontSize());
+        properties.put("checkpointGenerations", getCheckpointGenerations());
+        properties.put("checkpointPeriod", getCheckpointPeriod());
+        return properties;
+    }
+
     @Override
     public Element serialize() {
         final Element root = new DefaultElement("configuration");
         final Element propertiesElement = root.addElement("properties");
 
-        Arrays.asList(
-                XmlService.writeProperty("name", getName()),
-                XmlService.writeProperty("version", getVersion()),
-                XmlService.writeProperty("limit", getLimit()),
-                XmlService.writeProperty("positions", getPositions()),
-                XmlService.writeProperty("offspring", getOffspring()),
-                XmlService.writeProperty("population", getPopulation()),
-                XmlService.writeProperty("fitness", getFitness().name()),
-                XmlService.writeProperty("noPermutation", isChooseWithoutPermutation()),
-                XmlService.writeProperty("distanceDelta", getDistanceMutationDelta())
-
-        )
-                .forEach(propertiesElement::add);
+        properties().forEach((name, value) -> propertiesElement.add(XmlService.writeProperty(name, value)));
 
         final Element treasuresElement = root.addElement("treasures");
         XmlService.appendElementList(treasuresElement, getTreasures(), Configuration::writeTreasure);
@@ -342,6 +697,171 @@ public class Configuration implements Cloneable, XmlEntity<Configuration>, Seria
         return root;
     }
 
+    /**
+     * {@inheritDoc}
+     * Streams the configuration without building a document.
+     */
+    @Override
+    public void write(final XMLStreamWriter writer) throws XMLStreamException {
+        writer.writeStartElement("configuration");
+
+        writer.writeStartElement("properties");
+        for (final Map.Entry<String, Object> property : properties().entrySet())
+            XmlService.writeProperty(writer, property.getKey(), property.getValue());
+        writer.writeEndElement();
+
+        writer.writeStartElement("treasures");
+        for (final DiscreteGene treasure : getTreasures()) {
+            writer.writeEmptyElement("treasure");
+            writer.writeAttribute("position", String.valueOf(treasure.getPosition()));
+            writer.writeAttribute("distance", String.valueOf(treasure.getDistance()));
+        }
+        writer.writeEndElement();
+
+        writer.writeStartElement("distances");
+        for (final Double distance : getDistances()) {
+            writer.writeStartElement("distance");
+            writer.writeCharacters(String.valueOf(distance));
+            writer.writeEndElement();
+        }
+        writer.writeEndElement();
+
+        writer.writeStartElement("alterers");
+        for (final DiscreteAlterer alterer : getAlterers()) {
+            writer.writeEmptyElement("alterer");
+            writer.writeAttribute("method", alterer.getClass().getName());
+            writer.writeAttribute("probability", Double.toString(probability(alterer)));
+        }
+        writer.writeEndElement();
+
+        writer.writeEndElement();
+    }
+
+    /**
+     * {@inheritDoc}
+     * Parses the configuration from the stream without building a document.
+     */
+    @Override
+    public Configuration read(final XMLStreamReader reader) throws XMLStreamException {
+        List<DiscreteGene> treasures = null;
+        List<Double> distances = null;
+        List<DiscreteAlterer> alterers = null;
+
+        int depth = 1;
+        while (depth > 0 && reader.hasNext()) {
+            final int event = reader.next();
+            if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+                continue;
+            }
+            if (event != XMLStreamConstants.START_ELEMENT)
+                continue;
+            depth++;
+            switch (reader.getLocalName()) {
+                case "property":
+                    XmlService.readProperty(reader, this::parseProperty);
+                    break;
+                case "treasures":
+                    treasures = new ArrayList<>();
+                    break;
+                case "treasure":
+                    final DiscreteGene gene = parseTreasure(reader.getAttributeValue(null, "position"), reader.getAttributeValue(null, "distance"));
+                    if (gene != null && treasures != null)
+                        treasures.add(gene);
+                    break;
+                case "distances":
+                    distances = new ArrayList<>();
+                    break;
+                case "distance":
+                    final String text = reader.getElementText();
+                    depth--;
+                    try {
+                        if (distances != null)
+                            distances.add(Double.parseDouble(text));
+                    } catch (final NumberFormatException ignored) {
+                    }
+                    break;
+                case "alterers":
+                    alterers = new ArrayList<>();
+                    break;
+                case "alterer":
+                    final DiscreteAlterer alterer = parseAlterer(reader.getAttributeValue(null, "method"), reader.getAttributeValue(null, "probability"));
+                    if (alterer != null && alterers != null)
+                        alterers.add(alterer);
+                    break;
+            }
+        }
+
+        if (treasures != null)
+            setTreasures(treasures);
+        if (distances != null)
+            setDistances(distances);
+        if (alterers != null)
+            setAlterers(alterers);
+        return this;
+    }
+
+    /**
+     * Get the amount of threads used to evaluate the fitness of a population.
+     *
+     * @return amount of evaluation threads, at least one
+     */
+    public int getEvaluationParallelism() {
+        return evaluationThreads > 0 ? evaluationThreads : Runtime.getRuntime().availableProcessors();
+    }
+
+    /**
+     * Check the stop criteria after a generation.
+     * The generation limit and the abortion are checked by the evolution itself.
+     *
+     * @param bestFitness       best fitness so far
+     * @param steadyGenerations amount of generations the best fitness did not improve
+     * @param elapsed           elapsed wall-clock time in milliseconds
+     * @param evaluations       amount of fitness evaluations so far
+     * @return reason to stop, null if the evolution proceeds
+     */
+    public Evolution.StopReason stopReason(final double bestFitness, final int steadyGenerations, final long elapsed, final long evaluations) {
+        if (bestFitness <= fitnessThreshold)
+            return Evolution.StopReason.FITNESS_THRESHOLD;
+        if (this.steadyGenerations > 0 && steadyGenerations >= this.steadyGenerations)
+            return Evolution.StopReason.STEADY_FITNESS;
+        if (timeBudget > 0 && elapsed >= timeBudget)
+            return Evolution.StopReason.TIME_BUDGET;
+        if (evaluationBudget > 0 && evaluations >= evaluationBudget)
+            return Evolution.StopReason.EVALUATION_BUDGET;
+        return null;
+    }
+
+    /**
+     * Check, if a resume checkpoint is due.
+     *
+     * @param generations generations since the last checkpoint
+     * @param elapsed     milliseconds since the last checkpoint
+     * @return whether the generation or the time interval passed
+     */
+    public boolean isCheckpointDue(final int generations, final long elapsed) {
+        return checkpointGenerations > 0 && generations >= checkpointGenerations
+                || checkpointPeriod > 0 && elapsed >= checkpointPeriod;
+    }
+
+    /**
+     * Check, if the evolution minimizes multiple objectives.
+     *
+     * @return whether at least two objectives are configured
+     */
+    public boolean isMultiObjective() {
+        return objectives != null && objectives.size() > 1;
+    }
+
+    /**
+     * Get the amount of islands evolved in parallel.
+     *
+     * @return amount of islands, at least one
+     */
+    public int getIslandCount() {
+        return islands > 0 ? islands : Runtime.getRuntime().availableProcessors();
+    }
+
     /**
      * Shuffle a new chromosome with {@link DiscreteGene}s from the distance list.
      *
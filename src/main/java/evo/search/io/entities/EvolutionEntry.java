@@ -0,0 +1,115 @@
+package evo.search.io.entities;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.dom4j.Element;
+import org.dom4j.tree.DefaultElement;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+
+/**
+ * Summary of a saved evolution in the project's {@link EvolutionIndex}.
+ * Describes a saved run without reading its evolution file.
+ *
+ * @author jotoh
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EvolutionEntry implements XmlEntity<EvolutionEntry> {
+
+    /**
+     * Date format used to save the {@link #saved} property.
+     */
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ISO_DATE_TIME;
+
+    /**
+     * Number of the saved run, which is part of its file names.
+     */
+    int id;
+
+    /**
+     * File name of the evolution in the project directory.
+     */
+    String file = "";
+
+    /**
+     * Name of the run's configuration.
+     */
+    String configuration = "Unknown";
+
+    /**
+     * Name of the run's fitness method.
+     */
+    String fitness = "Unknown";
+
+    /**
+     * Amount of evolved generations.
+     */
+    long generations;
+
+    /**
+     * Best fitness of the run, {@link Double#NaN} if there is none.
+     */
+    double bestFitness = Double.NaN;
+
+    /**
+     * Time the run was saved.
+     */
+    LocalDateTime saved = LocalDateTime.MIN;
+
+    /**
+     * Size of the evolution file in bytes.
+     */
+    long size;
+
+    /**
+     * Parse an {@link EvolutionEntry} from an {@link Element}.
+     *
+     * @param element element to parse
+     * @return parsed evolution entry, null if the element misses its id or file
+     */
+    @Override
+    public EvolutionEntry parse(final Element element) {
+        final String idValue = element.attributeValue("id");
+        final String fileValue = element.attributeValue("file");
+        if (idValue == null || fileValue == null)
+            return null;
+        try {
+            id = Integer.parseInt(idValue);
+            file = fileValue;
+            configuration = element.attributeValue("configuration", "Unknown");
+            fitness = element.attributeValue("fitness", "Unknown");
+            generations = Long.parseLong(element.attributeValue("generations", "0"));
+            bestFitness = Double.parseDouble(element.attributeValue("bestFitness", "NaN"));
+            size = Long.parseLong(element.attributeValue("size", "0"));
+            final String savedValue = element.attributeValue("saved");
+            saved = savedValue == null ? LocalDateTime.MIN : LocalDateTime.parse(savedValue, DATE_FORMAT);
+        } catch (final NumberFormatException | DateTimeParseException ignored) {
+            return null;
+        }
+        return this;
+    }
+
+    /**
+     * Serialize an {@link EvolutionEntry} to an {@link Element}.
+     *
+     * @return serialized evolution entry
+     */
+    @Override
+    public Element serialize() {
+        return new DefaultElement("evolution")
+                .addAttribute("id", Integer.toString(id))
+                .addAttribute("file", file)
+                .addAttribute("configuration", configuration)
+                .addAttribute("fitness", fitness)
+                .addAttribute("generations", Long.toString(generations))
+                .addAttribute("bestFitness", Double.toString(bestFitness))
+                .addAttribute("saved", DATE_FORMAT.format(saved))
+                .addAttribute("size", Long.toString(size));
+    }
+
+}
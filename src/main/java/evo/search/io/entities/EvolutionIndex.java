@@ -0,0 +1,64 @@
+package evo.search.io.entities;
+
+import evo.search.io.service.XmlService;
+import lombok.Data;
+import org.dom4j.Element;
+import org.dom4j.tree.DefaultElement;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Index of the evolutions saved in a project.
+ * Lists the saved runs and numbers the next one without touching their files.
+ *
+ * @author jotoh
+ * @see EvolutionEntry
+ */
+@Data
+public class EvolutionIndex implements XmlEntity<EvolutionIndex> {
+
+    /**
+     * Number of the next saved run.
+     */
+    int next;
+
+    /**
+     * Entries of the saved runs in the order they were saved.
+     */
+    List<EvolutionEntry> entries = new ArrayList<>();
+
+    /**
+     * Add the entry of a saved run and advance the {@link #next} number past it.
+     *
+     * @param entry entry of the saved run
+     */
+    public void add(final EvolutionEntry entry) {
+        entries.add(entry);
+        next = Math.max(next, entry.getId() + 1);
+    }
+
+    @Override
+    public EvolutionIndex parse(final Element element) {
+        if (element == null) return this;
+        try {
+            next = Integer.parseInt(element.attributeValue("next", "0"));
+        } catch (final NumberFormatException ignored) {
+        }
+        XmlService.readElementList("evolution", element, entry -> new EvolutionEntry().parse(entry))
+                .stream()
+                .filter(Objects::nonNull)
+                .forEach(this::add);
+        return this;
+    }
+
+    @Override
+    public Element serialize() {
+        final Element root = new DefaultElement("evolutions")
+                .addAttribute("next", Integer.toString(next));
+        XmlService.appendElementList(root, entries, EvolutionEntry::serialize);
+        return root;
+    }
+
+}
@@ -1,9 +1,18 @@
 package evo.search.io.entities;
 
+import evo.search.io.service.XmlService;
 import org.dom4j.Element;
 
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.XMLStreamWriter;
+
 /**
  * Entity interface for objects which can be parsed from and converted to xml.
+ * <p>
+ * Besides the {@link Element} based methods, entities can be streamed with StAX.
+ * The streaming methods default to the element based ones and are overridden by
+ * entities, which may grow too large to be held as a document.
  *
  * @param <T> return type of the parsed {@link Element}
  */
@@ -24,4 +33,27 @@ public interface XmlEntity<T> {
      */
     T parse(Element element);
 
+    /**
+     * Write the entity as element to a xml stream.
+     * The written element equals the {@link #serialize()}d one.
+     *
+     * @param writer xml stream writer
+     * @throws XMLStreamException if the entity could not be written
+     */
+    default void write(final XMLStreamWriter writer) throws XMLStreamException {
+        XmlService.writeElement(writer, serialize());
+    }
+
+    /**
+     * Read the entity from a xml stream positioned at the start of the entity's element.
+     * The reader is left at the end of the element.
+     *
+     * @param reader xml stream reader
+     * @return parsed entity
+     * @throws XMLStreamException if the entity could not be read
+     */
+    default T read(final XMLStreamReader reader) throws XMLStreamException {
+        return parse(XmlService.readElement(reader));
+    }
+
 }
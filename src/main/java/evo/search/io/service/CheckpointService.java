@@ -0,0 +1,166 @@
+package evo.search.io.service;
+
+import evo.search.Evolution;
+import evo.search.ga.Checkpoint;
+import evo.search.ga.DiscreteChromosome;
+import evo.search.ga.DiscreteGene;
+import evo.search.ga.PackedChromosome;
+import evo.search.io.entities.Configuration;
+import io.jenetics.Genotype;
+import io.jenetics.util.ISeq;
+import io.jenetics.util.MSeq;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Checkpoint file service.
+ * <p>
+ * A checkpoint file starts with the {@link #MAGIC} number and the format {@link #VERSION},
+ * followed by the configuration as xml, the counters of the stop criteria, the state of the
+ * seeded random and the populations of the islands. It ends with the retained history in the
+ * format of the {@link EvolutionFileService}. Checkpoints are written atomically, so a crash
+ * while writing leaves the previous checkpoint intact.
+ *
+ * @author jotoh
+ * @see Checkpoint
+ */
+@Slf4j
+public class CheckpointService {
+
+    /**
+     * Magic number of checkpoint files ("EVOC").
+     */
+    public static final int MAGIC = 0x45564F43;
+
+    /**
+     * Current version of the checkpoint format.
+     */
+    public static final short VERSION = 1;
+
+    /**
+     * Write a checkpoint atomically.
+     *
+     * @param path       path of the checkpoint file
+     * @param checkpoint checkpoint to write
+     * @throws IOException if the checkpoint could not be written
+     */
+    public static void write(final Path path, final Checkpoint checkpoint) throws IOException {
+        FileService.writeAtomic(path, outputStream -> {
+            final DataOutputStream out = new DataOutputStream(new BufferedOutputStream(outputStream));
+            out.writeInt(MAGIC);
+            out.writeShort(VERSION);
+
+            final ByteArrayOutputStream configuration = new ByteArrayOutputStream();
+            XmlService.write(configuration, checkpoint.getConfiguration());
+            out.writeInt(configuration.size());
+            configuration.writeTo(out);
+
+            out.writeLong(checkpoint.getGeneration());
+            out.writeInt(checkpoint.getSteadyGenerations());
+            out.writeLong(checkpoint.getElapsed());
+            out.writeLong(checkpoint.getEvaluations());
+
+            final byte[] randomState = checkpoint.getRandomState();
+            out.writeInt(randomState == null ? -1 : randomState.length);
+            if (randomState != null)
+                out.write(randomState);
+
+            out.writeInt(checkpoint.getPopulations().size());
+            for (final ISeq<Genotype<DiscreteGene>> population : checkpoint.getPopulations()) {
+                out.writeInt(population.size());
+                for (final Genotype<DiscreteGene> genotype : population)
+                    EvolutionFileService.writeChromosome(out, PackedChromosome.of(genotype.chromosome()));
+            }
+            out.flush();
+
+            EvolutionFileService.write(
+                    Evolution.builder()
+                            .history(checkpoint.getHistory())
+                            .bestPhenotype(checkpoint.getBest())
+                            .paretoFront(checkpoint.getFront())
+                            .build(),
+                    outputStream
+            );
+        });
+    }
+
+    /**
+     * Read a checkpoint.
+     *
+     * @param path path of the checkpoint file
+     * @return read checkpoint
+     * @throws IOException if the file could not be read or is no checkpoint file
+     */
+    public static Checkpoint read(final Path path) throws IOException {
+        try (final InputStream inputStream = new BufferedInputStream(Files.newInputStream(path))) {
+            final DataInputStream in = new DataInputStream(inputStream);
+            if (in.readInt() != MAGIC)
+                throw new IOException("No checkpoint file.");
+            final short version = in.readShort();
+            if (version > VERSION)
+                throw new IOException("Unsupported checkpoint file version " + version + ".");
+
+            final byte[] xml = new byte[in.readInt()];
+            in.readFully(xml);
+            final Configuration configuration = XmlService.read(new ByteArrayInputStream(xml), new Configuration());
+
+            final long generation = in.readLong();
+            final int steadyGenerations = in.readInt();
+            final long elapsed = in.readLong();
+            final long evaluations = in.readLong();
+
+            final int randomLength = in.readInt();
+            final byte[] randomState = randomLength < 0 ? null : new byte[randomLength];
+            if (randomState != null)
+                in.readFully(randomState);
+
+            final int islands = in.readInt();
+            final List<ISeq<Genotype<DiscreteGene>>> populations = new ArrayList<>(islands);
+            for (int island = 0; island < islands; island++) {
+                final MSeq<Genotype<DiscreteGene>> population = MSeq.ofLength(in.readInt());
+                for (int i = 0; i < population.size(); i++)
+                    population.set(i, Genotype.of(DiscreteChromosome.of(EvolutionFileService.readChromosome(in))));
+                populations.add(population.toISeq());
+            }
+
+            final Evolution evolution = EvolutionFileService.read(inputStream);
+            return new Checkpoint(
+                    configuration,
+                    generation,
+                    steadyGenerations,
+                    elapsed,
+                    evaluations,
+                    randomState,
+                    populations,
+                    evolution.getHistory(),
+                    evolution.getBestPhenotype(),
+                    evolution.getParetoFront()
+            );
+        }
+    }
+
+    /**
+     * Delete a checkpoint file, once its evolution finished.
+     *
+     * @param path path of the checkpoint file
+     */
+    public static void delete(final Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (final IOException e) {
+            log.error("Could not delete the checkpoint " + path, e);
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package evo.search.io.service;
+
+import evo.search.io.entities.Configuration;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Persistent cache of parsed configuration files.
+ * <p>
+ * Configurations are cached by their file name together with the modification time
+ * and the size of their file, so changed files are parsed again. The digest of each
+ * configuration is cached with it, so unchanged files are neither parsed nor digested.
+ * The cache is kept in the hidden project folder and written with the object serialization.
+ *
+ * @author jotoh
+ * @see ProjectService#loadProjectFromDirectory(Path)
+ */
+@Slf4j
+class ConfigurationCache {
+
+    /**
+     * Cached configurations by their file names.
+     */
+    private final Map<String, Entry> entries;
+
+    /**
+     * Whether the cache changed since it was loaded.
+     */
+    private volatile boolean changed;
+
+    /**
+     * Construct a cache.
+     *
+     * @param entries cached configurations by their file names
+     */
+    private ConfigurationCache(final Map<String, Entry> entries) {
+        this.entries = new ConcurrentHashMap<>(entries);
+    }
+
+    /**
+     * Load a cache file.
+     * A missing or unreadable cache file results in an empty cache.
+     *
+     * @param file cache file
+     * @return loaded cache
+     */
+    @SuppressWarnings("unchecked")
+    static ConfigurationCache load(final Path file) {
+        if (Files.notExists(file))
+            return new ConfigurationCache(new HashMap<>());
+        try (final InputStream inputStream = new BufferedInputStream(Files.newInputStream(file));
+             final ObjectInputStream in = new ObjectInputStream(inputStream)) {
+            return new ConfigurationCache((Map<String, Entry>) in.readObject());
+        } catch (final IOException | ClassNotFoundException | ClassCastException e) {
+            log.debug("Discarding the configuration cache " + file, e);
+            final ConfigurationCache cache = new ConfigurationCache(new HashMap<>());
+            cache.changed = true;
+            return cache;
+        }
+    }
+
+    /**
+     * Get the cached configuration of an unchanged file.
+     *
+     * @param name       file name of the configuration
+     * @param attributes current attributes of the file
+     * @return cached configuration, null if the file is not cached or changed
+     */
+    Configuration get(final String name, final BasicFileAttributes attributes) {
+        final Entry entry = entries.get(name);
+        if (entry == null
+                || entry.modified != attributes.lastModifiedTime().toMillis()
+                || entry.size != attributes.size())
+            return null;
+        return entry.configuration;
+    }
+
+    /**
+     * Get the cached digest of a configuration.
+     *
+     * @param name file name of the configuration
+     * @return digest of the configuration's xml document, null if the file is not cached
+     */
+    String getDigest(final String name) {
+        final Entry entry = entries.get(name);
+        return entry == null ? null : entry.digest;
+    }
+
+    /**
+     * Cache the parsed configuration of a file.
+     *
+     * @param name          file name of the configuration
+     * @param attributes    attributes of the file
+     * @param configuration parsed configuration
+     * @param digest        digest of the configuration's xml document
+     */
+    void put(final String name, final BasicFileAttributes attributes, final Configuration configuration, final String digest) {
+        entries.put(name, new Entry(attributes.lastModifiedTime().toMillis(), attributes.size(), configuration, digest));
+        changed = true;
+    }
+
+    /**
+     * Remove the configurations of files, that no longer exist.
+     *
+     * @param names file names of the existing configurations
+     */
+    void retain(final Collection<String> names) {
+        changed |= entries.keySet().retainAll(names);
+    }
+
+    /**
+     * Write the cache atomically, if it changed.
+     * The cache is deleted, if it could not be written.
+     *
+     * @param file cache file
+     */
+    void save(final Path file) {
+        if (!changed)
+            return;
+        try {
+            FileService.writeAtomic(file, outputStream -> {
+                final ObjectOutputStream out = new ObjectOutputStream(outputStream);
+                out.writeObject(new HashMap<>(entries));
+                out.flush();
+            });
+            changed = false;
+        } catch (final IOException e) {
+            log.debug("Could not write the configuration cache " + file, e);
+            try {
+                Files.deleteIfExists(file);
+            } catch (final IOException ignored) {
+            }
+        }
+    }
+
+    /**
+     * Cached configuration of a file.
+     */
+    private static class Entry implements Serializable {
+
+        /**
+         * Version of the serialized form. Caches of other versions are discarded.
+         */
+        private static final long serialVersionUID = 2L;
+
+        /**
+         * Modification time of the file in milliseconds.
+         */
+        private final long modified;
+
+        /**
+         * Size of the file in bytes.
+         */
+        private final long size;
+
+        /**
+         * Parsed configuration of the file.
+         */
+        private final Configuration configuration;
+
+        /**
+         * Digest of the configuration's xml document.
+         */
+        private final String digest;
+
+        /**
+         * Construct a cached configuration.
+         *
+         * @param modified      modification time of the file in milliseconds
+         * @param size          size of the file in bytes
+         * @param configuration parsed configuration of the file
+         * @param digest        digest of the configuration's xml document
+         */
+        private Entry(final long modified, final long size, final Configuration configuration, final String digest) {
+            this.modified = modified;
+            this.size = size;
+            this.configuration = configuration;
+            this.digest = digest;
+        }
+    }
+}
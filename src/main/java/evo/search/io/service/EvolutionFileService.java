@@ -0,0 +1,850 @@
+package evo.search.io.service;
+
+import evo.search.Evolution;
+import evo.search.ga.DiscreteChromosome;
+import evo.search.ga.DiscreteGene;
+import evo.search.ga.GenerationRecord;
+import evo.search.ga.PackedChromosome;
+import evo.search.ga.ParetoMember;
+import evo.search.io.entities.Configuration;
+import io.jenetics.AbstractChromosome;
+import io.jenetics.Chromosome;
+import io.jenetics.Genotype;
+import io.jenetics.Phenotype;
+import io.jenetics.engine.EvolutionResult;
+import io.jenetics.util.ISeq;
+import io.jenetics.util.MSeq;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InvalidClassException;
+import java.io.ObjectInputStream;
+import java.io.ObjectStreamClass;
+import java.io.ObjectStreamConstants;
+import java.io.ObjectStreamField;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.io.WriteAbortedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Evolution file service.
+ * <p>
+ * Evolutions are stored in a binary format instead of the Java object serialization.
+ * A file starts with the {@link #MAGIC} number and the format {@link #VERSION}, followed by
+ * the stop reason, the best phenotype, the final Pareto front and the history.
+ * The statistics of the history are stored as packed columns, followed by the retained
+ * best phenotypes, populations and fronts of the generations. A chromosome is stored as its
+ * amount of rays and the parallel arrays of its ray indices and distances.
+ * <p>
+ * Since version 2, the file ends with an index holding the position of each generation's
+ * retained phenotypes, so the history can be {@link #open(Path) opened} lazily through a
+ * memory-mapped file.
+ * <p>
+ * Files written by the former object serialization are still read and can be converted.
+ * Their history keeps only the fitness statistics, since the former chromosomes were written without genes.
+ *
+ * @author jotoh
+ */
+@Slf4j
+public class EvolutionFileService {
+
+    /**
+     * Magic number of binary evolution files ("EVOS").
+     */
+    public static final int MAGIC = 0x45564F53;
+
+    /**
+     * Current version of the binary format.
+     */
+    public static final short VERSION = 2;
+
+    /**
+     * First version ending with the index of the generations.
+     */
+    private static final short INDEXED_VERSION = 2;
+
+    /**
+     * File extension appended to the backups of converted legacy files.
+     */
+    public static final String BACKUP_EXTENSION = ".bak";
+
+    /**
+     * Record flag for a retained best phenotype.
+     */
+    static final int HAS_BEST = 1;
+
+    /**
+     * Record flag for a retained population.
+     */
+    static final int HAS_POPULATION = 2;
+
+    /**
+     * Record flag for a retained Pareto front.
+     */
+    static final int HAS_FRONT = 4;
+
+    /**
+     * Write an evolution to a file in the binary format.
+     * The configuration is not part of the file.
+     *
+     * @param evolution evolution to write
+     * @param path      path of the file
+     * @throws IOException if the file could not be written
+     */
+    public static void write(final Evolution evolution, final Path path) throws IOException {
+        try (final OutputStream outputStream = Files.newOutputStream(path)) {
+            write(evolution, outputStream);
+        }
+    }
+
+    /**
+     * Write an evolution to a stream in the binary format.
+     * The stream is flushed, but not closed.
+     *
+     * @param evolution    evolution to write
+     * @param outputStream stream to write to
+     * @throws IOException if the stream could not be written
+     */
+    public static void write(final Evolution evolution, final OutputStream outputStream) throws IOException {
+        final CountingOutputStream counter = new CountingOutputStream(new BufferedOutputStream(outputStream));
+        final DataOutputStream out = new DataOutputStream(counter);
+        out.writeInt(MAGIC);
+        out.writeShort(VERSION);
+
+        final Evolution.StopReason stopReason = evolution.getStopReason();
+        out.writeUTF(stopReason == null ? "" : stopReason.name());
+
+        final Phenotype<DiscreteGene, Double> best = evolution.getBestPhenotype();
+        out.writeBoolean(best != null);
+        if (best != null)
+            writePopulation(out, ISeq.of(best));
+
+        final List<ParetoMember> front = evolution.getParetoFront();
+        out.writeBoolean(front != null);
+        if (front != null)
+            writeFront(out, front);
+
+        final List<GenerationRecord> history = evolution.getHistory() == null ? List.of() : evolution.getHistory();
+        writeHistory(out, counter, history);
+        out.flush();
+    }
+
+    /**
+     * Read an evolution file.
+     * Detects, if the file is in the binary format or written by the former object serialization.
+     * The configuration of the read evolution has to be set by the caller.
+     *
+     * @param path path of the evolution file
+     * @return read evolution
+     * @throws IOException if the file could not be read or is no evolution file
+     */
+    public static Evolution read(final Path path) throws IOException {
+        try (final InputStream inputStream = new BufferedInputStream(Files.newInputStream(path))) {
+            return isLegacy(inputStream) ? readLegacy(inputStream) : read(inputStream);
+        }
+    }
+
+    /**
+     * Read an evolution in the binary format from a stream.
+     * The stream is not closed.
+     *
+     * @param inputStream stream to read
+     * @return read evolution without configuration
+     * @throws IOException if the stream could not be read or holds no binary evolution
+     */
+    public static Evolution read(final InputStream inputStream) throws IOException {
+        final DataInputStream in = new DataInputStream(new BufferedInputStream(inputStream));
+        return readHeader(in)
+                .history(readHistory(in))
+                .build();
+    }
+
+    /**
+     * Open an evolution file with a lazily read history.
+     * <p>
+     * The file is memory-mapped and only the header is read. The history's statistics and
+     * retained phenotypes are read from the mapped file, when a generation is accessed.
+     * Files larger than a mapped buffer are mapped in segments.
+     * Files without an index and legacy files are read completely.
+     * The configuration of the opened evolution has to be set by the caller.
+     *
+     * @param path path of the evolution file
+     * @return opened evolution
+     * @throws IOException if the file could not be read or is no evolution file
+     * @see MappedHistory
+     */
+    public static Evolution open(final Path path) throws IOException {
+        return open(path, MappedFile.SEGMENT_SIZE);
+    }
+
+    /**
+     * Open an evolution file with a lazily read history mapped in segments of a size.
+     *
+     * @param path        path of the evolution file
+     * @param segmentSize size of the mapped segments
+     * @return opened evolution
+     * @throws IOException if the file could not be read or is no evolution file
+     * @see #open(Path)
+     */
+    static Evolution open(final Path path, final int segmentSize) throws IOException {
+        if (Files.size(path) < Integer.BYTES + Short.BYTES)
+            return read(path);
+        final MappedFile file = new MappedFile(path, segmentSize);
+        if (file.getInt(0) != MAGIC || file.getShort(Integer.BYTES) < INDEXED_VERSION)
+            return read(path);
+
+        final MappedFile.Stream inputStream = file.stream(0);
+        final Evolution.EvolutionBuilder builder = readHeader(new DataInputStream(inputStream));
+        return builder
+                .history(new MappedHistory(file, inputStream.position()))
+                .build();
+    }
+
+    /**
+     * Check, if a file was written by the former object serialization.
+     *
+     * @param path path of the evolution file
+     * @return true, if the file is a legacy evolution file, false otherwise
+     * @throws IOException if the file could not be read
+     */
+    public static boolean isLegacy(final Path path) throws IOException {
+        try (final InputStream inputStream = new BufferedInputStream(Files.newInputStream(path))) {
+            return isLegacy(inputStream);
+        }
+    }
+
+    /**
+     * Convert a legacy evolution file into the binary format.
+     * The legacy file is kept as a backup with the {@link #BACKUP_EXTENSION}.
+     *
+     * @param path path of the evolution file
+     * @return true, if the file was converted, false if it already is in the binary format
+     * @throws IOException if the file could not be read or written
+     */
+    public static boolean convert(final Path path) throws IOException {
+        if (!isLegacy(path))
+            return false;
+        convert(path, read(path));
+        return true;
+    }
+
+    /**
+     * Replace a legacy evolution file with an evolution read from it in the binary format.
+     * The legacy file is kept as a backup with the {@link #BACKUP_EXTENSION}.
+     *
+     * @param path      path of the legacy evolution file
+     * @param evolution evolution read from the file
+     * @throws IOException if the file could not be written
+     */
+    public static void convert(final Path path, final Evolution evolution) throws IOException {
+        final Path converted = path.resolveSibling(path.getFileName() + ".tmp");
+        write(evolution, converted);
+        Files.copy(path, path.resolveSibling(path.getFileName() + BACKUP_EXTENSION), StandardCopyOption.REPLACE_EXISTING);
+        Files.move(converted, path, StandardCopyOption.REPLACE_EXISTING);
+        log.info("Converted legacy evolution file {}.", path);
+    }
+
+    /**
+     * Check, if a stream starts with the object serialization header.
+     * The stream is reset to its start.
+     *
+     * @param inputStream stream supporting marks
+     * @return true, if the stream holds a legacy evolution, false otherwise
+     * @throws IOException if the stream could not be read
+     */
+    private static boolean isLegacy(final InputStream inputStream) throws IOException {
+        inputStream.mark(2);
+        final int high = inputStream.read();
+        final int low = inputStream.read();
+        inputStream.reset();
+        return (short) (high << 8 | low) == ObjectStreamConstants.STREAM_MAGIC;
+    }
+
+    /**
+     * Read an evolution written by the former object serialization.
+     * <p>
+     * The former classes are read into {@link LegacyInputStream shims} of their serialized fields.
+     * The former history held the jenetics evolution results, which are converted to records of
+     * their fitness statistics. Their chromosomes were serialized without genes, so neither the
+     * best phenotypes nor the populations can be recovered.
+     *
+     * @param inputStream stream to read
+     * @return read evolution
+     * @throws IOException if the stream could not be read, was aborted while writing or holds no evolution
+     */
+    private static Evolution readLegacy(final InputStream inputStream) throws IOException {
+        final Object read;
+        try {
+            read = new LegacyInputStream(inputStream).readObject();
+        } catch (final WriteAbortedException e) {
+            throw new IOException("Incomplete legacy evolution file, it was aborted while saving: " + e.detail.getMessage(), e);
+        } catch (final ClassNotFoundException e) {
+            throw new IOException("Unsupported legacy evolution file.", e);
+        }
+        if (!(read instanceof LegacyEvolution))
+            throw new IOException("No legacy evolution file.");
+        final LegacyEvolution legacy = (LegacyEvolution) read;
+
+        final List<GenerationRecord> history = new ArrayList<>();
+        final Configuration configuration;
+        try {
+            if (legacy.history != null)
+                for (final Object result : legacy.history)
+                    history.add(convertResult(result));
+            configuration = legacy.configuration == null ? null : legacy.configuration.convert();
+        } catch (final ClassCastException e) {
+            throw new IOException("Unsupported legacy evolution file.", e);
+        }
+        return Evolution.builder()
+                .configuration(configuration)
+                .history(history)
+                .build();
+    }
+
+    /**
+     * Convert an evolution result of a legacy history to a record of its fitness statistics.
+     *
+     * @param result legacy evolution result
+     * @return record of the result's statistics
+     * @throws IOException if the result is no evolution result
+     */
+    @SuppressWarnings("unchecked")
+    private static GenerationRecord convertResult(final Object result) throws IOException {
+        if (!(result instanceof EvolutionResult))
+            throw new IOException("Unsupported legacy evolution history.");
+        return GenerationRecord.of((EvolutionResult<DiscreteGene, Double>) result, false, false);
+    }
+
+    /**
+     * Read the header of a binary evolution up to its history.
+     *
+     * @param in input to read from
+     * @return builder of the evolution holding the header's values
+     * @throws IOException if the input could not be read or holds no binary evolution
+     */
+    private static Evolution.EvolutionBuilder readHeader(final DataInputStream in) throws IOException {
+        if (in.readInt() != MAGIC)
+            throw new IOException("No evolution file.");
+        final short version = in.readShort();
+        if (version > VERSION)
+            throw new IOException("Unsupported evolution file version " + version + ".");
+
+        final String stopReason = in.readUTF();
+        final Phenotype<DiscreteGene, Double> best = in.readBoolean() ? readPopulation(in).get(0) : null;
+        final List<ParetoMember> front = in.readBoolean() ? readFront(in) : null;
+
+        return Evolution.builder()
+                .bestPhenotype(best)
+                .stopReason(stopReason.isEmpty() ? null : Evolution.StopReason.valueOf(stopReason))
+                .paretoFront(front);
+    }
+
+    /**
+     * Write the history as columns of the statistics followed by the retained phenotypes
+     * and the index of their positions.
+     *
+     * @param out     output to write to
+     * @param counter counter of the bytes written to the output
+     * @param history records to write
+     * @throws IOException if the output could not be written
+     */
+    private static void writeHistory(final DataOutputStream out, final CountingOutputStream counter, final List<GenerationRecord> history) throws IOException {
+        out.writeInt(history.size());
+        for (final GenerationRecord record : history)
+            out.writeLong(record.getGeneration());
+        for (final GenerationRecord record : history)
+            out.writeDouble(record.getBestFitness());
+        for (final GenerationRecord record : history)
+            out.writeDouble(record.getMeanFitness());
+        for (final GenerationRecord record : history)
+            out.writeDouble(record.getWorstFitness());
+        for (final GenerationRecord record : history)
+            out.writeInt(record.getPopulationSize());
+        for (final GenerationRecord record : history) {
+            out.writeByte((record.hasBest() ? HAS_BEST : 0)
+                    | (record.hasPopulation() ? HAS_POPULATION : 0)
+                    | (record.hasFront() ? HAS_FRONT : 0));
+        }
+
+        final long[] positions = new long[history.size()];
+        for (int i = 0; i < positions.length; i++) {
+            final GenerationRecord record = history.get(i);
+            positions[i] = counter.getCount();
+            if (record.hasBest())
+                writePopulation(out, ISeq.of(record.getBest()));
+            if (record.hasPopulation())
+                writePopulation(out, record.getPopulation());
+            if (record.hasFront())
+                writeFront(out, record.getFront());
+        }
+
+        final long index = counter.getCount();
+        for (final long position : positions)
+            out.writeLong(position);
+        out.writeLong(index);
+    }
+
+    /**
+     * Read the history written by {@link #writeHistory(DataOutputStream, CountingOutputStream, List)}.
+     * The trailing index is not read.
+     *
+     * @param in input to read from
+     * @return read records
+     * @throws IOException if the input could not be read
+     */
+    private static List<GenerationRecord> readHistory(final DataInputStream in) throws IOException {
+        final int size = in.readInt();
+        final long[] generation = new long[size];
+        final double[] bestFitness = new double[size];
+        final double[] meanFitness = new double[size];
+        final double[] worstFitness = new double[size];
+        final int[] populationSize = new int[size];
+        final byte[] flags = new byte[size];
+        for (int i = 0; i < size; i++)
+            generation[i] = in.readLong();
+        for (int i = 0; i < size; i++)
+            bestFitness[i] = in.readDouble();
+        for (int i = 0; i < size; i++)
+            meanFitness[i] = in.readDouble();
+        for (int i = 0; i < size; i++)
+            worstFitness[i] = in.readDouble();
+        for (int i = 0; i < size; i++)
+            populationSize[i] = in.readInt();
+        in.readFully(flags);
+
+        final List<GenerationRecord> history = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            final Phenotype<DiscreteGene, Double> best = (flags[i] & HAS_BEST) != 0 ? readPopulation(in).get(0) : null;
+            final ISeq<Phenotype<DiscreteGene, Double>> population = (flags[i] & HAS_POPULATION) != 0 ? readPopulation(in) : null;
+            final List<ParetoMember> front = (flags[i] & HAS_FRONT) != 0 ? readFront(in) : null;
+            history.add(new GenerationRecord(
+                    generation[i],
+                    bestFitness[i],
+                    meanFitness[i],
+                    worstFitness[i],
+                    populationSize[i],
+                    best,
+                    population,
+                    front
+            ));
+        }
+        return history;
+    }
+
+    /**
+     * Write phenotypes as columns of their generations and fitness followed by their chromosomes.
+     * The fitness of unevaluated phenotypes is written as not a number.
+     *
+     * @param out        output to write to
+     * @param population phenotypes to write
+     * @throws IOException if the output could not be written
+     */
+    private static void writePopulation(final DataOutputStream out, final ISeq<Phenotype<DiscreteGene, Double>> population) throws IOException {
+        out.writeInt(population.size());
+        for (final Phenotype<DiscreteGene, Double> phenotype : population)
+            out.writeLong(phenotype.generation());
+        for (final Phenotype<DiscreteGene, Double> phenotype : population)
+            out.writeDouble(phenotype.isEvaluated() ? phenotype.fitness() : Double.NaN);
+        for (final Phenotype<DiscreteGene, Double> phenotype : population)
+            writeChromosome(out, PackedChromosome.of(phenotype.genotype().chromosome()));
+    }
+
+    /**
+     * Read phenotypes written by {@link #writePopulation(DataOutputStream, ISeq)}.
+     *
+     * @param in input to read from
+     * @return read phenotypes
+     * @throws IOException if the input could not be read
+     */
+    static ISeq<Phenotype<DiscreteGene, Double>> readPopulation(final DataInputStream in) throws IOException {
+        final int size = in.readInt();
+        final long[] generation = new long[size];
+        final double[] fitness = new double[size];
+        for (int i = 0; i < size; i++)
+            generation[i] = in.readLong();
+        for (int i = 0; i < size; i++)
+            fitness[i] = in.readDouble();
+
+        final MSeq<Phenotype<DiscreteGene, Double>> population = MSeq.ofLength(size);
+        for (int i = 0; i < size; i++) {
+            final Genotype<DiscreteGene> genotype = Genotype.of(DiscreteChromosome.of(readChromosome(in)));
+            population.set(i, Double.isNaN(fitness[i])
+                    ? Phenotype.of(genotype, generation[i])
+                    : Phenotype.of(genotype, generation[i], fitness[i])
+            );
+        }
+        return population.toISeq();
+    }
+
+    /**
+     * Write Pareto front members as a column of their objective values followed by their chromosomes.
+     *
+     * @param out   output to write to
+     * @param front members to write
+     * @throws IOException if the output could not be written
+     */
+    private static void writeFront(final DataOutputStream out, final List<ParetoMember> front) throws IOException {
+        out.writeInt(front.size());
+        out.writeInt(front.isEmpty() ? 0 : front.get(0).getObjectives().length);
+        for (final ParetoMember member : front)
+            for (final double objective : member.getObjectives())
+                out.writeDouble(objective);
+        for (final ParetoMember member : front)
+            writeChromosome(out, PackedChromosome.of(member.getChromosome()));
+    }
+
+    /**
+     * Read Pareto front members written by {@link #writeFront(DataOutputStream, List)}.
+     *
+     * @param in input to read from
+     * @return read members
+     * @throws IOException if the input could not be read
+     */
+    static List<ParetoMember> readFront(final DataInputStream in) throws IOException {
+        final int size = in.readInt();
+        final int objectives = in.readInt();
+        final double[][] values = new double[size][objectives];
+        for (final double[] member : values)
+            for (int i = 0; i < objectives; i++)
+                member[i] = in.readDouble();
+
+        final List<ParetoMember> front = new ArrayList<>(size);
+        for (int i = 0; i < size; i++)
+            front.add(new ParetoMember(readChromosome(in).toGenes(), values[i]));
+        return front;
+    }
+
+    /**
+     * Write a chromosome as its length, its amount of rays, its ray indices and its distances.
+     *
+     * @param out        output to write to
+     * @param chromosome chromosome to write
+     * @throws IOException if the output could not be written
+     */
+    static void writeChromosome(final DataOutputStream out, final PackedChromosome chromosome) throws IOException {
+        final int size = chromosome.size();
+        out.writeInt(size);
+        out.writeShort(chromosome.positions());
+        for (int i = 0; i < size; i++)
+            out.writeShort(chromosome.position(i));
+        for (int i = 0; i < size; i++)
+            out.writeFloat(chromosome.distance(i));
+    }
+
+    /**
+     * Read a chromosome written by {@link #writeChromosome(DataOutputStream, PackedChromosome)}.
+     *
+     * @param in input to read from
+     * @return read chromosome
+     * @throws IOException if the input could not be read
+     */
+    static PackedChromosome readChromosome(final DataInputStream in) throws IOException {
+        final int size = in.readInt();
+        final short positions = in.readShort();
+        final short[] position = new short[size];
+        final float[] distance = new float[size];
+        for (int i = 0; i < size; i++)
+            position[i] = in.readShort();
+        for (int i = 0; i < size; i++)
+            distance[i] = in.readFloat();
+        return new PackedChromosome(positions, position, distance);
+    }
+
+    /**
+     * Output stream counting the bytes written through it.
+     */
+    private static class CountingOutputStream extends FilterOutputStream {
+
+        /**
+         * Amount of bytes written.
+         */
+        @Getter
+        private long count = 0;
+
+        /**
+         * Construct a counting stream.
+         *
+         * @param outputStream stream to write to
+         */
+        CountingOutputStream(final OutputStream outputStream) {
+            super(outputStream);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void write(final int b) throws IOException {
+            out.write(b);
+            count++;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void write(final byte[] b, final int off, final int len) throws IOException {
+            out.write(b, off, len);
+            count += len;
+        }
+    }
+
+    /**
+     * Object input stream reading legacy evolution files.
+     * <p>
+     * The former classes of this application declared no serial version and changed their fields since.
+     * Their descriptors are replaced with the descriptors of the shims holding the former fields,
+     * if the stored fields match. An object stream binds a class to a stored descriptor only
+     * with the same simple name and serial version, so the shims are not resolved by name.
+     */
+    private static class LegacyInputStream extends ObjectInputStream {
+
+        /**
+         * Shims of the former classes by their names.
+         */
+        private static final Map<String, Class<?>> SHIMS = Map.of(
+                "evo.search.Evolution", LegacyEvolution.class,
+                "evo.search.io.entities.Configuration", LegacyConfiguration.class,
+                "evo.search.ga.DiscreteChromosome", LegacyChromosome.class,
+                "evo.search.ga.DiscreteGene", LegacyGene.class
+        );
+
+        /**
+         * Construct a legacy input stream.
+         *
+         * @param inputStream stream to read
+         * @throws IOException if the stream header could not be read
+         */
+        LegacyInputStream(final InputStream inputStream) throws IOException {
+            super(inputStream);
+        }
+
+        /**
+         * Check, if two class descriptors serialize the same fields.
+         *
+         * @param stored descriptor read from the stream
+         * @param local  descriptor of the local class
+         * @return true, if the field names and types match, false otherwise
+         */
+        private static boolean sameFields(final ObjectStreamClass stored, final ObjectStreamClass local) {
+            final ObjectStreamField[] storedFields = stored.getFields();
+            final ObjectStreamField[] localFields = local.getFields();
+            if (storedFields.length != localFields.length)
+                return false;
+            for (int i = 0; i < storedFields.length; i++) {
+                if (!storedFields[i].getName().equals(localFields[i].getName())
+                        || storedFields[i].getTypeCode() != localFields[i].getTypeCode())
+                    return false;
+            }
+            return true;
+        }
+
+        /**
+         * {@inheritDoc}
+         * Replaces the descriptors of the former application classes with their shims.
+         *
+         * @throws InvalidClassException if the stored fields of a former class do not match its shim
+         */
+        @Override
+        protected ObjectStreamClass readClassDescriptor() throws IOException, ClassNotFoundException {
+            final ObjectStreamClass stored = super.readClassDescriptor();
+            final Class<?> shim = SHIMS.get(stored.getName());
+            if (shim == null)
+                return stored;
+            final ObjectStreamClass local = ObjectStreamClass.lookup(shim);
+            if (!sameFields(stored, local))
+                throw new InvalidClassException(stored.getName(), "Unsupported legacy class layout.");
+            return local;
+        }
+    }
+
+    /**
+     * Shim of the former serialized evolution.
+     */
+    private static class LegacyEvolution implements Serializable {
+
+        /**
+         * Configuration of the evolution.
+         */
+        private LegacyConfiguration configuration;
+
+        /**
+         * History of jenetics evolution results.
+         */
+        private List<?> history;
+    }
+
+    /**
+     * Shim of the former serialized configuration.
+     * The alterers were not serialized.
+     */
+    private static class LegacyConfiguration implements Serializable {
+
+        /**
+         * Whether to choose the distances without permutation.
+         */
+        private boolean chooseWithoutPermutation;
+
+        /**
+         * Maximum distance change during the mutation.
+         */
+        private double distanceMutationDelta;
+
+        /**
+         * Execution limit.
+         */
+        private int limit;
+
+        /**
+         * Amount of offspring individuals.
+         */
+        private int offspring;
+
+        /**
+         * Population size.
+         */
+        private int population;
+
+        /**
+         * Amount of rays.
+         */
+        private int positions;
+
+        /**
+         * Input distances.
+         */
+        private List<?> distances;
+
+        /**
+         * Fitness method.
+         */
+        private Evolution.Fitness fitness;
+
+        /**
+         * Name of the configuration.
+         */
+        private String name;
+
+        /**
+         * Selector, never serializable in practice.
+         */
+        private Object selector;
+
+        /**
+         * Treasure genes.
+         */
+        private List<?> treasures;
+
+        /**
+         * Version of the configuration.
+         */
+        private String version;
+
+        /**
+         * Convert the shim to a configuration.
+         * The alterers and the selector are the defaults.
+         *
+         * @return converted configuration
+         */
+        Configuration convert() {
+            final List<Double> convertedDistances = new ArrayList<>();
+            if (distances != null)
+                for (final Object distance : distances)
+                    convertedDistances.add(((Number) distance).doubleValue());
+            final List<DiscreteGene> convertedTreasures = new ArrayList<>();
+            if (treasures != null)
+                for (final Object treasure : treasures)
+                    convertedTreasures.add(((LegacyGene) treasure).convert());
+
+            final Configuration.ConfigurationBuilder builder = Configuration.builder()
+                    .limit(limit)
+                    .positions(positions)
+                    .distances(convertedDistances)
+                    .treasures(convertedTreasures)
+                    .offspring(offspring)
+                    .population(population)
+                    .chooseWithoutPermutation(chooseWithoutPermutation)
+                    .distanceMutationDelta(distanceMutationDelta);
+            if (version != null)
+                builder.version(version);
+            if (name != null)
+                builder.name(name);
+            if (fitness != null)
+                builder.fitness(fitness);
+            return builder.build();
+        }
+    }
+
+    /**
+     * Shim of the former serialized gene.
+     */
+    private static class LegacyGene implements Serializable {
+
+        /**
+         * Ray index.
+         */
+        private short position;
+
+        /**
+         * Amount of rays.
+         */
+        private short positions;
+
+        /**
+         * Distance on the ray.
+         */
+        private float distance;
+
+        /**
+         * Convert the shim to a gene.
+         *
+         * @return converted gene
+         */
+        DiscreteGene convert() {
+            return new DiscreteGene(positions, position, distance);
+        }
+    }
+
+    /**
+     * Shim of the former serialized chromosome.
+     * Its genes were transient, so it is always empty.
+     */
+    private static class LegacyChromosome extends AbstractChromosome<DiscreteGene> {
+
+        /**
+         * Never called, shims are only deserialized.
+         */
+        private LegacyChromosome() {
+            super(ISeq.empty());
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Chromosome<DiscreteGene> newInstance(final ISeq<DiscreteGene> genes) {
+            throw new UnsupportedOperationException();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Chromosome<DiscreteGene> newInstance() {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
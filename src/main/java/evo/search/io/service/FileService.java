@@ -1,6 +1,7 @@
 package evo.search.io.service;
 
 import evo.search.io.entities.Configuration;
+import evo.search.io.entities.XmlEntity;
 import evo.search.view.LangService;
 import lombok.extern.slf4j.Slf4j;
 import org.dom4j.Document;
@@ -12,11 +13,21 @@ import org.xml.sax.SAXException;
 
 import javax.swing.*;
 import java.awt.*;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.net.MalformedURLException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 
@@ -89,14 +100,16 @@ public class FileService {
     }
 
     /**
-     * Write a list of {@link Configuration}s to a folder.
+     * Get the files of a list of {@link Configuration}s in a folder.
      * File names which are not distinct are distinguished by a trailing number.
      *
      * @param configFolder   folder to save the configs in
      * @param configurations list of configurations to save
+     * @return files of the configurations in their order
      */
-    static void write(final Path configFolder, final List<Configuration> configurations) {
+    static List<Path> configurationPaths(final Path configFolder, final List<Configuration> configurations) {
         final HashMap<String, Integer> configurationNumber = new HashMap<>();
+        final List<Path> paths = new ArrayList<>(configurations.size());
 
         configurations.forEach(configuration -> {
             String fileName = configuration.getName();
@@ -107,8 +120,9 @@ public class FileService {
             }
             configurationNumber.putIfAbsent(fileName, 0);
 
-            write(configFolder.resolve(fileName + ".xml"), configuration.serialize());
+            paths.add(configFolder.resolve(fileName + ".xml"));
         });
+        return paths;
     }
 
     /**
@@ -135,6 +149,69 @@ public class FileService {
         write(path, DocumentHelper.createDocument(element));
     }
 
+    /**
+     * Stream a {@link XmlEntity} as xml document to a file through a buffered channel.
+     * Unlike writing its {@link XmlEntity#serialize()}d element, the document is never held in memory.
+     *
+     * @param path   file path
+     * @param entity entity to write
+     */
+    public static void write(final Path path, final XmlEntity<?> entity) {
+        try (final FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+             final OutputStream outputStream = new BufferedOutputStream(Channels.newOutputStream(channel))) {
+            XmlService.write(outputStream, entity);
+        } catch (final IOException e) {
+            log.error("Could not serialize entity in XML file: " + path.toString(), e);
+        }
+    }
+
+    /**
+     * Stream a {@link XmlEntity} from a xml file without building a document.
+     *
+     * @param file   the files path
+     * @param entity entity to parse the file into
+     * @param <T>    type of the parsed entity
+     * @return parsed entity, null if the file could not be parsed
+     */
+    public static <T extends XmlEntity<T>> T read(final Path file, final T entity) {
+        try (final InputStream inputStream = new BufferedInputStream(Files.newInputStream(file))) {
+            return XmlService.read(inputStream, entity);
+        } catch (final IOException e) {
+            log.error("Could not parse XML file: " + file.toString(), e);
+        }
+        return null;
+    }
+
+    /**
+     * Write a file atomically.
+     * The content is written to a temporary file in the same directory, forced to the
+     * storage device and moved over the file afterwards, so the file either holds its old or
+     * its complete new content, even if the application or the machine crashes while writing.
+     *
+     * @param path   file path
+     * @param writer writer of the file's content
+     * @throws IOException if the file could not be written
+     */
+    public static void writeAtomic(final Path path, final StreamWriter writer) throws IOException {
+        final Path directory = path.toAbsolutePath().getParent();
+        final Path temporary = Files.createTempFile(directory, path.getFileName().toString(), ".tmp");
+        try {
+            try (final FileChannel channel = FileChannel.open(temporary, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                final OutputStream outputStream = Channels.newOutputStream(channel);
+                writer.write(outputStream);
+                outputStream.flush();
+                channel.force(true);
+            }
+            try {
+                Files.move(temporary, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (final AtomicMoveNotSupportedException e) {
+                Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
     /**
      * Read a xml {@link Document} from a file.
      *
@@ -186,4 +263,21 @@ public class FileService {
             candidate = path.resolve(String.format("%s%d%s", prefix, ++count, suffix));
         return count;
     }
+
+    /**
+     * Writer of a file's content.
+     *
+     * @see #writeAtomic(Path, StreamWriter)
+     */
+    @FunctionalInterface
+    public interface StreamWriter {
+
+        /**
+         * Write the content to a stream.
+         *
+         * @param outputStream stream to write to, closed by the caller
+         * @throws IOException if the content could not be written
+         */
+        void write(OutputStream outputStream) throws IOException;
+    }
 }
@@ -0,0 +1,218 @@
+package evo.search.io.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Read-only memory-mapped file of any size.
+ * <p>
+ * A single mapped buffer holds at most {@link Integer#MAX_VALUE} bytes, so the file is mapped in
+ * segments. Consecutive segments overlap by the size of a long, so every primitive value is read
+ * from one segment. Streams read across the segments.
+ *
+ * @author jotoh
+ * @see MappedHistory
+ */
+class MappedFile {
+
+    /**
+     * Size of the segments in bytes.
+     */
+    static final int SEGMENT_SIZE = 1 << 30;
+
+    /**
+     * Bytes a segment overlaps the next one.
+     */
+    private static final int OVERLAP = Long.BYTES;
+
+    /**
+     * Mapped segments of the file.
+     */
+    private final ByteBuffer[] segments;
+
+    /**
+     * Size of the segments without their overlap.
+     */
+    private final int segmentSize;
+
+    /**
+     * Size of the file in bytes.
+     */
+    private final long size;
+
+    /**
+     * Map a file in segments.
+     *
+     * @param path        path of the file
+     * @param segmentSize size of the segments without their overlap
+     * @throws IOException if the file could not be mapped
+     */
+    MappedFile(final Path path, final int segmentSize) throws IOException {
+        this.segmentSize = segmentSize;
+        try (final FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            size = channel.size();
+            segments = new ByteBuffer[(int) Math.max(1, (size + segmentSize - 1) / segmentSize)];
+            for (int i = 0; i < segments.length; i++) {
+                final long start = (long) i * segmentSize;
+                segments[i] = channel.map(FileChannel.MapMode.READ_ONLY, start, Math.min(size - start, (long) segmentSize + OVERLAP));
+            }
+        }
+    }
+
+    /**
+     * Map a file in segments of the {@link #SEGMENT_SIZE}.
+     *
+     * @param path path of the file
+     * @throws IOException if the file could not be mapped
+     */
+    MappedFile(final Path path) throws IOException {
+        this(path, SEGMENT_SIZE);
+    }
+
+    /**
+     * Get the size of the file.
+     *
+     * @return size in bytes
+     */
+    long size() {
+        return size;
+    }
+
+    /**
+     * Get the segment holding a position.
+     *
+     * @param position position in the file
+     * @return segment holding the position
+     */
+    private ByteBuffer segment(final long position) {
+        return segments[(int) (position / segmentSize)];
+    }
+
+    /**
+     * Get the position in the segment holding a position.
+     *
+     * @param position position in the file
+     * @return position in the segment
+     */
+    private int offset(final long position) {
+        return (int) (position % segmentSize);
+    }
+
+    /**
+     * Read a byte.
+     *
+     * @param position position in the file
+     * @return byte at the position
+     */
+    byte get(final long position) {
+        return segment(position).get(offset(position));
+    }
+
+    /**
+     * Read a short.
+     *
+     * @param position position in the file
+     * @return short at the position
+     */
+    short getShort(final long position) {
+        return segment(position).getShort(offset(position));
+    }
+
+    /**
+     * Read an int.
+     *
+     * @param position position in the file
+     * @return int at the position
+     */
+    int getInt(final long position) {
+        return segment(position).getInt(offset(position));
+    }
+
+    /**
+     * Read a long.
+     *
+     * @param position position in the file
+     * @return long at the position
+     */
+    long getLong(final long position) {
+        return segment(position).getLong(offset(position));
+    }
+
+    /**
+     * Read a double.
+     *
+     * @param position position in the file
+     * @return double at the position
+     */
+    double getDouble(final long position) {
+        return segment(position).getDouble(offset(position));
+    }
+
+    /**
+     * Open a stream reading the file from a position.
+     *
+     * @param position position to start reading at
+     * @return stream reading the file
+     */
+    Stream stream(final long position) {
+        return new Stream(position);
+    }
+
+    /**
+     * Input stream reading the mapped file across its segments.
+     */
+    class Stream extends InputStream {
+
+        /**
+         * Position of the next byte read.
+         */
+        private long position;
+
+        /**
+         * Construct a stream reading the file.
+         *
+         * @param position position to start reading at
+         */
+        private Stream(final long position) {
+            this.position = position;
+        }
+
+        /**
+         * Get the position of the next byte read.
+         *
+         * @return position in the file
+         */
+        long position() {
+            return position;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int read() {
+            return position < size ? get(position++) & 0xFF : -1;
+        }
+
+        /**
+         * {@inheritDoc}
+         * Reads at most up to the end of the segment holding the position.
+         */
+        @Override
+        public int read(final byte[] b, final int off, final int len) {
+            if (len == 0)
+                return 0;
+            if (position >= size)
+                return -1;
+            final int offset = offset(position);
+            final int read = (int) Math.min(len, Math.min(size - position, segmentSize - offset));
+            segment(position).duplicate().position(offset).get(b, off, read);
+            position += read;
+            return read;
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package evo.search.io.service;
+
+import evo.search.ga.DiscreteGene;
+import evo.search.ga.GenerationRecord;
+import evo.search.ga.ParetoMember;
+import io.jenetics.Phenotype;
+import io.jenetics.util.ISeq;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.Serializable;
+import java.io.UncheckedIOException;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * History of a memory-mapped evolution file.
+ * <p>
+ * The statistics of a generation are read from the mapped columns each time it is accessed.
+ * The retained phenotypes of a generation are read using the index at the end of the file
+ * and the most recently accessed generations are kept in memory.
+ * <p>
+ * The history is unmodifiable. It is serialized as a copy in an {@link ArrayList}, which
+ * reads all generations, since the mapped file can not be serialized.
+ *
+ * @author jotoh
+ * @see EvolutionFileService#open(java.nio.file.Path)
+ */
+class MappedHistory extends AbstractList<GenerationRecord> implements RandomAccess, Serializable {
+
+    /**
+     * Amount of generations with retained phenotypes kept in memory.
+     */
+    private static final int CACHE_SIZE = 1024;
+
+    /**
+     * Mapped evolution file.
+     */
+    private final transient MappedFile file;
+
+    /**
+     * Amount of generations.
+     */
+    private final int size;
+
+    /**
+     * Position of the generation number column.
+     */
+    private final long generations;
+
+    /**
+     * Position of the best fitness column.
+     */
+    private final long bestFitness;
+
+    /**
+     * Position of the mean fitness column.
+     */
+    private final long meanFitness;
+
+    /**
+     * Position of the worst fitness column.
+     */
+    private final long worstFitness;
+
+    /**
+     * Position of the population size column.
+     */
+    private final long populationSizes;
+
+    /**
+     * Position of the retention flag column.
+     */
+    private final long flags;
+
+    /**
+     * Position of the index of the retained phenotypes.
+     */
+    private final long index;
+
+    /**
+     * Read generations with retained phenotypes in access order.
+     */
+    private final transient Map<Integer, GenerationRecord> cache = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<Integer, GenerationRecord> eldest) {
+            return size() > CACHE_SIZE;
+        }
+    };
+
+    /**
+     * Construct the history of a mapped file.
+     *
+     * @param file    mapped evolution file
+     * @param columns position of the history's columns
+     */
+    MappedHistory(final MappedFile file, final long columns) {
+        this.file = file;
+        this.size = file.getInt(columns);
+        this.generations = columns + Integer.BYTES;
+        this.bestFitness = generations + (long) size * Long.BYTES;
+        this.meanFitness = bestFitness + (long) size * Double.BYTES;
+        this.worstFitness = meanFitness + (long) size * Double.BYTES;
+        this.populationSizes = worstFitness + (long) size * Double.BYTES;
+        this.flags = populationSizes + (long) size * Integer.BYTES;
+        this.index = file.getLong(file.size() - Long.BYTES);
+    }
+
+    /**
+     * {@inheritDoc}
+     * Reads the generation from the mapped file, if its phenotypes are not in memory.
+     *
+     * @throws UncheckedIOException if the retained phenotypes could not be read
+     */
+    @Override
+    public GenerationRecord get(final int generation) {
+        Objects.checkIndex(generation, size);
+        final byte retained = file.get(flags + generation);
+        if (retained == 0)
+            return record(generation, null, null, null);
+
+        synchronized (cache) {
+            final GenerationRecord cached = cache.get(generation);
+            if (cached != null)
+                return cached;
+        }
+
+        final GenerationRecord record;
+        try {
+            final long position = file.getLong(index + (long) generation * Long.BYTES);
+            final DataInputStream in = new DataInputStream(file.stream(position));
+            final Phenotype<DiscreteGene, Double> best = (retained & EvolutionFileService.HAS_BEST) != 0 ? EvolutionFileService.readPopulation(in).get(0) : null;
+            final ISeq<Phenotype<DiscreteGene, Double>> population = (retained & EvolutionFileService.HAS_POPULATION) != 0 ? EvolutionFileService.readPopulation(in) : null;
+            final List<ParetoMember> front = (retained & EvolutionFileService.HAS_FRONT) != 0 ? EvolutionFileService.readFront(in) : null;
+            record = record(generation, best, population, front);
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Could not read generation " + generation + ".", e);
+        }
+
+        synchronized (cache) {
+            cache.put(generation, record);
+        }
+        return record;
+    }
+
+    /**
+     * Create a record of a generation with its statistics from the mapped columns.
+     *
+     * @param generation index of the generation
+     * @param best       retained best phenotype
+     * @param population retained population
+     * @param front      retained Pareto front
+     * @return record of the generation
+     */
+    private GenerationRecord record(final int generation, final Phenotype<DiscreteGene, Double> best, final ISeq<Phenotype<DiscreteGene, Double>> population, final List<ParetoMember> front) {
+        return new GenerationRecord(
+                file.getLong(generations + (long) generation * Long.BYTES),
+                file.getDouble(bestFitness + (long) generation * Double.BYTES),
+                file.getDouble(meanFitness + (long) generation * Double.BYTES),
+                file.getDouble(worstFitness + (long) generation * Double.BYTES),
+                file.getInt(populationSizes + (long) generation * Integer.BYTES),
+                best,
+                population,
+                front
+        );
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Replace the history with a serializable copy of all generations.
+     *
+     * @return copy of the history
+     */
+    private Object writeReplace() {
+        return new ArrayList<>(this);
+    }
+}
@@ -2,29 +2,52 @@ package evo.search.io.service;
 
 import evo.search.Evolution;
 import evo.search.Main;
+import evo.search.ga.DiscreteGene;
+import evo.search.ga.GenerationRecord;
 import evo.search.io.entities.Configuration;
+import evo.search.io.entities.EvolutionEntry;
+import evo.search.io.entities.EvolutionIndex;
 import evo.search.io.entities.IndexEntry;
 import evo.search.io.entities.Project;
 import evo.search.io.entities.Workspace;
 import evo.search.util.ListUtils;
+import io.jenetics.Phenotype;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import org.dom4j.Document;
 import org.dom4j.DocumentHelper;
 
+import java.io.BufferedOutputStream;
 import java.io.IOException;
-import java.io.ObjectInputStream;
-import java.io.ObjectOutput;
-import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.nio.file.FileAlreadyExistsException;
 import java.nio.file.FileVisitOption;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -50,6 +73,11 @@ public class ProjectService {
      */
     private static final String CONFIG_FOLDER = "configs";
 
+    /**
+     * File name of the cache of parsed configurations in the hidden project folder.
+     */
+    private static final String CONFIG_CACHE = "configs.cache";
+
     /**
      * Settings file name for the project.
      */
@@ -60,6 +88,22 @@ public class ProjectService {
      */
     private static final String WORKSPACE_XML = "workspace.xml";
 
+    /**
+     * File name of the index of saved evolutions in the hidden project folder.
+     */
+    private static final String EVOLUTION_INDEX = "evolutions.xml";
+
+    /**
+     * File extension of the checkpoints of evolutions run in a project.
+     */
+    private static final String CHECKPOINT_EXTENSION = ".checkpoint";
+
+    /**
+     * Time stamp of the last created checkpoint file name.
+     * Keeps the names of runs started within the same millisecond distinct.
+     */
+    private static final AtomicLong lastCheckpointStamp = new AtomicLong();
+
     /**
      * List of registered projects.
      */
@@ -73,6 +117,24 @@ public class ProjectService {
     @Getter
     private static Project currentProject;
 
+    /**
+     * Digests of the configuration files' xml documents as last loaded or saved, by their absolute paths.
+     * Changed configurations, which serialize to their saved document, are not written again.
+     */
+    private static final Map<Path, String> savedConfigurations = new ConcurrentHashMap<>();
+
+    /**
+     * Configurations of the current project by the absolute paths of their files.
+     */
+    private static final Map<Path, Configuration> loadedConfigurations = new ConcurrentHashMap<>();
+
+    /**
+     * Configurations changed since they were loaded or saved, by identity.
+     *
+     * @see #markChanged(Configuration)
+     */
+    private static final Set<Configuration> changedConfigurations = Collections.synchronizedSet(Collections.newSetFromMap(new IdentityHashMap<>()));
+
     /**
      * Pattern for file numbering.
      */
@@ -131,6 +193,9 @@ public class ProjectService {
     /**
      * Load a project from a given directory.
      * Checks are performed to ensure, that the directory contains a project.
+     * <p>
+     * The configuration files are parsed in parallel. Parsed configurations are cached in the
+     * hidden project folder, so unchanged configuration files are not parsed again on reopen.
      *
      * @param projectDirectory directory with project
      * @return loaded project if it exists, null otherwise
@@ -147,6 +212,7 @@ public class ProjectService {
         }
 
         final Project project = new Project();
+        final List<Path> configFiles = new ArrayList<>();
 
         try (final Stream<Path> walk = Files.walk(hiddenPath)) {
             walk.forEach(path -> {
@@ -156,23 +222,94 @@ public class ProjectService {
                         project.parse(projectSettings.getRootElement());
                         break;
                     case CONFIG_FOLDER:
-                        try {
-                            Files.walk(path).forEach(configFile -> {
-                                if (!configFile.toString().endsWith(".xml")) return;
-                                final Document configDocument = FileService.read(configFile);
-                                project.getConfigurations().add(new Configuration().parse(configDocument.getRootElement()));
-                            });
+                        try (final Stream<Path> configWalk = Files.walk(path)) {
+                            configWalk
+                                    .filter(configFile -> configFile.toString().endsWith(".xml"))
+                                    .forEach(configFiles::add);
                         } catch (final IOException ignored) {}
                 }
             });
         } catch (final IOException ignored) {}
 
+        project.getConfigurations().addAll(readConfigurations(hiddenPath, configFiles));
+
         return project;
     }
 
+    /**
+     * Read configuration files in parallel.
+     * Unchanged files are taken from the project's configuration cache.
+     *
+     * @param hiddenPath  hidden project folder holding the cache
+     * @param configFiles configuration files to read
+     * @return read configurations in the order of their files
+     */
+    private static List<Configuration> readConfigurations(final Path hiddenPath, final List<Path> configFiles) {
+        final Path cachePath = hiddenPath.resolve(CONFIG_CACHE);
+        final ConfigurationCache cache = ConfigurationCache.load(cachePath);
+
+        final List<Configuration> configurations = configFiles.parallelStream()
+                .map(configFile -> readConfiguration(hiddenPath, cache, configFile))
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+
+        cache.retain(ListUtils.map(configFiles, configFile -> hiddenPath.relativize(configFile).toString()));
+        cache.save(cachePath);
+        return configurations;
+    }
+
+    /**
+     * Read a configuration file and digest it, unless it is unchanged in the cache, and remember its saved document.
+     *
+     * @param hiddenPath hidden project folder holding the cache
+     * @param cache      cache of the parsed configurations
+     * @param configFile configuration file to read
+     * @return read configuration, null if the file could not be parsed
+     */
+    private static Configuration readConfiguration(final Path hiddenPath, final ConfigurationCache cache, final Path configFile) {
+        final String name = hiddenPath.relativize(configFile).toString();
+        BasicFileAttributes attributes = null;
+        Configuration configuration = null;
+        try {
+            attributes = Files.readAttributes(configFile, BasicFileAttributes.class);
+            configuration = cache.get(name, attributes);
+        } catch (final IOException ignored) {}
+
+        String digest = configuration == null ? null : cache.getDigest(name);
+        if (digest == null) {
+            configuration = FileService.read(configFile, new Configuration());
+            if (configuration == null)
+                return null;
+            digest = digest(configuration);
+            if (attributes != null)
+                cache.put(name, attributes, configuration, digest);
+        }
+        savedConfigurations.put(configFile.toAbsolutePath().normalize(), digest);
+        loadedConfigurations.put(configFile.toAbsolutePath().normalize(), configuration);
+        return configuration;
+    }
+
+    /**
+     * Mark a configuration as changed, so the next save writes it.
+     * Called by the views editing the configurations.
+     *
+     * @param configuration changed configuration
+     * @see #saveConfigurations(Path, List)
+     */
+    public static void markChanged(final Configuration configuration) {
+        changedConfigurations.add(configuration);
+    }
+
     /**
      * Save a list of configurations to a project folder.
-     * Ensures a project is set up in the provided directory and overwrites the old configurations.
+     * Ensures a project is set up in the provided directory and replaces the old configurations.
+     * <p>
+     * Only configurations {@link #markChanged(Configuration) marked as changed} and configurations,
+     * whose files were not saved yet, are written. Unchanged configurations are skipped without
+     * digesting them. The digests of the others are compared with the saved files as a fallback,
+     * so configurations changed back to their saved state are not written again.
+     * Each file is written atomically and files of removed configurations are deleted afterwards,
+     * so an interrupted save never leaves the project without its configurations.
      *
      * @param projectFolder  directory containing a project
      * @param configurations configurations to save in the directory
@@ -205,17 +342,120 @@ public class ProjectService {
             }
         }
 
-        try (final Stream<Path> pathStream = Files.walk(configFolder, 1, FileVisitOption.FOLLOW_LINKS)) {
-            pathStream.forEach(path -> {
-                try {
-                    Files.delete(path);
-                } catch (final IOException ignored) {}
-            });
+        final List<Path> configPaths = FileService.configurationPaths(configFolder, configurations);
+        final Set<Path> saved = new HashSet<>();
+        for (int i = 0; i < configurations.size(); i++) {
+            final Path configPath = configPaths.get(i).toAbsolutePath().normalize();
+            saved.add(configPath);
+            final Configuration configuration = configurations.get(i);
+            loadedConfigurations.put(configPath, configuration);
+            final boolean changed = changedConfigurations.remove(configuration);
+            if (!changed && savedConfigurations.containsKey(configPath) && Files.exists(configPath))
+                continue;
+            final String digest = digest(configuration);
+            if (digest.equals(savedConfigurations.get(configPath)) && Files.exists(configPath))
+                continue;
+            try {
+                FileService.writeAtomic(configPath, outputStream -> XmlService.write(new BufferedOutputStream(outputStream), configuration));
+                savedConfigurations.put(configPath, digest);
+            } catch (final IOException e) {
+                changedConfigurations.add(configuration);
+                log.error("Could not save configuration " + configPath, e);
+                EventService.LOG.trigger("Cannot save configuration " + configPath.getFileName() + ": " + e.getLocalizedMessage());
+            }
+        }
 
-            FileService.write(configFolder, configurations);
+        try (final Stream<Path> pathStream = Files.walk(configFolder, 1, FileVisitOption.FOLLOW_LINKS)) {
+            pathStream
+                    .filter(path -> path.toString().endsWith(".xml"))
+                    .filter(path -> !saved.contains(path.toAbsolutePath().normalize()))
+                    .forEach(path -> {
+                        try {
+                            Files.delete(path);
+                            savedConfigurations.remove(path.toAbsolutePath().normalize());
+                            loadedConfigurations.remove(path.toAbsolutePath().normalize());
+                        } catch (final IOException ignored) {}
+                    });
         } catch (final IOException ignored) {}
+    }
 
+    /**
+     * Read configuration files, which changed outside of this service, e.g. by another process.
+     * Files written by the service itself are recognized by their digest and skipped,
+     * as are files, which could not be parsed, e.g. because they are still being written.
+     *
+     * @param configFiles changed configuration files
+     * @return changed configurations by the absolute paths of their files, null for deleted files
+     * @see #applyConfigurationChanges(Map)
+     */
+    public static Map<Path, Configuration> readChangedConfigurations(final Collection<Path> configFiles) {
+        final Map<Path, Configuration> changes = new HashMap<>();
+        for (final Path configFile : configFiles) {
+            final Path path = configFile.toAbsolutePath().normalize();
+            if (Files.notExists(path)) {
+                if (savedConfigurations.containsKey(path))
+                    changes.put(path, null);
+                continue;
+            }
+            final Configuration configuration = FileService.read(path, new Configuration());
+            if (configuration != null && !digest(configuration).equals(savedConfigurations.get(path)))
+                changes.put(path, configuration);
+        }
+        return changes;
+    }
 
+    /**
+     * Apply changed configuration files to the current project's configurations.
+     * A changed file replaces the configuration previously read from it.
+     *
+     * @param changes changed configurations by the absolute paths of their files, null for deleted files
+     * @see #readChangedConfigurations(Collection)
+     */
+    public static void applyConfigurationChanges(final Map<Path, Configuration> changes) {
+        final List<Configuration> configurations = currentProject.getConfigurations();
+        changes.forEach((path, configuration) -> {
+            final Configuration previous = configuration == null
+                    ? loadedConfigurations.remove(path)
+                    : loadedConfigurations.put(path, configuration);
+            int index = -1;
+            for (int i = 0; i < configurations.size() && index < 0; i++)
+                if (configurations.get(i) == previous)
+                    index = i;
+
+            if (configuration == null) {
+                savedConfigurations.remove(path);
+                if (index >= 0)
+                    configurations.remove(index);
+                return;
+            }
+            savedConfigurations.put(path, digest(configuration));
+            if (index >= 0)
+                configurations.set(index, configuration);
+            else
+                configurations.add(configuration);
+        });
+    }
+
+    /**
+     * Compute the digest of a configuration's xml document.
+     * The document is streamed into the digest, so it is never held in memory.
+     *
+     * @param configuration configuration to digest
+     * @return digest of the configuration's xml document
+     */
+    private static String digest(final Configuration configuration) {
+        final MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (final NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported.", e);
+        }
+        try (final OutputStream outputStream = new BufferedOutputStream(new DigestOutputStream(OutputStream.nullOutputStream(), digest))) {
+            XmlService.write(outputStream, configuration);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return Base64.getEncoder().encodeToString(digest.digest());
     }
 
     /**
@@ -225,7 +465,7 @@ public class ProjectService {
      */
     public static void saveProjectWorkspace(final Workspace workspace) {
         final Path workspaceFile = currentProject.getPath().resolve(PROJECT_LEVEL_HIDDEN).resolve(WORKSPACE_XML);
-        FileService.write(workspaceFile, workspace.serialize());
+        FileService.write(workspaceFile, workspace);
     }
 
     /**
@@ -238,11 +478,11 @@ public class ProjectService {
         final Path workspacePath = currentProject.getPath().resolve(PROJECT_LEVEL_HIDDEN).resolve(WORKSPACE_XML);
 
         if (Files.exists(workspacePath)) {
-            final Document workspaceDocument = FileService.read(workspacePath);
-            return new Workspace().parse(workspaceDocument.getRootElement());
+            final Workspace workspace = FileService.read(workspacePath, new Workspace());
+            return workspace == null ? new Workspace() : workspace;
         }
 
-        FileService.write(workspacePath, new Workspace().serialize());
+        FileService.write(workspacePath, new Workspace());
         return new Workspace();
     }
 
@@ -325,22 +565,38 @@ public class ProjectService {
     }
 
     /**
-     * Save the evolution to a .evolution file and back up the configuration to an xml file
+     * Save the evolution to a binary .evolution file and back up the configuration to an xml file
      * with the same number.
+     * The number is taken from the project's evolution index, which gets an entry for the saved run.
+     * The evolution file is created exclusively. If another process already took the number,
+     * its file is indexed and the next number of the index is tried.
      *
      * @param evolution evolution to write
      * @param prefix    file name prefix
-     * @return path to the saved evolution
-     */
-    public static Path writeEvolution(final Evolution evolution, final String prefix) {
-        final int counter = FileService.counter(currentProject.getPath(), prefix + "-", ".evolution");
-        final String filename = prefix + "-" + counter + ".evolution";
-        final Path evolutionPath = currentProject.getPath().resolve(filename);
-        try (final ObjectOutput out = new ObjectOutputStream(Files.newOutputStream(evolutionPath))) {
-            out.writeObject(evolution);
-            FileService.write(currentProject.getPath().resolve("config-" + counter + ".csv"), evolution.getConfiguration().serialize());
+     * @return index entry of the saved evolution
+     */
+    public static synchronized EvolutionEntry writeEvolution(final Evolution evolution, final String prefix) {
+        final EvolutionIndex index = readEvolutionIndex();
+        int counter = index.getNext();
+        try {
+            Path evolutionPath;
+            while (true) {
+                evolutionPath = currentProject.getPath().resolve(prefix + "-" + counter + ".evolution");
+                try (final OutputStream outputStream = Files.newOutputStream(evolutionPath, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+                    EvolutionFileService.write(evolution, outputStream);
+                    break;
+                } catch (final FileAlreadyExistsException e) {
+                    updateEntry(index, evolutionPath);
+                    counter = Math.max(counter + 1, index.getNext());
+                }
+            }
+            final String filename = evolutionPath.getFileName().toString();
+            FileService.write(currentProject.getPath().resolve("config-" + counter + ".csv"), evolution.getConfiguration());
+            final EvolutionEntry entry = createEntry(counter, evolutionPath, evolution, LocalDateTime.now());
+            index.add(entry);
+            writeEvolutionIndex(index);
             EventService.LOG.trigger("Evolution was saved to file " + filename);
-            return evolutionPath;
+            return entry;
         } catch (final IOException e) {
             log.error("Could not open the evolution file.", e);
         }
@@ -349,28 +605,112 @@ public class ProjectService {
 
     /**
      * Read an evolution file and the configuration.
+     * The history of binary evolution files is read lazily from the memory-mapped file.
+     * Legacy evolution files written by the object serialization are converted
+     * to the binary format after reading them. Their own configuration is kept,
+     * if the backed up configuration is missing.
      *
      * @param evolutionFile .evolution file path
      * @return evolution with backed up configuration, if something fails, null
      */
     public static Evolution readEvolution(final Path evolutionFile) {
-        final Configuration configuration = new Configuration();
+        return readEvolution(evolutionFile, true);
+    }
+
+    /**
+     * Read an evolution file and the configuration.
+     *
+     * @param evolutionFile .evolution file path
+     * @param convert       true to convert a legacy evolution file to the binary format, false to leave it untouched
+     * @return evolution with backed up configuration, if something fails, null
+     * @see #readEvolution(Path)
+     */
+    private static Evolution readEvolution(final Path evolutionFile, final boolean convert) {
+        Configuration configuration = null;
         final int counter = getEvolutionFileNumber(evolutionFile);
         if (counter >= 0) {
             final Path configPath = evolutionFile.getParent().resolve("config-" + counter + ".csv");
             if (Files.exists(configPath))
-                configuration.parse(FileService.read(configPath).getRootElement());
+                configuration = FileService.read(configPath, new Configuration());
         }
-        try (final ObjectInputStream objectInputStream = new ObjectInputStream(Files.newInputStream(evolutionFile))) {
-            final Evolution evolution = (Evolution) objectInputStream.readObject();
-            evolution.setConfiguration(configuration);
+        try {
+            final boolean legacy = EvolutionFileService.isLegacy(evolutionFile);
+            final Evolution evolution = legacy ? EvolutionFileService.read(evolutionFile) : EvolutionFileService.open(evolutionFile);
+            if (configuration != null)
+                evolution.setConfiguration(configuration);
+            else if (evolution.getConfiguration() == null)
+                evolution.setConfiguration(new Configuration());
+            if (legacy && convert)
+                convertEvolution(evolutionFile, evolution);
             return evolution;
-        } catch (final IOException | ClassNotFoundException e) {
+        } catch (final IOException e) {
             EventService.LOG.trigger("Could not load evolution " + evolutionFile.toString() + ": " + e.getMessage());
         }
         return null;
     }
 
+    /**
+     * Convert a legacy evolution file to the binary format.
+     * A failed conversion leaves the legacy file untouched.
+     *
+     * @param evolutionFile legacy .evolution file path
+     * @param evolution     evolution read from the legacy file
+     */
+    private static void convertEvolution(final Path evolutionFile, final Evolution evolution) {
+        try {
+            EvolutionFileService.convert(evolutionFile, evolution);
+            EventService.LOG.trigger("Converted evolution " + evolutionFile.getFileName() + " to the binary format.");
+        } catch (final IOException e) {
+            log.error("Could not convert the legacy evolution file.", e);
+        }
+    }
+
+    /**
+     * Get the folder of the current project's configuration files.
+     *
+     * @return configuration folder path
+     */
+    public static Path getConfigFolder() {
+        return currentProject.getPath().resolve(PROJECT_LEVEL_HIDDEN).resolve(CONFIG_FOLDER);
+    }
+
+    /**
+     * Create the path of the checkpoint file of a new evolution run in the current project.
+     * Every run gets its own file named by its start time, so a finished run only deletes its own checkpoint.
+     *
+     * @return checkpoint file path of the run
+     * @see evo.search.Evolution#getCheckpointPath()
+     */
+    public static Path createCheckpointPath() {
+        final long now = System.currentTimeMillis();
+        final long stamp = lastCheckpointStamp.accumulateAndGet(now, (last, current) -> Math.max(last + 1, current));
+        return currentProject.getPath().resolve("run-" + stamp + CHECKPOINT_EXTENSION);
+    }
+
+    /**
+     * Get the path of the most recently written checkpoint file in the current project.
+     *
+     * @return latest checkpoint file path, null if there is none
+     */
+    public static Path getLatestCheckpointPath() {
+        try (final Stream<Path> files = Files.list(currentProject.getPath())) {
+            return files
+                    .filter(path -> path.getFileName().toString().endsWith(CHECKPOINT_EXTENSION))
+                    .filter(Files::isRegularFile)
+                    .max(Comparator.comparing(path -> {
+                        try {
+                            return Files.getLastModifiedTime(path);
+                        } catch (final IOException e) {
+                            return FileTime.fromMillis(0);
+                        }
+                    }))
+                    .orElse(null);
+        } catch (final IOException e) {
+            log.error("Could not list the checkpoints of the project.", e);
+            return null;
+        }
+    }
+
     /**
      * Get the number from the evolution file.
      *
@@ -389,24 +729,207 @@ public class ProjectService {
     }
 
     /**
-     * Scan the current projects directory for .evolution files.
+     * Get the saved evolutions of the current project from its evolution index.
+     *
+     * @return entries of the saved evolutions sorted by their numbers
+     */
+    public static List<EvolutionEntry> getSavedEvolutions() {
+        return sortedEntries(readEvolutionIndex());
+    }
+
+    /**
+     * Get the entries of an evolution index sorted by their numbers.
+     *
+     * @param index evolution index
+     * @return sorted copy of the index entries
+     */
+    private static List<EvolutionEntry> sortedEntries(final EvolutionIndex index) {
+        final List<EvolutionEntry> entries = new ArrayList<>(index.getEntries());
+        entries.sort(Comparator.comparingInt(EvolutionEntry::getId));
+        return entries;
+    }
+
+    /**
+     * Update the entry of an evolution file in the current project's evolution index,
+     * e.g. after another process saved or deleted it.
+     * Entries of unchanged files are kept without reading the file.
+     * Legacy evolution files are not converted, so indexing never changes the watched files.
+     * Only the given file is looked at, unless the project has no readable index yet.
      *
-     * @return list of evolution file paths
+     * @param evolutionFile .evolution file path
+     * @return current index entry of the evolution, null if the file was deleted
+     */
+    public static synchronized EvolutionEntry indexEvolution(final Path evolutionFile) {
+        final EvolutionIndex loaded = loadEvolutionIndex();
+        if (loaded == null)
+            return findEntry(readEvolutionIndex(), evolutionFile.getFileName().toString());
+        if (updateEntry(loaded, evolutionFile))
+            writeEvolutionIndex(loaded);
+        return findEntry(loaded, evolutionFile.getFileName().toString());
+    }
+
+    /**
+     * Find the entry of an evolution file in an evolution index.
+     *
+     * @param index evolution index to search
+     * @param file  file name of the evolution
+     * @return entry of the evolution file, null if it is not indexed
      */
-    public static List<Path> getSavedEvolutions() {
+    private static EvolutionEntry findEntry(final EvolutionIndex index, final String file) {
+        return index.getEntries().stream()
+                .filter(entry -> entry.getFile().equals(file))
+                .findFirst()
+                .orElse(null);
+    }
+
+    /**
+     * Update the entry of an evolution file in an evolution index.
+     * The entry of a deleted file is removed. A new or resized file is read without being
+     * converted and indexed, while the entry of an unchanged file is kept without reading it.
+     *
+     * @param index         evolution index to update
+     * @param evolutionFile .evolution file path
+     * @return true, if the index changed, false otherwise
+     */
+    private static boolean updateEntry(final EvolutionIndex index, final Path evolutionFile) {
+        final EvolutionEntry existing = findEntry(index, evolutionFile.getFileName().toString());
+        if (Files.notExists(evolutionFile))
+            return existing != null && index.getEntries().remove(existing);
+
+        try {
+            if (existing != null && existing.getSize() == Files.size(evolutionFile))
+                return false;
+            final Evolution evolution = readEvolution(evolutionFile, false);
+            if (evolution == null)
+                return false;
+            final LocalDateTime saved = LocalDateTime.ofInstant(Files.getLastModifiedTime(evolutionFile).toInstant(), ZoneId.systemDefault());
+            final EvolutionEntry entry = createEntry(getEvolutionFileNumber(evolutionFile), evolutionFile, evolution, saved);
+            index.getEntries().remove(existing);
+            index.add(entry);
+            return true;
+        } catch (final IOException e) {
+            log.error("Could not index the evolution " + evolutionFile, e);
+            return false;
+        }
+    }
+
+    /**
+     * Get the path of a saved evolution in the current project.
+     *
+     * @param entry index entry of the saved evolution
+     * @return evolution file path
+     */
+    public static Path getEvolutionPath(final EvolutionEntry entry) {
+        return currentProject.getPath().resolve(entry.getFile());
+    }
+
+    /**
+     * Read the index of the current project's saved evolutions.
+     * The index is trusted without looking at the evolution files. Files changed by other processes
+     * are indexed by {@link #indexEvolution(Path)} or {@link #refreshSavedEvolutions()}.
+     * If the project has no readable index yet, it is built from the evolution files.
+     *
+     * @return index of the saved evolutions
+     */
+    static synchronized EvolutionIndex readEvolutionIndex() {
+        final EvolutionIndex index = loadEvolutionIndex();
+        if (index != null)
+            return index;
+        final EvolutionIndex rebuilt = new EvolutionIndex();
+        reconcileEvolutions(rebuilt);
+        writeEvolutionIndex(rebuilt);
+        return rebuilt;
+    }
+
+    /**
+     * Load the index file of the current project's saved evolutions.
+     *
+     * @return index of the saved evolutions, null if the project has no readable index
+     */
+    private static EvolutionIndex loadEvolutionIndex() {
+        final Path indexPath = currentProject.getPath().resolve(PROJECT_LEVEL_HIDDEN).resolve(EVOLUTION_INDEX);
+        return Files.exists(indexPath) ? FileService.read(indexPath, new EvolutionIndex()) : null;
+    }
+
+    /**
+     * Verify the index of the current project's saved evolutions against the evolution files
+     * in the project's directory, e.g. after other processes saved runs while the project was closed.
+     * Only new and resized files are read.
+     *
+     * @return entries of the saved evolutions sorted by their numbers
+     */
+    public static synchronized List<EvolutionEntry> refreshSavedEvolutions() {
+        final EvolutionIndex loaded = loadEvolutionIndex();
+        final EvolutionIndex index = loaded == null ? new EvolutionIndex() : loaded;
+        if (reconcileEvolutions(index) || loaded == null)
+            writeEvolutionIndex(index);
+        return sortedEntries(index);
+    }
+
+    /**
+     * Write the index of the current project's saved evolutions atomically.
+     *
+     * @param index index of the saved evolutions
+     */
+    private static void writeEvolutionIndex(final EvolutionIndex index) {
+        final Path hiddenPath = currentProject.getPath().resolve(PROJECT_LEVEL_HIDDEN);
         try {
-            return Files.walk(currentProject.getPath(), 1)
-                    .filter(path ->
-                            path.getFileName().toString().endsWith(".evolution")
-                    )
-                    .filter(path -> {
-                        final int number = getEvolutionFileNumber(path);
-                        return Files.exists(currentProject.getPath().resolve("config-" + number + ".csv"));
-                    })
-                    .collect(Collectors.toList());
+            Files.createDirectories(hiddenPath);
+            FileService.writeAtomic(hiddenPath.resolve(EVOLUTION_INDEX), outputStream -> XmlService.write(new BufferedOutputStream(outputStream), index));
+        } catch (final IOException e) {
+            log.error("Could not write the evolution index.", e);
+        }
+    }
+
+    /**
+     * Reconcile an evolution index with the .evolution files in the current project's directory.
+     * Entries of deleted files are removed and new or changed files are indexed.
+     *
+     * @param index evolution index to reconcile
+     * @return true, if the index changed, false otherwise
+     */
+    private static boolean reconcileEvolutions(final EvolutionIndex index) {
+        final Set<Path> evolutionFiles = new HashSet<>();
+        try (final Stream<Path> files = Files.list(currentProject.getPath())) {
+            files.filter(path -> path.getFileName().toString().endsWith(".evolution"))
+                    .filter(Files::isRegularFile)
+                    .forEach(evolutionFiles::add);
         } catch (final IOException e) {
             log.error("Could not scan the projects directory.", e);
+            return false;
         }
-        return Collections.emptyList();
+        for (final EvolutionEntry entry : new ArrayList<>(index.getEntries()))
+            evolutionFiles.add(currentProject.getPath().resolve(entry.getFile()));
+
+        boolean changed = false;
+        for (final Path evolutionFile : evolutionFiles)
+            changed |= updateEntry(index, evolutionFile);
+        return changed;
+    }
+
+    /**
+     * Create the index entry of a saved evolution.
+     *
+     * @param id            number of the saved evolution
+     * @param evolutionFile .evolution file path
+     * @param evolution     saved evolution
+     * @param saved         time the evolution was saved
+     * @return index entry of the evolution
+     * @throws IOException if the size of the evolution file could not be read
+     */
+    private static EvolutionEntry createEntry(final int id, final Path evolutionFile, final Evolution evolution, final LocalDateTime saved) throws IOException {
+        final Configuration configuration = evolution.getConfiguration();
+        final List<GenerationRecord> history = evolution.getHistory();
+        final Phenotype<DiscreteGene, Double> best = evolution.getBestPhenotype();
+        return new EvolutionEntry(
+                id,
+                evolutionFile.getFileName().toString(),
+                configuration == null || configuration.getName() == null ? "Unknown" : configuration.getName(),
+                configuration == null ? "Unknown" : configuration.getFitness().getName(),
+                history == null || history.isEmpty() ? 0 : history.get(history.size() - 1).getGeneration(),
+                best == null ? Double.NaN : best.fitness(),
+                saved,
+                Files.size(evolutionFile)
+        );
     }
 }
@@ -0,0 +1,186 @@
+package evo.search.io.service;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Watcher of a project's saved evolutions and configuration files.
+ * <p>
+ * Changes are collected until the files are quiet for {@link #DEBOUNCE} milliseconds, so a file
+ * being written produces one notification instead of one per write. Continuous changes are still
+ * reported at least every {@link #MAX_DELAY} milliseconds. The consumers are called on the
+ * watcher's thread with the changed, created or deleted files.
+ *
+ * @author jotoh
+ */
+@Slf4j
+public class ProjectWatcher implements Closeable {
+
+    /**
+     * Milliseconds without changes, after which the collected changes are reported.
+     */
+    static final long DEBOUNCE = 500;
+
+    /**
+     * Maximum milliseconds collected changes are held back.
+     */
+    static final long MAX_DELAY = 5000;
+
+    /**
+     * Watch service of the project's directories.
+     */
+    private final WatchService watchService;
+
+    /**
+     * Project directory holding the saved evolutions.
+     */
+    private final Path projectFolder;
+
+    /**
+     * Directory holding the configuration files.
+     */
+    private final Path configFolder;
+
+    /**
+     * Consumer of changed evolution files.
+     */
+    private final Consumer<Set<Path>> evolutionsChanged;
+
+    /**
+     * Consumer of changed configuration files.
+     */
+    private final Consumer<Set<Path>> configurationsChanged;
+
+    /**
+     * Thread polling the watch service.
+     */
+    private final Thread thread;
+
+    /**
+     * Construct and start a project watcher.
+     *
+     * @param projectFolder         project directory holding the saved evolutions
+     * @param configFolder          directory holding the configuration files, not watched if it does not exist
+     * @param evolutionsChanged     consumer of changed evolution files
+     * @param configurationsChanged consumer of changed configuration files
+     * @throws IOException if the directories could not be watched
+     */
+    public ProjectWatcher(final Path projectFolder, final Path configFolder, final Consumer<Set<Path>> evolutionsChanged, final Consumer<Set<Path>> configurationsChanged) throws IOException {
+        this.projectFolder = projectFolder.toAbsolutePath().normalize();
+        this.configFolder = configFolder.toAbsolutePath().normalize();
+        this.evolutionsChanged = evolutionsChanged;
+        this.configurationsChanged = configurationsChanged;
+
+        watchService = this.projectFolder.getFileSystem().newWatchService();
+        register(this.projectFolder);
+        if (Files.isDirectory(this.configFolder))
+            register(this.configFolder);
+
+        thread = new Thread(this::run, "project-watcher");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Register a directory with the watch service.
+     *
+     * @param directory directory to watch
+     * @throws IOException if the directory could not be watched
+     */
+    private void register(final Path directory) throws IOException {
+        directory.register(
+                watchService,
+                StandardWatchEventKinds.ENTRY_CREATE,
+                StandardWatchEventKinds.ENTRY_DELETE,
+                StandardWatchEventKinds.ENTRY_MODIFY
+        );
+    }
+
+    /**
+     * Poll the watch service and report the debounced changes until the watcher is closed.
+     */
+    private void run() {
+        final Set<Path> evolutions = new LinkedHashSet<>();
+        final Set<Path> configurations = new LinkedHashSet<>();
+        long first = 0;
+        try {
+            while (true) {
+                final WatchKey key;
+                if (first == 0) {
+                    key = watchService.take();
+                } else {
+                    final long remaining = MAX_DELAY - (System.currentTimeMillis() - first);
+                    key = remaining > 0 ? watchService.poll(Math.min(DEBOUNCE, remaining), TimeUnit.MILLISECONDS) : null;
+                }
+                if (key == null) {
+                    report(evolutions, configurations);
+                    first = 0;
+                    continue;
+                }
+
+                final Path directory = (Path) key.watchable();
+                for (final WatchEvent<?> event : key.pollEvents()) {
+                    if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                        log.warn("Missed changes in " + directory);
+                        continue;
+                    }
+                    final Path file = directory.resolve((Path) event.context());
+                    final String name = file.getFileName().toString();
+                    if (directory.equals(projectFolder) && name.endsWith(".evolution"))
+                        evolutions.add(file);
+                    else if (directory.equals(configFolder) && name.endsWith(".xml"))
+                        configurations.add(file);
+                    else
+                        continue;
+                    if (first == 0)
+                        first = System.currentTimeMillis();
+                }
+                key.reset();
+            }
+        } catch (final InterruptedException | ClosedWatchServiceException ignored) {
+        }
+    }
+
+    /**
+     * Report and clear the collected changes.
+     *
+     * @param evolutions     changed evolution files
+     * @param configurations changed configuration files
+     */
+    private void report(final Set<Path> evolutions, final Set<Path> configurations) {
+        try {
+            if (!evolutions.isEmpty())
+                evolutionsChanged.accept(Set.copyOf(evolutions));
+            if (!configurations.isEmpty())
+                configurationsChanged.accept(Set.copyOf(configurations));
+        } catch (final RuntimeException e) {
+            log.error("Could not handle the changed project files.", e);
+        }
+        evolutions.clear();
+        configurations.clear();
+    }
+
+    /**
+     * Stop watching the project.
+     *
+     * @throws IOException if the watch service could not be closed
+     */
+    @Override
+    public void close() throws IOException {
+        watchService.close();
+        thread.interrupt();
+    }
+}
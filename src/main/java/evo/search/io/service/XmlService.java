@@ -2,6 +2,7 @@ package evo.search.io.service;
 
 import evo.search.Main;
 import evo.search.io.entities.IndexEntry;
+import evo.search.io.entities.XmlEntity;
 import evo.search.util.ListUtils;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
@@ -9,8 +10,19 @@ import org.dom4j.Attribute;
 import org.dom4j.Document;
 import org.dom4j.DocumentHelper;
 import org.dom4j.Element;
+import org.dom4j.Node;
 import org.dom4j.tree.DefaultElement;
 
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.XMLStreamWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.*;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
@@ -178,6 +190,148 @@ public class XmlService {
         for (final T item : list) parent.add(action.apply(item));
     }
 
+    /**
+     * Create a xml stream reader, which resolves no external entities.
+     *
+     * @param inputStream input stream of the xml document
+     * @return xml stream reader
+     * @throws XMLStreamException if the reader could not be created
+     */
+    public static XMLStreamReader createReader(final InputStream inputStream) throws XMLStreamException {
+        final XMLInputFactory factory = XMLInputFactory.newFactory();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return factory.createXMLStreamReader(inputStream);
+    }
+
+    /**
+     * Write a {@link XmlEntity} as utf-8 encoded xml document to a stream.
+     * The stream is flushed, but not closed.
+     *
+     * @param outputStream output stream of the xml document
+     * @param entity       entity to write
+     * @throws IOException if the document could not be written
+     */
+    public static void write(final OutputStream outputStream, final XmlEntity<?> entity) throws IOException {
+        try {
+            final XMLStreamWriter writer = XMLOutputFactory.newFactory().createXMLStreamWriter(outputStream, StandardCharsets.UTF_8.name());
+            writer.writeStartDocument(StandardCharsets.UTF_8.name(), "1.0");
+            entity.write(writer);
+            writer.writeEndDocument();
+            writer.flush();
+            writer.close();
+        } catch (final XMLStreamException e) {
+            throw new IOException("Could not write the xml document.", e);
+        }
+        outputStream.flush();
+    }
+
+    /**
+     * Read a {@link XmlEntity} from the root element of a xml document.
+     *
+     * @param inputStream input stream of the xml document
+     * @param entity      entity to parse the document into
+     * @param <T>         type of the parsed entity
+     * @return parsed entity
+     * @throws IOException if the document could not be read
+     */
+    public static <T> T read(final InputStream inputStream, final XmlEntity<T> entity) throws IOException {
+        try {
+            final XMLStreamReader reader = createReader(inputStream);
+            try {
+                while (reader.hasNext())
+                    if (reader.next() == XMLStreamConstants.START_ELEMENT)
+                        return entity.read(reader);
+                throw new IOException("The xml document has no root element.");
+            } finally {
+                reader.close();
+            }
+        } catch (final XMLStreamException e) {
+            throw new IOException("Could not read the xml document.", e);
+        }
+    }
+
+    /**
+     * Write an {@link Element} with its attributes, texts and children to a xml stream.
+     *
+     * @param writer  xml stream writer
+     * @param element element to write
+     * @throws XMLStreamException if the element could not be written
+     */
+    public static void writeElement(final XMLStreamWriter writer, final Element element) throws XMLStreamException {
+        writer.writeStartElement(element.getName());
+        for (final Attribute attribute : element.attributes())
+            writer.writeAttribute(attribute.getName(), attribute.getValue());
+        for (final Node node : element.content()) {
+            if (node instanceof Element)
+                writeElement(writer, (Element) node);
+            else if (node.getNodeType() == Node.TEXT_NODE || node.getNodeType() == Node.CDATA_SECTION_NODE)
+                writer.writeCharacters(node.getText());
+        }
+        writer.writeEndElement();
+    }
+
+    /**
+     * Read an {@link Element} with its attributes, texts and children from a xml stream
+     * positioned at the start of the element.
+     * The reader is left at the end of the element.
+     *
+     * @param reader xml stream reader
+     * @return read element
+     * @throws XMLStreamException if the element could not be read
+     */
+    public static Element readElement(final XMLStreamReader reader) throws XMLStreamException {
+        final Element element = new DefaultElement(reader.getLocalName());
+        for (int i = 0; i < reader.getAttributeCount(); i++)
+            element.addAttribute(reader.getAttributeLocalName(i), reader.getAttributeValue(i));
+        while (reader.hasNext()) {
+            switch (reader.next()) {
+                case XMLStreamConstants.START_ELEMENT:
+                    element.add(readElement(reader));
+                    break;
+                case XMLStreamConstants.CHARACTERS:
+                case XMLStreamConstants.CDATA:
+                    element.addText(reader.getText());
+                    break;
+                case XMLStreamConstants.END_ELEMENT:
+                    return element;
+            }
+        }
+        return element;
+    }
+
+    /**
+     * Write a {@code <property>} element with "name", "value" and "type" attributes to a xml stream.
+     * The type is inferred through the value.
+     *
+     * @param writer xml stream writer
+     * @param name   name of the property
+     * @param value  value of the property
+     * @throws XMLStreamException if the property could not be written
+     * @see #writeProperty(String, Object)
+     */
+    public static void writeProperty(final XMLStreamWriter writer, @NonNull final String name, final Object value) throws XMLStreamException {
+        writer.writeEmptyElement("property");
+        writer.writeAttribute("name", name);
+        writer.writeAttribute("value", value == null ? "null" : String.valueOf(value));
+        if (value != null)
+            writer.writeAttribute("type", value.getClass().getSimpleName());
+    }
+
+    /**
+     * Consume the "name" and "value" attributes of a {@code <property>} element in a xml stream.
+     *
+     * @param reader   xml stream reader positioned at the start of the property element
+     * @param consumer consumer of the "name" and "value" attributes values
+     * @see #readProperty(Element, BiConsumer)
+     */
+    public static void readProperty(final XMLStreamReader reader, final BiConsumer<String, String> consumer) {
+        final String name = reader.getAttributeValue(null, "name");
+        final String value = reader.getAttributeValue(null, "value");
+        if (name != null && value != null)
+            consumer.accept(name, value.equals("null") ? null : value);
+    }
+
     /**
      * Create a simple element with name and content.
      *
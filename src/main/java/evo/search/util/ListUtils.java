@@ -285,12 +285,25 @@ public class ListUtils {
      * @return max value divided by min value
      */
     public static float getMinMaxRatio(final float[] distances) {
-        if (distances.length < 2)
+        return getMinMaxRatio(distances, distances.length);
+    }
+
+    /**
+     * Compute the ratio of the maximum value divided by the minimum value
+     * of the first values of the float array.
+     *
+     * @param distances array of float values
+     * @param length    amount of values to consider
+     * @return max value divided by min value
+     */
+    public static float getMinMaxRatio(final float[] distances, final int length) {
+        if (length < 2)
             return 1;
         float min = Float.POSITIVE_INFINITY;
         float max = 0;
 
-        for (final float distance : distances) {
+        for (int i = 0; i < length; i++) {
+            final float distance = distances[i];
             if (distance < min)
                 min = distance;
             if (distance > max)
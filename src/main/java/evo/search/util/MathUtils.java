@@ -25,6 +25,7 @@ public class MathUtils {
 
     /**
      * Euclidean distance between two {@link evo.search.ga.DiscreteGene}s.
+     * Takes the cosine of the angle between the genes from the {@link TrigTable}.
      *
      * @param positions amount of rays
      * @param positionA first ray index
@@ -34,7 +35,7 @@ public class MathUtils {
      * @return euclidean distance between two genes
      */
     public static double polarDistance(final short positions, final short positionA, final float distanceA, final short positionB, final float distanceB) {
-        return lawOfCosine(sectorAngle(positions) * (positionA - positionB), distanceA, distanceB);
+        return lawOfCosineByCosine(TrigTable.of(positions).cos(positionA - positionB), distanceA, distanceB);
     }
 
     /**
@@ -57,7 +58,20 @@ public class MathUtils {
      * @return length of the third side forming a triangle
      */
     public static double lawOfCosine(final double angle, final double distanceA, final double distanceB) {
-        final double subtract = 2 * distanceA * distanceB * Math.cos(angle);
+        return lawOfCosineByCosine(Math.cos(angle), distanceA, distanceB);
+    }
+
+    /**
+     * Applies the law of cosines to the already computed {@code cosine} of the angle between
+     * two line segments with respective lengths {@code distanceA} and {@code distanceB}.
+     *
+     * @param cosine    cosine of the angle between the two line segments
+     * @param distanceA length of one line segment
+     * @param distanceB length of other line segment
+     * @return length of the third side forming a triangle
+     */
+    public static double lawOfCosineByCosine(final double cosine, final double distanceA, final double distanceB) {
+        final double subtract = 2 * distanceA * distanceB * cosine;
         return Math.sqrt(distanceA * distanceA + distanceB * distanceB - subtract);
     }
 
@@ -84,7 +98,20 @@ public class MathUtils {
      * @return area covered by triangle
      */
     public static double areaInTriangle(final double angle, final double lengthA, final double lengthB) {
-        return lengthA * lengthB * Math.sin(angle) / 2;
+        return areaInTriangleBySine(Math.sin(angle), lengthA, lengthB);
+    }
+
+    /**
+     * Calculate the area covered by a triangle defined by the already computed sine of
+     * an edge's angle and the lengths of the two sides connected to the edge.
+     *
+     * @param sine    sine of the angle
+     * @param lengthA one side's length
+     * @param lengthB other side's length
+     * @return area covered by triangle
+     */
+    public static double areaInTriangleBySine(final double sine, final double lengthA, final double lengthB) {
+        return lengthA * lengthB * sine / 2;
     }
 
 }
@@ -0,0 +1,96 @@
+package evo.search.util;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Immutable lookup table of the sines and cosines of the angles between
+ * the rays of a discrete ray configuration.
+ * <p>
+ * Genes only sit on a fixed amount of equally distanced rays, so only
+ * that amount of distinct angles exists. The tables are shared per ray count.
+ *
+ * @author jotoh
+ */
+public final class TrigTable {
+
+    /**
+     * Shared tables by their ray count.
+     */
+    private static final Map<Integer, TrigTable> TABLES = new ConcurrentHashMap<>();
+
+    /**
+     * Amount of rays.
+     */
+    private final int positions;
+
+    /**
+     * Cosines of the multiples of the sector angle.
+     */
+    private final double[] cos;
+
+    /**
+     * Sines of the multiples of the sector angle.
+     */
+    private final double[] sin;
+
+    /**
+     * Compute the table for a ray count.
+     *
+     * @param positions amount of rays
+     */
+    private TrigTable(final int positions) {
+        this.positions = positions;
+        this.cos = new double[positions];
+        this.sin = new double[positions];
+        final double sectorAngle = MathUtils.sectorAngle(positions);
+        for (int i = 0; i < positions; i++) {
+            cos[i] = Math.cos(sectorAngle * i);
+            sin[i] = Math.sin(sectorAngle * i);
+        }
+    }
+
+    /**
+     * Get the shared table for a ray count.
+     *
+     * @param positions amount of rays
+     * @return table for the ray count
+     */
+    public static TrigTable of(final int positions) {
+        if (positions < 1)
+            throw new IllegalArgumentException("The amount of rays has to be positive.");
+        return TABLES.computeIfAbsent(positions, TrigTable::new);
+    }
+
+    /**
+     * Get the amount of rays.
+     *
+     * @return amount of rays
+     */
+    public int getPositions() {
+        return positions;
+    }
+
+    /**
+     * Get the cosine of a multiple of the sector angle.
+     *
+     * @param steps amount of sectors, may be negative
+     * @return cosine of the angle spanning the sectors
+     */
+    public double cos(final int steps) {
+        final int index = Math.abs(steps);
+        return cos[index < positions ? index : index % positions];
+    }
+
+    /**
+     * Get the sine of a multiple of the sector angle.
+     *
+     * @param steps amount of sectors, may be negative
+     * @return sine of the angle spanning the sectors
+     */
+    public double sin(final int steps) {
+        final int index = Math.abs(steps);
+        final double value = sin[index < positions ? index : index % positions];
+        return steps < 0 ? -value : value;
+    }
+}
@@ -1,9 +1,11 @@
 package evo.search.view;
 
-import evo.search.Evolution;
 import evo.search.ga.DiscreteGene;
+import evo.search.ga.FitnessMethod;
+import evo.search.ga.FitnessMethods;
 import evo.search.ga.mutators.DiscreteAlterer;
 import evo.search.io.entities.Configuration;
+import evo.search.io.service.ProjectService;
 import evo.search.util.ListUtils;
 import evo.search.util.RandomUtils;
 import evo.search.view.listener.DocumentAdapter;
@@ -16,7 +18,6 @@ import javax.swing.table.DefaultTableCellRenderer;
 import java.awt.*;
 import java.awt.event.*;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -40,7 +41,7 @@ public class ConfigPanel extends JDialog {
     /**
      * List model of the fitness method selection.
      */
-    private final DefaultComboBoxModel<Evolution.Fitness> fitnessListModel = new DefaultComboBoxModel<>();
+    private final DefaultComboBoxModel<FitnessMethod> fitnessListModel = new DefaultComboBoxModel<>();
     /**
      * Root panel of this config panel.
      */
@@ -123,13 +124,13 @@ public class ConfigPanel extends JDialog {
     /**
      * Parent dialog of this panel. Used for naming bindings and change triggers.
      *
-     * @see ConfigurationDialog#triggerChange()
+     * @see #triggerChange()
      */
     private ConfigurationDialog parent;
     /**
      * Combo box for the fitness method selection.
      */
-    private JComboBox<Evolution.Fitness> fitnessComboBox;
+    private JComboBox<FitnessMethod> fitnessComboBox;
     /**
      * Checkbox for the choose distance without permutation property.
      *
@@ -175,6 +176,7 @@ public class ConfigPanel extends JDialog {
                 if (shuffledTreasures == null) {
                     return;
                 }
+                triggerChange();
                 configuration.setTreasures(shuffledTreasures);
                 printTreasures(shuffledTreasures);
             });
@@ -191,6 +193,7 @@ public class ConfigPanel extends JDialog {
                 if (shuffledTreasures == null) {
                     return;
                 }
+                triggerChange();
                 configuration.setDistances(shuffledTreasures);
                 printDistances(shuffledTreasures);
             });
@@ -198,23 +201,45 @@ public class ConfigPanel extends JDialog {
         });
 
         permutateDistancesButton.addActionListener(e -> {
+            triggerChange();
             Collections.shuffle(configuration.getDistances());
             printDistances(configuration.getDistances());
         });
 
         permutateTreasuresButton.addActionListener(e -> {
+            triggerChange();
             Collections.shuffle(configuration.getTreasures());
             printTreasures(configuration.getTreasures());
         });
 
         fitnessComboBox.setModel(fitnessListModel);
-        fitnessListModel.addAll(Arrays.asList(Evolution.Fitness.values()));
+        fitnessListModel.addAll(FitnessMethods.all());
+        fitnessComboBox.setRenderer(new DefaultListCellRenderer() {
+            @Override
+            public Component getListCellRendererComponent(final JList<?> list, final Object value, final int index, final boolean isSelected, final boolean cellHasFocus) {
+                final Object name = value instanceof FitnessMethod ? ((FitnessMethod) value).getName() : value;
+                return super.getListCellRendererComponent(list, name, index, isSelected, cellHasFocus);
+            }
+        });
 
         mutatorTable.setModel(mutatorTableModel);
 
         setConfiguration(configuration);
     }
 
+    /**
+     * Mark the configuration as changed and trigger the change in the parent dialog.
+     * Changes before the panel is assigned to its dialog are the initial bindings and are ignored.
+     *
+     * @see ProjectService#markChanged(Configuration)
+     */
+    private void triggerChange() {
+        if (parent == null)
+            return;
+        ProjectService.markChanged(configuration);
+        parent.triggerChange();
+    }
+
     /**
      * Assign a parent to the panel for button bindings and scroll propagation.
      * Only accepts a {@link ConfigurationDialog}.
@@ -360,7 +385,7 @@ public class ConfigPanel extends JDialog {
         spinner.setValue(initialValue);
         spinner.addChangeListener(e -> {
             change.run();
-            parent.triggerChange();
+            triggerChange();
             try {
                 valueConsumer.accept((int) spinner.getValue());
             } catch (final Exception ignored) {
@@ -392,7 +417,7 @@ public class ConfigPanel extends JDialog {
         printDistances(configuration.getDistances());
 
         distancesTextArea.getDocument().addDocumentListener((DocumentAdapter) e -> {
-            parent.triggerChange();
+            triggerChange();
             final String input = distancesTextArea.getText();
 
             final List<Double> distances = new ArrayList<>();
@@ -422,8 +447,8 @@ public class ConfigPanel extends JDialog {
     private void bindFitness() {
         fitnessListModel.setSelectedItem(configuration.getFitness());
         fitnessComboBox.addActionListener(e -> {
-            parent.triggerChange();
-            configuration.setFitness((Evolution.Fitness) fitnessComboBox.getSelectedItem());
+            triggerChange();
+            configuration.setFitness((FitnessMethod) fitnessComboBox.getSelectedItem());
         });
     }
 
@@ -451,12 +476,12 @@ public class ConfigPanel extends JDialog {
         }
 
         mutatorTable.getSelectionModel().addListSelectionListener(e -> {
-            parent.triggerChange();
+            triggerChange();
             configuration.setAlterers(getSelectedAlterers());
         });
 
         mutatorTable.getModel().addTableModelListener(l -> {
-            parent.triggerChange();
+            triggerChange();
             configuration.setAlterers(getSelectedAlterers());
         });
 
@@ -554,7 +579,7 @@ public class ConfigPanel extends JDialog {
 
             @Override
             public void keyTyped(final KeyEvent e) {
-                parent.triggerChange();
+                triggerChange();
                 final String text = treasuresTextArea.getText();
                 final int caretPosition = treasuresTextArea.getCaretPosition();
                 if (!smartInsert.get() && e.getKeyChar() == ',' || e.getKeyChar() == '(') {
@@ -594,7 +619,7 @@ public class ConfigPanel extends JDialog {
         noPermutationCheckbox.setSelected(configuration.isChooseWithoutPermutation());
         noPermutationCheckbox.addChangeListener(e -> {
             configuration.setChooseWithoutPermutation(noPermutationCheckbox.isSelected());
-            parent.triggerChange();
+            triggerChange();
         });
     }
 
@@ -608,8 +633,7 @@ public class ConfigPanel extends JDialog {
         distanceMutationSlider.addChangeListener(e -> {
             final double value = distanceMutationSlider.getValue() / (double) distanceMutationSlider.getMaximum();
             distanceMutationLabel.setText(String.format("\u00B1 %.2f", value));
-            if (parent != null)
-                parent.triggerChange();
+            triggerChange();
             configuration.setDistanceMutationDelta(value);
         });
 
@@ -169,8 +169,11 @@ public class ConfigurationDialog extends JDialog {
 
         nameTextField.getDocument().addDocumentListener((DocumentAdapter) e -> {
             if (nameTextField.getText().isEmpty() || selectedPanel == null) return;
-            if (typed.get()) triggerChange();
             final Configuration configuration = selectedPanel.getConfiguration();
+            if (typed.get()) {
+                ProjectService.markChanged(configuration);
+                triggerChange();
+            }
             configuration.setName(nameTextField.getText());
             configListModel.sort();
             configChooserList.setSelectedIndex(configListModel.indexOf(selectedPanel));
@@ -275,6 +278,7 @@ public class ConfigurationDialog extends JDialog {
      * @param configuration configuration to be displayed
      */
     private void addConfiguration(final Configuration configuration) {
+        ProjectService.markChanged(configuration);
         triggerChange();
         createConfigPanel(configuration);
     }
@@ -338,7 +342,9 @@ public class ConfigurationDialog extends JDialog {
     private void duplicateSelectedConfiguration() {
         triggerChange();
         if (selectedPanel == null) return;
-        final int newIndex = createConfigPanel(selectedPanel.getConfiguration().clone());
+        final Configuration duplicate = selectedPanel.getConfiguration().clone();
+        ProjectService.markChanged(duplicate);
+        final int newIndex = createConfigPanel(duplicate);
         configChooserList.setSelectedIndex(newIndex);
     }
 
@@ -5,7 +5,6 @@ import evo.search.Main;
 import evo.search.ga.DiscreteGene;
 import evo.search.io.service.FileService;
 import evo.search.util.ListUtils;
-import io.jenetics.util.ISeq;
 
 import javax.swing.*;
 import javax.swing.event.ChangeListener;
@@ -183,6 +182,7 @@ public class ExportDialog extends JDialog {
 
     /**
      * Export the {@link DiscreteGene} chromosomes to csv.
+     * Generations without a retained best phenotype are skipped.
      *
      * @return csv string
      */
@@ -192,10 +192,12 @@ public class ExportDialog extends JDialog {
         final String separator = separatorIndex == 0 ? ", " : "; ";
 
         final boolean exportFitness = fitnessInfo.isSelected();
-        List<String> lines = ListUtils.map(evolution.getHistory(), result -> {
-            final String sep = exportFitness ? separator + result.bestFitness() : "";
+        List<String> lines = ListUtils.map(evolution.getHistory(), record -> {
+            if (!record.hasBest())
+                return null;
+            final String sep = exportFitness ? separator + record.getBestFitness() : "";
             return printRowSeparated(
-                    ISeq.of(result.bestPhenotype().genotype().chromosome()).asList(),
+                    record.getBestChromosome(),
                     gene -> (int) gene.getPosition(),
                     gene -> (double) gene.getDistance(),
                     separator
@@ -248,6 +250,7 @@ public class ExportDialog extends JDialog {
 
     /**
      * Export the {@link DiscreteGene} chromosomes to latex.
+     * Generations without a retained best phenotype are skipped.
      *
      * @return latex string
      */
@@ -257,20 +260,20 @@ public class ExportDialog extends JDialog {
         final boolean fitness = fitnessInfo.isSelected();
 
         List<String> individualStrings = ListUtils
-                .map(evolution.getHistory(), result -> {
+                .map(evolution.getHistory(), record -> {
+                    if (!record.hasBest())
+                        return null;
                     final StringBuilder chromosomeString = new StringBuilder();
                     if (makro)
                         chromosomeString.append("\\individual{");
-                    result
-                            .bestPhenotype()
-                            .genotype()
-                            .chromosome()
+                    record
+                            .getBestChromosome()
                             .forEach(gene -> chromosomeString.append(gene.printSmall()));
                     if (makro)
                         chromosomeString.append("}");
                     if (fitness) {
                         chromosomeString.append(" %");
-                        chromosomeString.append(result.bestFitness());
+                        chromosomeString.append(record.getBestFitness());
                     }
                     return chromosomeString.toString();
                 });
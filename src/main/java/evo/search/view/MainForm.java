@@ -3,21 +3,27 @@ package evo.search.view;
 import com.github.weisj.darklaf.ui.list.DarkDefaultListCellRenderer;
 import evo.search.Evolution;
 import evo.search.Main;
-import evo.search.ga.AnalysisUtils;
+import evo.search.ga.Checkpoint;
 import evo.search.ga.DiscreteGene;
+import evo.search.ga.GenerationRecord;
 import evo.search.io.entities.Configuration;
+import evo.search.io.entities.EvolutionEntry;
 import evo.search.io.entities.Project;
 import evo.search.io.entities.Workspace;
+import evo.search.io.service.CheckpointService;
 import evo.search.io.service.EventService;
 import evo.search.io.service.MenuService;
 import evo.search.io.service.ProjectService;
+import evo.search.io.service.ProjectWatcher;
+import evo.search.util.ListUtils;
 import evo.search.view.model.ConfigComboModel;
 import evo.search.view.model.FitnessTableModel;
+import evo.search.view.model.HistoryTableModel;
+import evo.search.view.model.PhenotypeAnalytics;
 import evo.search.view.part.Canvas;
 import io.jenetics.Chromosome;
 import io.jenetics.Phenotype;
-import io.jenetics.engine.EvolutionResult;
-import io.jenetics.util.MSeq;
+import io.jenetics.util.RandomRegistry;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
@@ -29,11 +35,15 @@ import javax.swing.event.ChangeListener;
 import javax.swing.table.TableRowSorter;
 import java.awt.*;
 import java.awt.event.*;
+import java.io.IOException;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
@@ -118,6 +128,15 @@ public class MainForm extends JFrame {
      * Model of the generation table.
      */
     private FitnessTableModel populationTableModel;
+    /**
+     * Memoized analytics of the displayed phenotypes, computed in the background.
+     */
+    private final PhenotypeAnalytics analytics = new PhenotypeAnalytics(100_000);
+    /**
+     * Counter of the history table's clearings.
+     * Discards analytics computed for rows of a previous evolution.
+     */
+    private int historyEpoch = 0;
     /**
      * The canvas displaying individuals.
      */
@@ -141,11 +160,15 @@ public class MainForm extends JFrame {
     /**
      * List to display all saved evolutions.
      */
-    private JList<Path> savedEvolutionsList;
+    private JList<EvolutionEntry> savedEvolutionsList;
     /**
      * Model for the saved evolutions list.
      */
-    private final DefaultListModel<Path> savedEvolutionsModel = new DefaultListModel<>();
+    private final DefaultListModel<EvolutionEntry> savedEvolutionsModel = new DefaultListModel<>();
+    /**
+     * Watcher keeping the saved evolutions and configurations up to date with the project's files.
+     */
+    private ProjectWatcher projectWatcher;
     /**
      * Instantiated evolution generating the history.
      */
@@ -240,16 +263,18 @@ public class MainForm extends JFrame {
         savedEvolutionsList.setCellRenderer(new DarkDefaultListCellRenderer() {
             @Override
             public Component getListCellRendererComponent(final JList<?> list, final Object value, final int index, final boolean isSelected, final boolean cellHasFocus) {
-                final String name = ((Path) value).getFileName().toString();
-                return super.getListCellRendererComponent(list, name.replace(".evolution", ""), index, isSelected, cellHasFocus);
+                final EvolutionEntry entry = (EvolutionEntry) value;
+                final String name = String.format("%s (%s, %.2f)", entry.getFile().replace(".evolution", ""), entry.getConfiguration(), entry.getBestFitness());
+                return super.getListCellRendererComponent(list, name, index, isSelected, cellHasFocus);
             }
         });
         savedEvolutionsList.setModel(savedEvolutionsModel);
 
         savedEvolutionsList.addListSelectionListener(e -> {
             savedEvolutionsList.setEnabled(false);
-            final Path selectedPath = savedEvolutionsList.getSelectedValue();
-            if (selectedPath == null) return;
+            final EvolutionEntry selectedEntry = savedEvolutionsList.getSelectedValue();
+            if (selectedEntry == null) return;
+            final Path selectedPath = ProjectService.getEvolutionPath(selectedEntry);
 
             EventService.LOG_LABEL.trigger("Loading Evolution...");
             CompletableFuture.supplyAsync(() -> ProjectService.readEvolution(selectedPath))
@@ -260,22 +285,115 @@ public class MainForm extends JFrame {
                             return;
                         }
                         EventService.LOG_LABEL.trigger("Evolution loaded.");
-                        evolution = loadedEvolution;
-                        if (evolution.getHistory().size() == 0)
-                            return;
-                        final int lastIndex = evolution.getHistory().size() - 1;
-                        final Chromosome<DiscreteGene> chromosome = evolution
-                                .getHistory()
-                                .get(lastIndex)
-                                .bestPhenotype()
-                                .genotype()
-                                .chromosome();
-                        EventService.REPAINT_CANVAS.trigger(chromosome);
+                        SwingUtilities.invokeLater(() -> {
+                            evolution = loadedEvolution;
+                            analytics.clear();
+                            showHistory(loadedEvolution);
+                            final Phenotype<DiscreteGene, Double> best = evolution.getBestPhenotype();
+                            if (best != null)
+                                EventService.REPAINT_CANVAS.trigger(best.genotype().chromosome());
+                        });
                     });
         });
         CompletableFuture
                 .supplyAsync(ProjectService::getSavedEvolutions)
-                .thenAccept(savedEvolutionsModel::addAll);
+                .thenAccept(entries -> SwingUtilities.invokeLater(() -> entries.forEach(this::putSavedEvolution)));
+
+        try {
+            projectWatcher = new ProjectWatcher(
+                    project.getPath(),
+                    ProjectService.getConfigFolder(),
+                    this::onEvolutionFilesChanged,
+                    this::onConfigurationFilesChanged
+            );
+        } catch (final IOException e) {
+            log.error("Could not watch the project directory.", e);
+        }
+    }
+
+    /**
+     * Update the saved evolutions list with evolution files changed by another process.
+     * Called by the {@link #projectWatcher}.
+     *
+     * @param evolutionFiles changed evolution files
+     */
+    private void onEvolutionFilesChanged(final Set<Path> evolutionFiles) {
+        for (final Path evolutionFile : evolutionFiles) {
+            final String file = evolutionFile.getFileName().toString();
+            final EvolutionEntry entry = ProjectService.indexEvolution(evolutionFile);
+            SwingUtilities.invokeLater(() -> {
+                if (entry == null)
+                    removeSavedEvolution(file);
+                else
+                    putSavedEvolution(entry);
+            });
+        }
+    }
+
+    /**
+     * Update the configurations with configuration files changed by another process.
+     * Called by the {@link #projectWatcher}.
+     *
+     * @param configFiles changed configuration files
+     */
+    private void onConfigurationFilesChanged(final Set<Path> configFiles) {
+        final Map<Path, Configuration> changes = ProjectService.readChangedConfigurations(configFiles);
+        if (changes.isEmpty())
+            return;
+        SwingUtilities.invokeLater(() -> {
+            ProjectService.applyConfigurationChanges(changes);
+            EventService.CONFIGS_CHANGED.trigger(new ArrayList<>(project.getConfigurations()));
+        });
+    }
+
+    /**
+     * Add or replace the entry of a saved evolution in the list, ordered by the run numbers.
+     *
+     * @param entry entry of the saved evolution
+     */
+    private void putSavedEvolution(final EvolutionEntry entry) {
+        for (int i = 0; i < savedEvolutionsModel.size(); i++) {
+            final EvolutionEntry listed = savedEvolutionsModel.get(i);
+            if (listed.getFile().equals(entry.getFile())) {
+                savedEvolutionsModel.set(i, entry);
+                return;
+            }
+            if (listed.getId() > entry.getId()) {
+                savedEvolutionsModel.add(i, entry);
+                return;
+            }
+        }
+        savedEvolutionsModel.addElement(entry);
+    }
+
+    /**
+     * Verify the saved evolutions list against the evolution files in the project's directory,
+     * e.g. after other processes saved runs while the project was closed.
+     */
+    private void onRefreshEvolutions() {
+        CompletableFuture
+                .supplyAsync(ProjectService::refreshSavedEvolutions)
+                .thenAccept(entries -> SwingUtilities.invokeLater(() -> {
+                    final Set<String> files = entries.stream().map(EvolutionEntry::getFile).collect(Collectors.toSet());
+                    for (int i = savedEvolutionsModel.size() - 1; i >= 0; i--)
+                        if (!files.contains(savedEvolutionsModel.get(i).getFile()))
+                            savedEvolutionsModel.remove(i);
+                    entries.forEach(this::putSavedEvolution);
+                }));
+    }
+
+    /**
+     * Remove the entry of a deleted evolution file from the list.
+     *
+     * @param file file name of the deleted evolution
+     */
+    private void removeSavedEvolution(final String file) {
+        for (int i = 0; i < savedEvolutionsModel.size(); i++) {
+            if (savedEvolutionsModel.get(i).getFile().equals(file)) {
+                savedEvolutionsModel.remove(i);
+                return;
+            }
+        }
     }
 
     /**
@@ -334,6 +452,12 @@ public class MainForm extends JFrame {
         addWindowListener(new WindowAdapter() {
             @Override
             public void windowClosed(final WindowEvent e) {
+                if (projectWatcher != null) {
+                    try {
+                        projectWatcher.close();
+                    } catch (final IOException ignored) {
+                    }
+                }
                 new ChooserForm();
                 ProjectService.saveProjectWorkspace(workspace);
                 super.windowClosed(e);
@@ -374,10 +498,17 @@ public class MainForm extends JFrame {
                                 actionEvent -> onAbort(),
                                 MenuService.shortcut('w')
                         ),
+                        MenuService.item(
+                                "Resume",
+                                actionEvent -> onResume()
+                        ),
                         MenuService.SEPARATOR,
                         MenuService.item("Save",
                                 e -> SwingUtilities.invokeLater(this::saveEvolution)
                         ),
+                        MenuService.item("Refresh evolutions",
+                                actionEvent -> onRefreshEvolutions()
+                        ),
                         MenuService.menu(LangService.get("export"),
                                 MenuService.item(LangService.get("selected"),
                                         event -> SwingUtilities.invokeLater(() -> {
@@ -412,9 +543,9 @@ public class MainForm extends JFrame {
         }
         EventService.LOG_LABEL.trigger("Saving Evolution...");
         CompletableFuture.runAsync(() -> {
-            final Path evolutionPath = ProjectService.writeEvolution(evolution, "run");
-            if (evolutionPath != null)
-                savedEvolutionsModel.addElement(evolutionPath);
+            final EvolutionEntry entry = ProjectService.writeEvolution(evolution, "run");
+            if (entry != null)
+                SwingUtilities.invokeLater(() -> putSavedEvolution(entry));
         }).thenRun(() -> EventService.LOG_LABEL.trigger("Evolution saved."));
     }
 
@@ -449,25 +580,50 @@ public class MainForm extends JFrame {
              */
             private int generation = -1;
 
+            /**
+             * Evolution of the selected generation.
+             */
+            private Evolution shown;
+
+            /**
+             * Analytics of the displayed population, cancelled when another generation is selected.
+             */
+            private final List<CompletableFuture<List<Double>>> rows = new ArrayList<>();
+
             @Override
             public void stateChanged(final ChangeEvent l) {
                 if (widgetTabs.getSelectedIndex() == 2) {
                     final int selectedIndex = getSelectedGenerationIndex();
-                    if (selectedIndex == generation)
+                    final Evolution displayed = evolution;
+                    if (selectedIndex == generation && displayed == shown)
                         return;
 
                     generation = selectedIndex;
+                    shown = displayed;
+                    rows.forEach(row -> row.cancel(false));
+                    rows.clear();
 
-                    final EvolutionResult<DiscreteGene, Double> evolutionResult = evolution.getHistory().get(generation);
-                    populationTableModel.setColumnIdentifier(1, evolution.getConfiguration().getFitness().name());
+                    if (generation < 0) return;
 
-                    if (evolutionResult == null) return;
+                    final GenerationRecord record = evolution.getHistory().get(generation);
+                    populationTableModel.setColumnIdentifier(1, evolution.getConfiguration().getFitness().getName());
 
-                    final List<List<Double>> doubles = evolutionResult
-                            .population()
-                            .map(list -> phenotypeToTableRow(list))
-                            .asList();
-                    populationTableModel.setData(doubles);
+                    if (record == null || !record.hasPopulation()) {
+                        populationTableModel.setData(Collections.emptyList());
+                        return;
+                    }
+
+                    final List<Phenotype<DiscreteGene, Double>> population = record.getPopulation().asList();
+                    populationTableModel.setData(ListUtils.map(population, PhenotypeAnalytics::placeholder));
+                    for (int individual = 0; individual < population.size(); individual++) {
+                        final int row = individual;
+                        final CompletableFuture<List<Double>> values = analytics.get(displayed, record.getGeneration(), individual, population.get(individual));
+                        rows.add(values);
+                        values.thenAccept(computed -> SwingUtilities.invokeLater(() -> {
+                            if (generation == selectedIndex && shown == displayed)
+                                populationTableModel.setRow(row, computed);
+                        }));
+                    }
                 }
             }
         });
@@ -490,10 +646,11 @@ public class MainForm extends JFrame {
             if (individual < 0)
                 return;
             try {
-                final Chromosome<DiscreteGene> chromosome = evolution
-                        .getHistory()
-                        .get(generation)
-                        .population()
+                final GenerationRecord record = evolution.getHistory().get(generation);
+                if (!record.hasPopulation())
+                    return;
+                final Chromosome<DiscreteGene> chromosome = record
+                        .getPopulation()
                         .get(individual)
                         .genotype()
                         .chromosome();
@@ -560,10 +717,10 @@ public class MainForm extends JFrame {
      * Get the best phenotypes chromosome of the given generation.
      *
      * @param generation generation index
-     * @return best phenotypes chromosome of the generation
+     * @return best phenotypes chromosome of the generation, null if it was not retained
      */
     private List<DiscreteGene> getBestIndividual(final int generation) {
-        return evolution.getHistory().get(generation).bestPhenotype().genotype().chromosome().stream().collect(Collectors.toList());
+        return evolution.getHistory().get(generation).getBestChromosome();
     }
 
     /**
@@ -583,53 +740,122 @@ public class MainForm extends JFrame {
                 return;
             }
 
-            populationTableModel.setData(Collections.emptyList());
-            historyTableModel.clear();
-            historyTableModel.setColumnIdentifier(1, selectedConfiguration.getFitness().name());
-
-            progressBar.setMaximum(selectedConfiguration.getLimit());
-            updateUIOnEvolution(true);
-
-            final Consumer<Integer> progressConsumer = progress -> SwingUtilities.invokeLater(() -> progressBar.setValue(progress));
-            final Consumer<Phenotype<DiscreteGene, Double>> resultConsumer = phenotype -> {
-                EventService.REPAINT_CANVAS.trigger(phenotype.genotype().chromosome());
-                historyTableModel.addRow(phenotypeToTableRow(phenotype));
-            };
-
-            evolution = Evolution.builder()
-                    .configuration(selectedConfiguration)
-                    .progressConsumer(progressConsumer)
-                    .bestConsumer(resultConsumer)
-                    .build();
-
-            evolutionThread = new Thread(() -> {
-                evolution.run();
-                EventService.LOG_LABEL.trigger(LangService.get("environment.finished"));
-                updateUIOnEvolution(false);
-            });
+            startEvolution(selectedConfiguration, ProjectService.createCheckpointPath(), null);
+        });
+    }
 
-            evolutionThread.start();
+    /**
+     * Resume the evolution from the latest checkpoint of the current project.
+     * The checkpoint holds its own configuration and is written again by the resumed run.
+     */
+    private void onResume() {
+        final Path checkpointPath = ProjectService.getLatestCheckpointPath();
+        if (checkpointPath == null) {
+            EventService.LOG_LABEL.trigger("No checkpoint to resume from.");
+            return;
+        }
+        EventService.LOG_LABEL.trigger("Loading checkpoint...");
+        CompletableFuture.runAsync(() -> {
+            try {
+                final Checkpoint checkpoint = CheckpointService.read(checkpointPath);
+                SwingUtilities.invokeLater(() -> startEvolution(checkpoint.getConfiguration(), checkpointPath, checkpoint));
+            } catch (final IOException e) {
+                EventService.LOG.trigger("Could not load checkpoint " + checkpointPath + ": " + e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * Start an evolution on the evolution thread.
+     * Writes checkpoints of the evolution into the current project.
+     * The evolution draws from a seeded random, whose state the checkpoints capture.
+     * A resumed evolution continues with the random restored from its checkpoint. It repeats the
+     * uninterrupted evolution only with one evaluation thread and one island.
+     *
+     * @param configuration  configuration of the evolution
+     * @param checkpointPath file the checkpoints of the evolution are written to
+     * @param checkpoint     checkpoint to resume from, null to start a new evolution
+     */
+    private void startEvolution(final Configuration configuration, final Path checkpointPath, final Checkpoint checkpoint) {
+        populationTableModel.setData(Collections.emptyList());
+        historyTableModel.clear();
+        historyEpoch++;
+        historyTable.setModel(historyTableModel);
+        historyTable.setRowSorter(new TableRowSorter<>(historyTableModel));
+        analytics.clear();
+        historyTableModel.setColumnIdentifier(1, configuration.getFitness().getName());
+
+        progressBar.setMaximum(configuration.getLimit());
+        updateUIOnEvolution(true);
+
+        final Consumer<Integer> progressConsumer = progress -> SwingUtilities.invokeLater(() -> progressBar.setValue(progress));
+        final Consumer<Phenotype<DiscreteGene, Double>> resultConsumer = phenotype -> EventService.REPAINT_CANVAS.trigger(phenotype.genotype().chromosome());
+        final Consumer<GenerationRecord> recordConsumer = record -> SwingUtilities.invokeLater(() -> addRecordRow(record));
+
+        evolution = Evolution.builder()
+                .configuration(configuration)
+                .progressConsumer(progressConsumer)
+                .bestConsumer(resultConsumer)
+                .recordConsumer(recordConsumer)
+                .checkpointPath(checkpointPath)
+                .resume(checkpoint)
+                .build();
+        if (checkpoint != null)
+            checkpoint.getHistory().forEach(this::addRecordRow);
+
+        final Random restored = checkpoint == null ? null : checkpoint.restoreRandom();
+        if (checkpoint != null && restored == null)
+            EventService.LOG.trigger("The checkpoint holds no random state. The resumed evolution continues with a new random.");
+        final Random random = restored == null ? new Random(System.nanoTime()) : restored;
+
+        evolutionThread = new Thread(() -> {
+            RandomRegistry.using(random, seeded -> evolution.run());
+            EventService.LOG_LABEL.trigger(LangService.get("environment.finished"));
+            updateUIOnEvolution(false);
         });
+
+        evolutionThread.start();
     }
 
     /**
-     * Converts a phenotype to a {@link FitnessTableModel} row.
+     * Display the history of a loaded evolution in the {@link #historyTable}.
+     * The rows are taken from the history, when the table displays them.
      *
-     * @param phenotype phenotype to add to the table
-     * @return table row with doubles
-     */
-    private List<Double> phenotypeToTableRow(final Phenotype<DiscreteGene, Double> phenotype) {
-        final List<DiscreteGene> genes = MSeq.of(
-                phenotype.genotype().chromosome()
-        ).asList();
-        final double worstCase = AnalysisUtils.worstCase(genes, 1f);
-        final double optimalWorstCase = AnalysisUtils.worstCaseSpiralStrategy(genes);
-        return List.of(
-                phenotype.fitness(),
-                worstCase,
-                optimalWorstCase,
-                worstCase / optimalWorstCase
+     * @param loaded loaded evolution
+     */
+    private void showHistory(final Evolution loaded) {
+        populationTableModel.setData(Collections.emptyList());
+        historyEpoch++;
+        final HistoryTableModel model = new HistoryTableModel(
+                loaded.getHistory(),
+                analytics,
+                loaded.getConfiguration().getFitness().getName()
         );
+        historyTable.setModel(model);
+        historyTable.setRowSorter(new TableRowSorter<>(model));
+    }
+
+    /**
+     * Add a history record to the {@link #historyTableModel}.
+     * The analytics of the record's best phenotype are filled in, once they are computed.
+     * Without a retained best phenotype, only the fitness is displayed.
+     *
+     * @param record history record to add to the table
+     */
+    private void addRecordRow(final GenerationRecord record) {
+        if (!record.hasBest()) {
+            historyTableModel.addRow(record.getGeneration(), List.of(record.getBestFitness(), Double.NaN, Double.NaN, Double.NaN));
+            return;
+        }
+
+        final int row = historyTableModel.getRowCount();
+        final int epoch = historyEpoch;
+        historyTableModel.addRow(record.getGeneration(), PhenotypeAnalytics.placeholder(record.getBest()));
+        analytics.get(evolution, record.getGeneration(), PhenotypeAnalytics.BEST, record.getBest())
+                .thenAccept(values -> SwingUtilities.invokeLater(() -> {
+                    if (epoch == historyEpoch)
+                        historyTableModel.setRow(row, values);
+                }));
     }
 
     /**
@@ -4,6 +4,9 @@ import evo.search.Evolution;
 import evo.search.Main;
 import evo.search.ga.AnalysisUtils;
 import evo.search.ga.DiscreteGene;
+import evo.search.ga.FitnessMethod;
+import evo.search.ga.FitnessMethods;
+import evo.search.ga.PackedChromosome;
 import evo.search.io.entities.Configuration;
 import evo.search.io.service.EventService;
 import evo.search.io.service.MenuService;
@@ -201,12 +204,11 @@ public class Preview extends JFrame {
     private void fillFitnessTable(final List<DiscreteGene> chromosome) {
         final DefaultTableModel model = (DefaultTableModel) fitnessTable.getModel();
         model.setRowCount(0);
-        for (final Evolution.Fitness fitness : Evolution.Fitness.values()) {
-            final Double fitnessValue = fitness.getMethod().apply(EVOLUTION, chromosome);
-            model.addRow(new Object[]{fitness.name(), fitnessValue});
-        }
-        final double optimal = AnalysisUtils.worstCaseSpiralStrategy(chromosome);
-        final double worstCase = AnalysisUtils.worstCase(chromosome, 1f);
+        final PackedChromosome packed = PackedChromosome.of(chromosome);
+        for (final FitnessMethod fitness : FitnessMethods.all())
+            model.addRow(new Object[]{fitness.getName(), fitness.evaluate(EVOLUTION, packed)});
+        final double optimal = AnalysisUtils.worstCaseSpiralStrategy(packed);
+        final double worstCase = AnalysisUtils.worstCase(packed, 1f);
         model.addRow(new Object[]{"OPTIMAL", optimal});
         model.addRow(new Object[]{"CLOSENESS", worstCase / optimal});
     }
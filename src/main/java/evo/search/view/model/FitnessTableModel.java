@@ -1,6 +1,7 @@
 package evo.search.view.model;
 
 import javax.swing.table.DefaultTableModel;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -10,6 +11,12 @@ import java.util.List;
  */
 public class FitnessTableModel extends DefaultTableModel {
 
+    /**
+     * Numbers displayed in the first column.
+     * Rows without an explicit number display their index starting with one.
+     */
+    private final List<Long> rowNumbers = new ArrayList<>();
+
     /**
      * Default constructor with default column names.
      */
@@ -30,6 +37,7 @@ public class FitnessTableModel extends DefaultTableModel {
      * @param data fitness value to display
      */
     public void setData(final List<List<Double>> data) {
+        rowNumbers.clear();
         final Object[][] rows = data.stream().map(row -> row.toArray(Object[]::new)).toArray(Object[][]::new);
         setDataVector(rows, columnIdentifiers.toArray());
         fireTableDataChanged();
@@ -60,10 +68,37 @@ public class FitnessTableModel extends DefaultTableModel {
         addRow(row.toArray(Double[]::new));
     }
 
+    /**
+     * Add a row to the table with an explicit number in the first column.
+     *
+     * @param number number displayed in the first column
+     * @param row    row to add
+     */
+    public void addRow(final long number, final List<Double> row) {
+        while (rowNumbers.size() < dataVector.size())
+            rowNumbers.add((long) rowNumbers.size() + 1);
+        rowNumbers.add(number);
+        addRow(row);
+    }
+
+    /**
+     * Replace the values of a row, e.g. when its values were computed asynchronously.
+     * Rows, which do not exist anymore, are ignored.
+     *
+     * @param row    index of the row in the model
+     * @param values new values of the row
+     */
+    public void setRow(final int row, final List<Double> values) {
+        if (row < 0 || row >= dataVector.size())
+            return;
+        for (int column = 0; column < values.size(); column++)
+            super.setValueAt(values.get(column), row, column);
+    }
+
     @Override
     public Object getValueAt(final int row, final int column) {
         if (column == 0)
-            return row + 1;
+            return row < rowNumbers.size() ? rowNumbers.get(row).intValue() : row + 1;
         return super.getValueAt(row, column - 1);
     }
 
@@ -71,6 +106,7 @@ public class FitnessTableModel extends DefaultTableModel {
      * Clear the table.
      */
     public void clear() {
+        rowNumbers.clear();
         final int size = dataVector.size();
         if (size == 0) return;
         dataVector.removeAllElements();
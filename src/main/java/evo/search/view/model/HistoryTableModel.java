@@ -0,0 +1,108 @@
+package evo.search.view.model;
+
+import evo.search.ga.GenerationRecord;
+
+import javax.swing.*;
+import javax.swing.table.AbstractTableModel;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Table model displaying the history of a loaded evolution.
+ * <p>
+ * Rows are taken from the history, when the table displays them, so a lazily read
+ * history is only read as far as the user scrolls. The analytics of a generation's best
+ * phenotype are computed in the background and filled in, once they are available.
+ *
+ * @author jotoh
+ * @see FitnessTableModel
+ */
+public class HistoryTableModel extends AbstractTableModel {
+
+    /**
+     * Displayed history.
+     */
+    private final List<GenerationRecord> history;
+
+    /**
+     * Analytics of the best phenotypes.
+     */
+    private final PhenotypeAnalytics analytics;
+
+    /**
+     * Names of the columns.
+     */
+    private final String[] columns;
+
+    /**
+     * Rows waiting for their analytics.
+     */
+    private final Set<Integer> pending = new HashSet<>();
+
+    /**
+     * Construct a model of a history.
+     *
+     * @param history   history to display
+     * @param analytics analytics of the best phenotypes
+     * @param fitness   name of the fitness column
+     */
+    public HistoryTableModel(final List<GenerationRecord> history, final PhenotypeAnalytics analytics, final String fitness) {
+        this.history = history;
+        this.analytics = analytics;
+        this.columns = new String[]{
+                "Generation",
+                fitness,
+                "Worst Case",
+                "Optimal Worst Case",
+                "Closeness Factor"
+        };
+    }
+
+    @Override
+    public int getRowCount() {
+        return history.size();
+    }
+
+    @Override
+    public int getColumnCount() {
+        return columns.length;
+    }
+
+    @Override
+    public String getColumnName(final int column) {
+        return columns[column];
+    }
+
+    @Override
+    public Class<?> getColumnClass(final int columnIndex) {
+        return columnIndex == 0 ? Integer.class : Double.class;
+    }
+
+    /**
+     * {@inheritDoc}
+     * Schedules the analytics of the row's best phenotype, if they are not computed yet.
+     */
+    @Override
+    public Object getValueAt(final int row, final int column) {
+        final GenerationRecord record = history.get(row);
+        if (column == 0)
+            return (int) record.getGeneration();
+        if (column == 1)
+            return record.getBestFitness();
+        if (!record.hasBest())
+            return Double.NaN;
+
+        final CompletableFuture<List<Double>> future = analytics.get(history, record.getGeneration(), PhenotypeAnalytics.BEST, record.getBest());
+        if (future.isDone())
+            return future.isCompletedExceptionally() ? Double.NaN : future.join().get(column - 1);
+        if (pending.add(row)) {
+            future.thenRun(() -> SwingUtilities.invokeLater(() -> {
+                pending.remove(row);
+                fireTableRowsUpdated(row, row);
+            }));
+        }
+        return Double.NaN;
+    }
+}
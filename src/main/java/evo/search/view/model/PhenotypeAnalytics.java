@@ -0,0 +1,191 @@
+package evo.search.view.model;
+
+import evo.search.ga.AnalysisUtils;
+import evo.search.ga.DiscreteGene;
+import evo.search.ga.PackedChromosome;
+import io.jenetics.Phenotype;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Computes the table analytics of phenotypes off the event dispatch thread.
+ * <p>
+ * The analytics of a phenotype are its fitness, its worst case, the worst case of the
+ * corresponding spiral strategy and the ratio of both. They are computed on a shared pool
+ * of low priority daemon threads and memoized per evolution, generation and individual, so
+ * re-selecting a generation does not compute them again.
+ * <p>
+ * Analytics, which are not needed anymore, e.g. of a deselected generation, are cancelled through
+ * their futures. A cancelled computation is skipped by the pool and computed anew, if it is
+ * requested again.
+ *
+ * @author jotoh
+ * @see FitnessTableModel
+ */
+public class PhenotypeAnalytics {
+
+    /**
+     * Index of the best individual of a generation, which is not part of the population.
+     */
+    public static final int BEST = -1;
+
+    /**
+     * Pool computing the analytics.
+     */
+    private static final ExecutorService EXECUTOR = Executors.newFixedThreadPool(
+            Math.max(1, Runtime.getRuntime().availableProcessors() - 1),
+            runnable -> {
+                final Thread thread = new Thread(runnable, "phenotype-analytics");
+                thread.setDaemon(true);
+                thread.setPriority(Thread.MIN_PRIORITY);
+                return thread;
+            }
+    );
+
+    /**
+     * Executor computing the analytics.
+     */
+    private final Executor executor;
+
+    /**
+     * Memoized analytics by evolution, generation and individual in access order.
+     */
+    private final Map<Key, CompletableFuture<List<Double>>> cache;
+
+    /**
+     * Construct the analytics with a maximum amount of memoized phenotypes.
+     *
+     * @param capacity maximum amount of memoized phenotypes
+     */
+    public PhenotypeAnalytics(final int capacity) {
+        this(capacity, EXECUTOR);
+    }
+
+    /**
+     * Construct the analytics with a maximum amount of memoized phenotypes and their executor.
+     *
+     * @param capacity maximum amount of memoized phenotypes
+     * @param executor executor computing the analytics
+     */
+    PhenotypeAnalytics(final int capacity, final Executor executor) {
+        this.executor = executor;
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<Key, CompletableFuture<List<Double>>> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * Get the table row of a phenotype before its analytics are computed.
+     *
+     * @param phenotype phenotype to display
+     * @return row holding the fitness, the analytics are not a number
+     */
+    public static List<Double> placeholder(final Phenotype<DiscreteGene, Double> phenotype) {
+        return List.of(phenotype.fitness(), Double.NaN, Double.NaN, Double.NaN);
+    }
+
+    /**
+     * Compute the table row of a phenotype.
+     *
+     * @param phenotype phenotype to analyse
+     * @return row holding the fitness and the analytics
+     */
+    public static List<Double> compute(final Phenotype<DiscreteGene, Double> phenotype) {
+        final PackedChromosome genes = PackedChromosome.of(phenotype.genotype().chromosome());
+        final double worstCase = AnalysisUtils.worstCase(genes, 1f);
+        final double optimalWorstCase = AnalysisUtils.worstCaseSpiralStrategy(genes);
+        return List.of(
+                phenotype.fitness(),
+                worstCase,
+                optimalWorstCase,
+                worstCase / optimalWorstCase
+        );
+    }
+
+    /**
+     * Get the table row of a phenotype.
+     * Returns the memoized row or schedules its computation.
+     * A memoized row, that was cancelled, is scheduled again.
+     *
+     * @param evolution  evolution the phenotype belongs to, compared by identity
+     * @param generation generation of the phenotype
+     * @param individual index of the phenotype in its population, {@link #BEST} for the best phenotype
+     * @param phenotype  phenotype to analyse
+     * @return future table row of the phenotype, cancel it if the row is not needed anymore
+     */
+    public CompletableFuture<List<Double>> get(final Object evolution, final long generation, final int individual, final Phenotype<DiscreteGene, Double> phenotype) {
+        synchronized (cache) {
+            return cache.compute(new Key(evolution, generation, individual), (key, row) -> row == null || row.isCancelled()
+                    ? CompletableFuture.supplyAsync(() -> compute(phenotype), executor)
+                    : row);
+        }
+    }
+
+    /**
+     * Forget all memoized analytics and cancel the pending ones.
+     * Used when another evolution is displayed.
+     */
+    public void clear() {
+        synchronized (cache) {
+            cache.values().forEach(row -> row.cancel(false));
+            cache.clear();
+        }
+    }
+
+    /**
+     * Key of a phenotype's memoized analytics.
+     */
+    private static final class Key {
+
+        /**
+         * Evolution the phenotype belongs to.
+         */
+        private final Object evolution;
+
+        /**
+         * Generation of the phenotype.
+         */
+        private final long generation;
+
+        /**
+         * Index of the phenotype in its population.
+         */
+        private final int individual;
+
+        /**
+         * Construct the key of a phenotype.
+         *
+         * @param evolution  evolution the phenotype belongs to
+         * @param generation generation of the phenotype
+         * @param individual index of the phenotype in its population
+         */
+        private Key(final Object evolution, final long generation, final int individual) {
+            this.evolution = evolution;
+            this.generation = generation;
+            this.individual = individual;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            final Key key = (Key) o;
+            return evolution == key.evolution && generation == key.generation && individual == key.individual;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(System.identityHashCode(evolution), generation, individual);
+        }
+    }
+}
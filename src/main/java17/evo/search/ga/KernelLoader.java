@@ -0,0 +1,51 @@
+package evo.search.ga;
+
+/**
+ * Chooses the {@link FitnessKernel} of the runtime.
+ * <p>
+ * Java 17 version of the loader in the multi-release layer. It returns the
+ * {@link VectorKernel} if the {@code jdk.incubator.vector} module was added to the
+ * runtime, e.g. with {@code --add-modules jdk.incubator.vector}, and falls back to the
+ * {@link ScalarKernel} otherwise, e.g. if the Vector API does not support the shapes
+ * of the kernel on this platform. Setting the system property {@value #PROPERTY}
+ * to {@code false} forces the scalar kernel.
+ *
+ * @author jotoh
+ */
+final class KernelLoader {
+
+    /**
+     * System property to disable the vector kernel.
+     */
+    static final String PROPERTY = "evo.search.vector";
+
+    /**
+     * Name of the Vector API module.
+     */
+    private static final String VECTOR_MODULE = "jdk.incubator.vector";
+
+    /**
+     * Utility class, not to be instantiated.
+     */
+    private KernelLoader() {
+    }
+
+    /**
+     * Load the fitness kernel of the runtime.
+     *
+     * @return the vector kernel if the Vector API is available, the scalar kernel otherwise
+     */
+    static FitnessKernel load() {
+        if (!Boolean.parseBoolean(System.getProperty(PROPERTY, "true")))
+            return new ScalarKernel();
+
+        if (ModuleLayer.boot().findModule(VECTOR_MODULE).isEmpty())
+            return new ScalarKernel();
+
+        try {
+            return new VectorKernel();
+        } catch (final LinkageError | RuntimeException error) {
+            return new ScalarKernel();
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package evo.search.ga;
+
+import evo.search.util.MathUtils;
+import evo.search.util.TrigTable;
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShape;
+import jdk.incubator.vector.VectorSpecies;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Fitness kernel computing multiple genes at once with the Vector API.
+ * <p>
+ * The float distances are widened lane by lane to doubles and the cosines are
+ * gathered from the trigonometric table by the ray deltas, so every step equals
+ * the step of the {@link ScalarKernel}. The sums of {@link #pathLength} and
+ * {@link #sectorArea} add the vectorized terms serially in the order of the scalar
+ * loops, so all results are bit-identical to the ones of the {@link ScalarKernel}.
+ *
+ * @author jotoh
+ */
+final class VectorKernel implements FitnessKernel {
+
+    /**
+     * Species of the double lanes.
+     */
+    private static final VectorSpecies<Double> DOUBLES = DoubleVector.SPECIES_PREFERRED;
+
+    /**
+     * Species of the float lanes with as many lanes as {@link #DOUBLES}.
+     */
+    private static final VectorSpecies<Float> FLOATS = VectorSpecies.of(float.class, VectorShape.forBitSize(DOUBLES.vectorBitSize() / 2));
+
+    /**
+     * Ray deltas of the consecutive genes of the current thread.
+     */
+    private static final ThreadLocal<int[]> DELTAS = ThreadLocal.withInitial(() -> new int[0]);
+
+    /**
+     * Terms of the sums of the current thread.
+     */
+    private static final ThreadLocal<double[]> TERMS = ThreadLocal.withInitial(() -> new double[0]);
+
+    /**
+     * Cosines of the multiples of the sector angle by the ray count.
+     */
+    private final Map<Integer, double[]> cosines = new ConcurrentHashMap<>();
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void stepDistances(final short positions, final short[] position, final float[] distance, final int from, final int to, final double[] steps) {
+        final double[] cosine = cosines(positions);
+        final int[] deltas = deltas(position, from, to);
+
+        int i = from;
+        for (final int bound = from + DOUBLES.loopBound(to - from); i < bound; i += DOUBLES.length())
+            steps(cosine, deltas, distance, i).intoArray(steps, i);
+
+        for (; i < to; i++)
+            steps[i] = MathUtils.lawOfCosineByCosine(cosine[deltas[i]], distance[i - 1], distance[i]);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double pathLength(final short positions, final short[] position, final float[] distance, final int size) {
+        if (size < 2)
+            return 0d;
+
+        final double[] steps = terms(size);
+        stepDistances(positions, position, distance, 1, size, steps);
+
+        double path = 0d;
+        for (int i = 1; i < size; i++)
+            path += steps[i];
+        return path;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double sectorArea(final double sectorSine, final double[] maxDistance, final int positions) {
+        final double[] areas = terms(positions);
+        int i = 0;
+        for (final int bound = DOUBLES.loopBound(positions - 1); i < bound; i += DOUBLES.length()) {
+            final DoubleVector a = DoubleVector.fromArray(DOUBLES, maxDistance, i);
+            final DoubleVector b = DoubleVector.fromArray(DOUBLES, maxDistance, i + 1);
+            a.mul(b).mul(sectorSine).div(2).intoArray(areas, i);
+        }
+        for (; i < positions - 1; i++)
+            areas[i] = MathUtils.areaInTriangleBySine(sectorSine, maxDistance[i], maxDistance[i + 1]);
+
+        double area = MathUtils.areaInTriangleBySine(sectorSine, maxDistance[0], maxDistance[positions - 1]);
+        for (i = 0; i < positions - 1; i++)
+            area += areas[i];
+        return area;
+    }
+
+    /**
+     * Compute the steps of a full vector of genes by the law of cosines.
+     * The operations are ordered like the ones of {@link MathUtils#lawOfCosineByCosine(double, double, double)}.
+     *
+     * @param cosine   cosines by ray delta
+     * @param deltas   ray deltas to the previous genes
+     * @param distance distances of the genes
+     * @param index    index of the first gene in the vector
+     * @return steps of the genes
+     */
+    private static DoubleVector steps(final double[] cosine, final int[] deltas, final float[] distance, final int index) {
+        final DoubleVector a = widen(distance, index - 1);
+        final DoubleVector b = widen(distance, index);
+        final DoubleVector cosines = DoubleVector.fromArray(DOUBLES, cosine, 0, deltas, index);
+        final DoubleVector subtract = a.mul(2).mul(b).mul(cosines);
+        return a.mul(a).add(b.mul(b)).sub(subtract).sqrt();
+    }
+
+    /**
+     * Load float distances widened to doubles.
+     *
+     * @param distance distances of the genes
+     * @param index    index of the first distance to load
+     * @return distances as double lanes
+     */
+    private static DoubleVector widen(final float[] distance, final int index) {
+        return (DoubleVector) FloatVector.fromArray(FLOATS, distance, index).convertShape(VectorOperators.F2D, DOUBLES, 0);
+    }
+
+    /**
+     * Compute the ray deltas between consecutive genes into the thread's scratch array.
+     *
+     * @param position ray indices of the genes
+     * @param from     index of the first delta to compute, at least one
+     * @param to       index after the last delta to compute
+     * @return array holding the deltas at the indices of the genes
+     */
+    private static int[] deltas(final short[] position, final int from, final int to) {
+        int[] deltas = DELTAS.get();
+        if (deltas.length < to) {
+            deltas = new int[to];
+            DELTAS.set(deltas);
+        }
+        for (int i = from; i < to; i++)
+            deltas[i] = Math.abs(position[i] - position[i - 1]);
+        return deltas;
+    }
+
+    /**
+     * Get the thread's scratch array for the terms of a sum.
+     *
+     * @param size minimum length of the array
+     * @return array of at least the given length
+     */
+    private static double[] terms(final int size) {
+        double[] terms = TERMS.get();
+        if (terms.length < size) {
+            terms = new double[size];
+            TERMS.set(terms);
+        }
+        return terms;
+    }
+
+    /**
+     * Get the cosines of the multiples of the sector angle as a plain array to gather from.
+     *
+     * @param positions amount of rays
+     * @return cosine per ray delta
+     */
+    private double[] cosines(final short positions) {
+        return cosines.computeIfAbsent((int) positions, amount -> {
+            final TrigTable table = TrigTable.of(amount);
+            final double[] cosine = new double[amount];
+            for (int delta = 0; delta < amount; delta++)
+                cosine[delta] = table.cos(delta);
+            return cosine;
+        });
+    }
+}
@@ -0,0 +1,216 @@
+package evo.search;
+
+import evo.search.ga.Checkpoint;
+import evo.search.ga.DiscreteGene;
+import evo.search.ga.GenerationRecord;
+import evo.search.ga.ParetoMember;
+import evo.search.ga.TestEvolutions;
+import evo.search.io.entities.Configuration;
+import evo.search.io.service.CheckpointService;
+import evo.search.util.ListUtils;
+import io.jenetics.Genotype;
+import io.jenetics.util.ISeq;
+import io.jenetics.util.RandomRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Tests for resuming an {@link Evolution} from its checkpoint.
+ */
+class CheckpointResumeTest {
+
+    /**
+     * Run an evolution, that is aborted after a generation.
+     *
+     * @param configuration configuration of the evolution
+     * @param path          checkpoint file
+     * @param generation    generation to abort after
+     * @return aborted evolution
+     */
+    private static Evolution runAborted(final Configuration configuration, final Path path, final int generation) {
+        final AtomicReference<Evolution> running = new AtomicReference<>();
+        final Evolution evolution = Evolution.builder()
+                .configuration(configuration)
+                .checkpointPath(path)
+                .progressConsumer(progress -> {
+                    if (progress == generation)
+                        running.get().setAborted(true);
+                })
+                .build();
+        running.set(evolution);
+        evolution.run();
+        return evolution;
+    }
+
+    /**
+     * Resume an evolution from its checkpoint file.
+     *
+     * @param path checkpoint file
+     * @return finished evolution
+     * @throws IOException if the checkpoint could not be read
+     */
+    private static Evolution resume(final Path path) throws IOException {
+        final Checkpoint checkpoint = CheckpointService.read(path);
+        final Configuration configuration = checkpoint.getConfiguration();
+        configuration.setExecutor(Runnable::run);
+        return TestEvolutions.run(Evolution.builder()
+                .configuration(configuration)
+                .checkpointPath(path)
+                .resume(checkpoint));
+    }
+
+    /**
+     * Test, if an aborted evolution leaves a checkpoint and continues from it up to its limit.
+     *
+     * @param directory temporary directory
+     * @throws IOException if the checkpoint could not be read
+     */
+    @Test
+    void resumesAbortedEvolution(@TempDir final Path directory) throws IOException {
+        final Configuration configuration = TestEvolutions.configuration(10)
+                .checkpointGenerations(3)
+                .build();
+        final Path path = directory.resolve("run.checkpoint");
+
+        final Evolution evolution = runAborted(configuration, path, 6);
+
+        Assertions.assertEquals(Evolution.StopReason.ABORTED, evolution.getStopReason());
+        Assertions.assertTrue(Files.exists(path));
+
+        final Checkpoint checkpoint = CheckpointService.read(path);
+        Assertions.assertEquals(6, checkpoint.getGeneration());
+        Assertions.assertEquals(6, checkpoint.getHistory().size());
+        Assertions.assertEquals(10, checkpoint.getConfiguration().getLimit());
+
+        final Evolution resumed = resume(path);
+
+        Assertions.assertEquals(Evolution.StopReason.LIMIT, resumed.getStopReason());
+        Assertions.assertEquals(10, resumed.getHistory().size());
+        Assertions.assertEquals(10, resumed.getHistory().get(9).getGeneration());
+        Assertions.assertFalse(Files.exists(path));
+    }
+
+    /**
+     * Test, if the captured state of a seeded random continues its sequence when restored.
+     */
+    @Test
+    void restoresRandomState() {
+        final byte[] state = RandomRegistry.with(new Random(42), random -> {
+            random.nextLong();
+            return Checkpoint.captureRandom();
+        });
+        final Random expected = new Random(42);
+        expected.nextLong();
+
+        final Checkpoint checkpoint = new Checkpoint(Configuration.builder().build(), 1, 0, 0, 0, state, List.of(), List.of(), null, null);
+        final Random restored = checkpoint.restoreRandom();
+        Assertions.assertNotNull(restored);
+        for (int i = 0; i < 10; i++)
+            Assertions.assertEquals(expected.nextLong(), restored.nextLong());
+    }
+
+    /**
+     * Test, if a seeded evolution on one evaluation thread, that is aborted and resumed with the random
+     * restored from its checkpoint, repeats the uninterrupted evolution.
+     *
+     * @param directory temporary directory
+     * @throws IOException if the checkpoint could not be read
+     */
+    @Test
+    void resumesSeededRunIdentically(@TempDir final Path directory) throws IOException {
+        final Configuration configuration = TestEvolutions.configuration(8)
+                .evaluationThreads(1)
+                .historyRetention(Evolution.HistoryRetention.STATISTICS)
+                .build();
+        final Evolution uninterrupted = Evolution.builder().configuration(configuration.clone()).build();
+        RandomRegistry.using(new Random(42), random -> uninterrupted.run());
+
+        final Path path = directory.resolve("seeded.checkpoint");
+        RandomRegistry.using(new Random(42), random -> runAborted(configuration.clone(), path, 4));
+        final Random restored = CheckpointService.read(path).restoreRandom();
+        Assertions.assertNotNull(restored);
+        final Evolution resumed = RandomRegistry.with(restored, random -> {
+            try {
+                return resume(path);
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+
+        Assertions.assertEquals(
+                ListUtils.map(uninterrupted.getHistory(), GenerationRecord::getMeanFitness),
+                ListUtils.map(resumed.getHistory(), GenerationRecord::getMeanFitness)
+        );
+    }
+
+    /**
+     * Test, if an aborted evolution on multiple islands checkpoints and resumes every island.
+     *
+     * @param directory temporary directory
+     * @throws IOException if the checkpoint could not be read
+     */
+    @Test
+    void resumesIslands(@TempDir final Path directory) throws IOException {
+        final Configuration configuration = TestEvolutions.configuration(8)
+                .population(10)
+                .offspring(5)
+                .islands(3)
+                .migrationInterval(2)
+                .build();
+        final Path path = directory.resolve("islands.checkpoint");
+
+        Assertions.assertEquals(Evolution.StopReason.ABORTED, runAborted(configuration, path, 4).getStopReason());
+        final Checkpoint checkpoint = CheckpointService.read(path);
+        Assertions.assertEquals(3, checkpoint.getPopulations().size());
+        for (final ISeq<Genotype<DiscreteGene>> population : checkpoint.getPopulations())
+            Assertions.assertEquals(10, population.size());
+
+        final Evolution resumed = resume(path);
+        Assertions.assertEquals(Evolution.StopReason.LIMIT, resumed.getStopReason());
+        Assertions.assertEquals(8, resumed.getHistory().size());
+        Assertions.assertEquals(30, resumed.getHistory().get(7).getPopulationSize());
+        Assertions.assertFalse(Files.exists(path));
+    }
+
+    /**
+     * Test, if an aborted multi-objective evolution resumes with its Pareto front.
+     *
+     * @param directory temporary directory
+     * @throws IOException if the checkpoint could not be read
+     */
+    @Test
+    void resumesMultiObjectiveEvolution(@TempDir final Path directory) throws IOException {
+        final Configuration configuration = TestEvolutions.configuration(8)
+                .objectives(List.of(Evolution.Fitness.WORST_CASE, Evolution.Fitness.MAX_AREA))
+                .frontSize(10)
+                .historyRetention(Evolution.HistoryRetention.FULL)
+                .build();
+        final Path path = directory.resolve("front.checkpoint");
+
+        final Evolution aborted = runAborted(configuration, path, 4);
+        Assertions.assertEquals(Evolution.StopReason.ABORTED, aborted.getStopReason());
+        final Checkpoint checkpoint = CheckpointService.read(path);
+        Assertions.assertNotNull(checkpoint.getFront());
+        Assertions.assertFalse(checkpoint.getFront().isEmpty());
+        Assertions.assertTrue(checkpoint.getConfiguration().isMultiObjective());
+
+        final Evolution resumed = resume(path);
+        Assertions.assertEquals(Evolution.StopReason.LIMIT, resumed.getStopReason());
+        Assertions.assertEquals(8, resumed.getHistory().size());
+        Assertions.assertTrue(resumed.getHistory().get(7).hasFront());
+        final List<ParetoMember> front = resumed.getParetoFront();
+        Assertions.assertFalse(front.isEmpty());
+        for (final ParetoMember member : front)
+            Assertions.assertEquals(2, member.getObjectives().length);
+    }
+
+}
@@ -0,0 +1,186 @@
+package evo.search;
+
+import evo.search.ga.GenerationRecord;
+import evo.search.ga.TestEvolutions;
+import evo.search.io.entities.Configuration;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tests for the {@link EnsembleRunner}.
+ */
+class EnsembleRunnerTest {
+
+    /**
+     * Test, if the seeds of the runs are reproducible and distinct.
+     */
+    @Test
+    void derivesReproducibleSeeds() {
+        final long[] seeds = EnsembleRunner.seeds(42, 100);
+
+        Assertions.assertArrayEquals(seeds, EnsembleRunner.seeds(42, 100));
+        Assertions.assertArrayEquals(Arrays.copyOf(seeds, 10), EnsembleRunner.seeds(42, 10));
+        Assertions.assertEquals(seeds.length, Arrays.stream(seeds).distinct().count());
+    }
+
+    /**
+     * Create a configuration stopping by its evaluation budget before its generation limit.
+     *
+     * @return configuration of the runs
+     */
+    private static Configuration budgetedConfiguration() {
+        return TestEvolutions.configuration(30)
+                .executor(null)
+                .evaluationBudget(150)
+                .checkpointGenerations(3)
+                .build();
+    }
+
+    /**
+     * Run an ensemble of a configuration on multiple workers.
+     *
+     * @param configuration configuration of the runs
+     * @param seed          master seed
+     * @return finished runs
+     */
+    private static List<EnsembleRunner.Run> runEnsemble(final Configuration configuration, final long seed) {
+        return EnsembleRunner.builder()
+                .configuration(configuration)
+                .runs(4)
+                .workers(2)
+                .seed(seed)
+                .customizer((index, clone) -> clone.setLimit(clone.getLimit() + index))
+                .build()
+                .run();
+    }
+
+    /**
+     * Test, if the configured executor and islands of the runs are only overridden by single threaded ensembles.
+     */
+    @Test
+    void overridesExecutorIfSingleThreaded() {
+        final Configuration configuration = budgetedConfiguration();
+        configuration.setEvaluationBudget(0);
+        configuration.setLimit(3);
+        configuration.setIslands(2);
+        final AtomicInteger tasks = new AtomicInteger();
+        configuration.setExecutor(task -> {
+            tasks.incrementAndGet();
+            task.run();
+        });
+
+        final EnsembleRunner.Run single = EnsembleRunner.builder()
+                .configuration(configuration)
+                .build()
+                .run()
+                .get(0);
+        Assertions.assertEquals(1, single.getEvolution().getConfiguration().getIslands());
+        Assertions.assertEquals(0, tasks.get());
+
+        final EnsembleRunner.Run configured = EnsembleRunner.builder()
+                .configuration(configuration)
+                .singleThreaded(false)
+                .build()
+                .run()
+                .get(0);
+        Assertions.assertEquals(2, configured.getEvolution().getConfiguration().getIslands());
+        Assertions.assertTrue(tasks.get() > 0);
+    }
+
+    /**
+     * Test, if two ensembles with the same master seed produce identical runs, independent of their scheduling,
+     * while another master seed produces different runs.
+     */
+    @Test
+    void reproducesRunsOfSameSeed() {
+        final Configuration configuration = budgetedConfiguration();
+        configuration.setEvaluationBudget(0);
+        configuration.setLimit(8);
+        configuration.setHistoryRetention(Evolution.HistoryRetention.FULL);
+
+        final List<EnsembleRunner.Run> first = runEnsemble(configuration, 7);
+        final List<EnsembleRunner.Run> second = runEnsemble(configuration, 7);
+        Assertions.assertEquals(4, first.size());
+        for (int i = 0; i < first.size(); i++) {
+            Assertions.assertEquals(i, first.get(i).getIndex());
+            Assertions.assertEquals(first.get(i).getSeed(), second.get(i).getSeed());
+            Assertions.assertEquals(8 + i, first.get(i).getEvolution().getHistory().size());
+            Assertions.assertEquals(
+                    first.get(i).getEvolution().getBestPhenotype(),
+                    second.get(i).getEvolution().getBestPhenotype()
+            );
+            final List<GenerationRecord> expected = first.get(i).getEvolution().getHistory();
+            final List<GenerationRecord> actual = second.get(i).getEvolution().getHistory();
+            Assertions.assertTrue(expected.get(0).hasPopulation());
+            for (int generation = 0; generation < expected.size(); generation++)
+                Assertions.assertEquals(expected.get(generation).getPopulation(), actual.get(generation).getPopulation());
+        }
+
+        final List<EnsembleRunner.Run> other = runEnsemble(configuration, 8);
+        Assertions.assertNotEquals(
+                first.get(0).getEvolution().getHistory().get(0).getPopulation(),
+                other.get(0).getEvolution().getHistory().get(0).getPopulation()
+        );
+    }
+
+    /**
+     * Test, if a run of a crashed ensemble resumes from its checkpoint with the state of its random,
+     * ending exactly like the uninterrupted run of the same seed without counting its re-evaluations.
+     *
+     * @param directory temporary checkpoint directory
+     */
+    @Test
+    void resumesCrashedRun(@TempDir final Path directory) {
+        final EnsembleRunner.Run uninterrupted = EnsembleRunner.builder()
+                .configuration(budgetedConfiguration())
+                .seed(42)
+                .build()
+                .run()
+                .get(0);
+        Assertions.assertEquals(Evolution.StopReason.EVALUATION_BUDGET, uninterrupted.getEvolution().getStopReason());
+
+        final EnsembleRunner crashing = EnsembleRunner.builder()
+                .configuration(budgetedConfiguration())
+                .seed(42)
+                .checkpointDirectory(directory)
+                .progressConsumer(generation -> {
+                    if (generation == 8)
+                        throw new IllegalStateException("crash");
+                })
+                .build();
+        Assertions.assertThrows(CompletionException.class, crashing::run);
+        Assertions.assertTrue(Files.exists(directory.resolve("run-0.checkpoint")));
+
+        final EnsembleRunner.Run resumed = EnsembleRunner.builder()
+                .configuration(budgetedConfiguration())
+                .seed(42)
+                .checkpointDirectory(directory)
+                .build()
+                .run()
+                .get(0);
+
+        Assertions.assertEquals(Evolution.StopReason.EVALUATION_BUDGET, resumed.getEvolution().getStopReason());
+        Assertions.assertFalse(Files.exists(directory.resolve("run-0.checkpoint")));
+        final List<GenerationRecord> expected = uninterrupted.getEvolution().getHistory();
+        final List<GenerationRecord> actual = resumed.getEvolution().getHistory();
+        Assertions.assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            Assertions.assertEquals(expected.get(i).getGeneration(), actual.get(i).getGeneration());
+            Assertions.assertEquals(expected.get(i).getBestFitness(), actual.get(i).getBestFitness());
+            Assertions.assertEquals(expected.get(i).getMeanFitness(), actual.get(i).getMeanFitness());
+        }
+        Assertions.assertEquals(
+                uninterrupted.getEvolution().getBestPhenotype().genotype(),
+                resumed.getEvolution().getBestPhenotype().genotype()
+        );
+    }
+
+}
@@ -0,0 +1,101 @@
+package evo.search;
+
+import evo.search.ga.GenerationRecord;
+import evo.search.ga.TestEvolutions;
+import evo.search.io.entities.Configuration;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Tests for the {@link Evolution.HistoryRetention} of single objective evolutions.
+ */
+class HistoryRetentionTest {
+
+    /**
+     * Run an evolution of ten generations with a history retention.
+     * The records passed to the record consumer have to be the retained history.
+     *
+     * @param retention history retention of the evolution
+     * @return finished evolution
+     */
+    private static Evolution run(final Evolution.HistoryRetention retention) {
+        final Configuration configuration = TestEvolutions.configuration(10)
+                .historyRetention(retention)
+                .historySampleInterval(4)
+                .build();
+
+        final List<GenerationRecord> records = new ArrayList<>();
+        final Evolution evolution = TestEvolutions.run(Evolution.builder()
+                .configuration(configuration)
+                .recordConsumer(records::add));
+        Assertions.assertEquals(records, evolution.getHistory());
+        return evolution;
+    }
+
+    /**
+     * Test, if the best phenotype of every generation is retained without the populations by default.
+     */
+    @Test
+    void retainsBestByDefault() {
+        Assertions.assertEquals(Evolution.HistoryRetention.BEST, Configuration.builder().build().getHistoryRetention());
+        Assertions.assertEquals(Evolution.HistoryRetention.BEST, new Configuration().getHistoryRetention());
+
+        final Evolution evolution = run(Evolution.HistoryRetention.BEST);
+        Assertions.assertEquals(10, evolution.getHistory().size());
+        for (final GenerationRecord record : evolution.getHistory()) {
+            Assertions.assertTrue(record.hasBest());
+            Assertions.assertFalse(record.hasPopulation());
+            Assertions.assertEquals(record.getBestFitness(), record.getBest().fitness());
+        }
+    }
+
+    /**
+     * Test, if the full retention keeps the population of every generation.
+     */
+    @Test
+    void retainsFullPopulations() {
+        final Evolution evolution = run(Evolution.HistoryRetention.FULL);
+        Assertions.assertEquals(10, evolution.getHistory().size());
+        for (final GenerationRecord record : evolution.getHistory()) {
+            Assertions.assertTrue(record.hasBest());
+            Assertions.assertTrue(record.hasPopulation());
+            Assertions.assertEquals(record.getPopulationSize(), record.getPopulation().size());
+        }
+    }
+
+    /**
+     * Test, if the statistics retention keeps a record of every generation without any phenotype.
+     */
+    @Test
+    void retainsStatisticsOnly() {
+        final Evolution evolution = run(Evolution.HistoryRetention.STATISTICS);
+        Assertions.assertEquals(10, evolution.getHistory().size());
+        for (final GenerationRecord record : evolution.getHistory()) {
+            Assertions.assertFalse(record.hasBest());
+            Assertions.assertFalse(record.hasPopulation());
+            Assertions.assertTrue(record.getBestFitness() <= record.getMeanFitness());
+            Assertions.assertTrue(record.getMeanFitness() <= record.getWorstFitness());
+            Assertions.assertEquals(20, record.getPopulationSize());
+        }
+        Assertions.assertNotNull(evolution.getBestPhenotype());
+    }
+
+    /**
+     * Test, if the sampled retention keeps the full population of the first and every n-th generation only.
+     */
+    @Test
+    void retainsSampledPopulations() {
+        final Evolution evolution = run(Evolution.HistoryRetention.SAMPLED);
+        final List<Long> generations = new ArrayList<>();
+        for (final GenerationRecord record : evolution.getHistory()) {
+            Assertions.assertTrue(record.hasPopulation());
+            generations.add(record.getGeneration());
+        }
+        Assertions.assertEquals(List.of(1L, 4L, 8L), generations);
+        Assertions.assertNotNull(evolution.getBestPhenotype());
+    }
+
+}
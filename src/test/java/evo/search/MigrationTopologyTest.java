@@ -0,0 +1,112 @@
+package evo.search;
+
+import evo.search.ga.DiscreteChromosome;
+import evo.search.ga.DiscreteGene;
+import evo.search.ga.PackedChromosome;
+import io.jenetics.Genotype;
+import io.jenetics.Optimize;
+import io.jenetics.Phenotype;
+import io.jenetics.engine.EvolutionDurations;
+import io.jenetics.engine.EvolutionResult;
+import io.jenetics.util.ISeq;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Tests for the {@link Evolution.MigrationTopology} and the migration between islands.
+ */
+class MigrationTopologyTest {
+
+    /**
+     * Create the result of an island, whose phenotypes have consecutive fitness values.
+     *
+     * @param first fitness of the best phenotype
+     * @param size  amount of phenotypes
+     * @return evolution result of the island
+     */
+    private static EvolutionResult<DiscreteGene, Double> island(final int first, final int size) {
+        final List<Phenotype<DiscreteGene, Double>> population = new ArrayList<>();
+        for (int i = size - 1; i >= 0; i--) {
+            final PackedChromosome chromosome = new PackedChromosome(3, new short[]{(short) (i % 3)}, new float[]{first + i});
+            population.add(Phenotype.of(Genotype.of(DiscreteChromosome.of(chromosome)), 1, (double) (first + i)));
+        }
+        return EvolutionResult.of(Optimize.MINIMUM, ISeq.of(population), 1, EvolutionDurations.ZERO, 0, 0, 0);
+    }
+
+    /**
+     * Get the sorted fitness values of a population.
+     *
+     * @param population population after the migration
+     * @return sorted fitness values
+     */
+    private static List<Double> fitness(final ISeq<Phenotype<DiscreteGene, Double>> population) {
+        return population.stream()
+                .map(Phenotype::fitness)
+                .sorted()
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Test, if the ring sends to the next island and the full topology to all other islands.
+     */
+    @Test
+    void targetsIslands() {
+        Assertions.assertArrayEquals(new int[]{1}, Evolution.MigrationTopology.RING.targets(0, 3));
+        Assertions.assertArrayEquals(new int[]{0}, Evolution.MigrationTopology.RING.targets(2, 3));
+        Assertions.assertArrayEquals(new int[]{0, 2, 3}, Evolution.MigrationTopology.FULL.targets(1, 4));
+        Assertions.assertArrayEquals(new int[0], Evolution.MigrationTopology.RING.targets(0, 1));
+        Assertions.assertArrayEquals(new int[0], Evolution.MigrationTopology.FULL.targets(0, 1));
+    }
+
+    /**
+     * Test, if the best individuals of each island replace the worst individuals of the next island in the ring.
+     */
+    @Test
+    void migratesAlongRing() {
+        final List<ISeq<Phenotype<DiscreteGene, Double>>> migrated = Evolution.migrate(
+                List.of(island(0, 4), island(10, 4), island(20, 4)),
+                2,
+                Evolution.MigrationTopology.RING
+        );
+
+        Assertions.assertEquals(List.of(0.0, 1.0, 20.0, 21.0), fitness(migrated.get(0)));
+        Assertions.assertEquals(List.of(0.0, 1.0, 10.0, 11.0), fitness(migrated.get(1)));
+        Assertions.assertEquals(List.of(10.0, 11.0, 20.0, 21.0), fitness(migrated.get(2)));
+    }
+
+    /**
+     * Test, if the best individuals of each island replace the worst individuals of all other islands.
+     */
+    @Test
+    void migratesToAllIslands() {
+        final List<ISeq<Phenotype<DiscreteGene, Double>>> migrated = Evolution.migrate(
+                List.of(island(0, 4), island(10, 4), island(20, 4)),
+                1,
+                Evolution.MigrationTopology.FULL
+        );
+
+        Assertions.assertEquals(List.of(0.0, 1.0, 10.0, 20.0), fitness(migrated.get(0)));
+        Assertions.assertEquals(List.of(0.0, 10.0, 11.0, 20.0), fitness(migrated.get(1)));
+        Assertions.assertEquals(List.of(0.0, 10.0, 20.0, 21.0), fitness(migrated.get(2)));
+    }
+
+    /**
+     * Test, if more migrants than individuals replace at most the whole population and keep its size.
+     */
+    @Test
+    void limitsMigrantsToPopulation() {
+        final List<ISeq<Phenotype<DiscreteGene, Double>>> migrated = Evolution.migrate(
+                List.of(island(0, 2), island(10, 3)),
+                5,
+                Evolution.MigrationTopology.RING
+        );
+
+        Assertions.assertEquals(List.of(10.0, 11.0), fitness(migrated.get(0)));
+        Assertions.assertEquals(List.of(0.0, 1.0, 10.0), fitness(migrated.get(1)));
+    }
+
+}
@@ -0,0 +1,143 @@
+package evo.search;
+
+import evo.search.ga.GenerationRecord;
+import evo.search.ga.ParetoMember;
+import evo.search.ga.TestEvolutions;
+import evo.search.io.entities.Configuration;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Tests for the multi-objective mode of the {@link Evolution}.
+ */
+class MultiObjectiveEvolutionTest {
+
+    /**
+     * Create a multi-objective configuration.
+     *
+     * @param retention history retention of the evolution
+     * @return configuration minimizing two objectives
+     */
+    private static Configuration configuration(final Evolution.HistoryRetention retention) {
+        return TestEvolutions.configuration(10)
+                .objectives(List.of(Evolution.Fitness.WORST_CASE, Evolution.Fitness.MAX_AREA))
+                .frontSize(10)
+                .historyRetention(retention)
+                .historySampleInterval(4)
+                .build();
+    }
+
+    /**
+     * Check, if a member dominates another one, with all objectives being minimized.
+     *
+     * @param a possibly dominating member
+     * @param b possibly dominated member
+     * @return whether a is nowhere worse and somewhere better than b
+     */
+    private static boolean dominates(final ParetoMember a, final ParetoMember b) {
+        boolean better = false;
+        for (int i = 0; i < a.getObjectives().length; i++) {
+            if (a.getObjective(i) > b.getObjective(i))
+                return false;
+            if (a.getObjective(i) < b.getObjective(i))
+                better = true;
+        }
+        return better;
+    }
+
+    /**
+     * Test, if one run keeps a non-dominated front of all objectives and retains it in the history.
+     */
+    @Test
+    void keepsNonDominatedFront() {
+        final Evolution evolution = TestEvolutions.run(TestEvolutions.configuration(10)
+                .objectives(List.of(Evolution.Fitness.WORST_CASE, Evolution.Fitness.MAX_AREA, Evolution.Fitness.SPIRAL))
+                .frontSize(15)
+                .historyRetention(Evolution.HistoryRetention.FULL)
+                .build());
+
+        Assertions.assertEquals(Evolution.StopReason.LIMIT, evolution.getStopReason());
+        Assertions.assertEquals(10, evolution.getHistory().size());
+
+        final List<ParetoMember> front = evolution.getParetoFront();
+        Assertions.assertFalse(front.isEmpty());
+        Assertions.assertTrue(front.size() <= 15);
+        for (final ParetoMember a : front) {
+            Assertions.assertEquals(3, a.getObjectives().length);
+            for (final ParetoMember b : front)
+                Assertions.assertFalse(dominates(a, b));
+        }
+
+        for (final GenerationRecord record : evolution.getHistory()) {
+            Assertions.assertTrue(record.hasFront());
+            Assertions.assertFalse(record.hasPopulation());
+        }
+        Assertions.assertNotNull(evolution.getBestPhenotype());
+    }
+
+    /**
+     * Test, if each history retention retains the front with the best phenotype or only the statistics.
+     */
+    @Test
+    void retainsHistoryByRetention() {
+        for (final GenerationRecord record : TestEvolutions.run(configuration(Evolution.HistoryRetention.FULL)).getHistory()) {
+            Assertions.assertTrue(record.hasFront());
+            Assertions.assertTrue(record.hasBest());
+        }
+
+        final Evolution best = TestEvolutions.run(configuration(Evolution.HistoryRetention.BEST));
+        Assertions.assertEquals(10, best.getHistory().size());
+        for (final GenerationRecord record : best.getHistory()) {
+            Assertions.assertTrue(record.hasFront());
+            Assertions.assertFalse(record.hasPopulation());
+            Assertions.assertTrue(record.hasBest());
+            Assertions.assertEquals(record.getBestFitness(), record.getBest().fitness());
+        }
+        Assertions.assertFalse(best.getParetoFront().isEmpty());
+
+        for (final GenerationRecord record : TestEvolutions.run(configuration(Evolution.HistoryRetention.STATISTICS)).getHistory()) {
+            Assertions.assertFalse(record.hasFront());
+            Assertions.assertFalse(record.hasBest());
+            Assertions.assertFalse(Double.isNaN(record.getBestFitness()));
+        }
+
+        final List<Long> sampled = new ArrayList<>();
+        for (final GenerationRecord record : TestEvolutions.run(configuration(Evolution.HistoryRetention.SAMPLED)).getHistory()) {
+            Assertions.assertTrue(record.hasFront());
+            sampled.add(record.getGeneration());
+        }
+        Assertions.assertEquals(List.of(1L, 4L, 8L), sampled);
+    }
+
+    /**
+     * Test, if configured islands are ignored and a single population is evolved.
+     */
+    @Test
+    void evolvesSingleIsland() {
+        final Configuration configuration = configuration(Evolution.HistoryRetention.FULL);
+        configuration.setIslands(3);
+
+        final Evolution evolution = TestEvolutions.run(configuration);
+        Assertions.assertEquals(Evolution.StopReason.LIMIT, evolution.getStopReason());
+        for (final GenerationRecord record : evolution.getHistory())
+            Assertions.assertEquals(20, record.getPopulationSize());
+    }
+
+    /**
+     * Test, if a multi-objective run stops once its front did not change for the configured generations.
+     */
+    @Test
+    void stopsOnSteadyFront() {
+        final Configuration configuration = configuration(Evolution.HistoryRetention.STATISTICS);
+        configuration.setLimit(10_000);
+        configuration.setSteadyGenerations(5);
+
+        final Evolution evolution = TestEvolutions.run(configuration);
+        Assertions.assertEquals(Evolution.StopReason.STEADY_FITNESS, evolution.getStopReason());
+        Assertions.assertTrue(evolution.getHistory().size() < 10_000);
+    }
+
+}
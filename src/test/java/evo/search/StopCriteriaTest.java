@@ -0,0 +1,139 @@
+package evo.search;
+
+import evo.search.ga.TestEvolutions;
+import evo.search.io.entities.Configuration;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the stop criteria of the {@link Evolution}.
+ */
+class StopCriteriaTest {
+
+    /**
+     * Test, if each criterion stops the evaluated generation and the first met criterion is the reason.
+     */
+    @Test
+    void checksCriteriaInOrder() {
+        final Configuration configuration = Configuration.builder()
+                .fitnessThreshold(1)
+                .steadyGenerations(3)
+                .timeBudget(100)
+                .evaluationBudget(1000)
+                .build();
+
+        Assertions.assertNull(configuration.stopReason(2, 2, 99, 999));
+        Assertions.assertEquals(Evolution.StopReason.FITNESS_THRESHOLD, configuration.stopReason(1, 3, 100, 1000));
+        Assertions.assertEquals(Evolution.StopReason.STEADY_FITNESS, configuration.stopReason(2, 3, 100, 1000));
+        Assertions.assertEquals(Evolution.StopReason.TIME_BUDGET, configuration.stopReason(2, 2, 100, 1000));
+        Assertions.assertEquals(Evolution.StopReason.EVALUATION_BUDGET, configuration.stopReason(2, 2, 99, 1000));
+
+        Assertions.assertNull(Configuration.builder().build().stopReason(0, Integer.MAX_VALUE, Long.MAX_VALUE, Long.MAX_VALUE));
+    }
+
+    /**
+     * Test, if a run without further criteria stops at its limit.
+     */
+    @Test
+    void stopsAtLimit() {
+        final Evolution evolution = TestEvolutions.run(TestEvolutions.configuration(5).build());
+        Assertions.assertEquals(Evolution.StopReason.LIMIT, evolution.getStopReason());
+        Assertions.assertEquals(5, evolution.getHistory().size());
+    }
+
+    /**
+     * Test, if a run stops in the first generation reaching the fitness threshold.
+     */
+    @Test
+    void stopsAtFitnessThreshold() {
+        final Configuration configuration = TestEvolutions.configuration(1000).build();
+        configuration.setFitnessThreshold(Double.MAX_VALUE);
+
+        final Evolution evolution = TestEvolutions.run(configuration);
+        Assertions.assertEquals(Evolution.StopReason.FITNESS_THRESHOLD, evolution.getStopReason());
+        Assertions.assertEquals(1, evolution.getHistory().size());
+    }
+
+    /**
+     * Test, if a run stops once its best fitness did not improve for the steady generations.
+     */
+    @Test
+    void stopsOnSteadyFitness() {
+        final Configuration configuration = TestEvolutions.configuration(10_000).build();
+        configuration.setSteadyGenerations(3);
+
+        final Evolution evolution = TestEvolutions.run(configuration);
+        Assertions.assertEquals(Evolution.StopReason.STEADY_FITNESS, evolution.getStopReason());
+        final int size = evolution.getHistory().size();
+        Assertions.assertTrue(size > 3 && size < 10_000);
+        Assertions.assertEquals(
+                evolution.getBestPhenotype().fitness(),
+                evolution.getHistory().get(size - 4).getBestFitness(),
+                "The best fitness of the last generations must not improve."
+        );
+    }
+
+    /**
+     * Test, if a run stops once its wall-clock budget is used up.
+     */
+    @Test
+    void stopsAtTimeBudget() {
+        final Configuration configuration = TestEvolutions.configuration(10_000).build();
+        configuration.setTimeBudget(20);
+
+        final Evolution evolution = TestEvolutions.run(Evolution.builder()
+                .configuration(configuration)
+                .progressConsumer(generation -> {
+                    try {
+                        Thread.sleep(5);
+                    } catch (final InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }));
+        Assertions.assertEquals(Evolution.StopReason.TIME_BUDGET, evolution.getStopReason());
+        Assertions.assertTrue(evolution.getHistory().size() <= 4, "Every generation takes at least 5 ms.");
+    }
+
+    /**
+     * Test, if a run stops once its evaluation budget is used up.
+     */
+    @Test
+    void stopsAtEvaluationBudget() {
+        final Configuration configuration = TestEvolutions.configuration(10_000).build();
+        configuration.setEvaluationBudget(100);
+
+        final Evolution evolution = TestEvolutions.run(configuration);
+        Assertions.assertEquals(Evolution.StopReason.EVALUATION_BUDGET, evolution.getStopReason());
+        Assertions.assertTrue(evolution.getHistory().size() > 1 && evolution.getHistory().size() < 100, "The first generation evaluates 30 individuals.");
+    }
+
+    /**
+     * Test, if combined criteria stop the run by the first one met.
+     */
+    @Test
+    void stopsByFirstMetCriterion() {
+        final Configuration limited = TestEvolutions.configuration(3).build();
+        limited.setSteadyGenerations(100);
+        limited.setEvaluationBudget(1_000_000);
+        limited.setTimeBudget(600_000);
+        final Evolution byLimit = TestEvolutions.run(limited);
+        Assertions.assertEquals(Evolution.StopReason.LIMIT, byLimit.getStopReason());
+        Assertions.assertEquals(3, byLimit.getHistory().size());
+
+        final Configuration budgeted = TestEvolutions.configuration(10_000).build();
+        budgeted.setSteadyGenerations(10_000);
+        budgeted.setEvaluationBudget(100);
+        budgeted.setTimeBudget(600_000);
+        final Evolution byBudget = TestEvolutions.run(budgeted);
+        Assertions.assertEquals(Evolution.StopReason.EVALUATION_BUDGET, byBudget.getStopReason());
+
+        final Configuration thresholded = TestEvolutions.configuration(10_000).build();
+        thresholded.setFitnessThreshold(Double.MAX_VALUE);
+        thresholded.setSteadyGenerations(1);
+        thresholded.setEvaluationBudget(1);
+        final Evolution byThreshold = TestEvolutions.run(thresholded);
+        Assertions.assertEquals(Evolution.StopReason.FITNESS_THRESHOLD, byThreshold.getStopReason());
+        Assertions.assertEquals(1, byThreshold.getHistory().size());
+    }
+
+}
@@ -1,9 +1,12 @@
 package evo.search.ga;
 
+import evo.search.util.ListUtils;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Random;
 import java.util.concurrent.atomic.AtomicInteger;
 
 /**
@@ -121,4 +124,46 @@ class AnalysisUtilsTest {
         Assertions.assertTrue(maximisedQuarter < better);
     }
 
-}
\ No newline at end of file
+    /**
+     * Test for the {@link AnalysisUtils#newAreaCovered(PackedChromosome)} method.
+     * Tests, if the streamed area equals the area summed over the filled chromosome.
+     */
+    @Test
+    void newAreaEqualsFilledArea() {
+        final Random random = new Random(11);
+        for (int run = 0; run < 50; run++) {
+            final int positions = 3 + random.nextInt(8);
+            final List<DiscreteGene> genes = new ArrayList<>();
+            for (int i = 0, size = 2 + random.nextInt(60); i < size; i++)
+                genes.add(new DiscreteGene(positions, random.nextInt(positions), 1 + random.nextDouble() * 30));
+
+            final double[] areasCovered = new double[positions];
+            final double filledArea = ListUtils.consecSum(AnalysisUtils.fill(genes), (pointA, pointB) -> {
+                int index = Math.min(pointA.getPosition(), pointB.getPosition());
+                final int delta = Math.abs(pointA.getPosition() - pointB.getPosition());
+                if (index == 0 && delta > 1)
+                    index = delta;
+                final double area = AnalysisUtils.areaInSector(pointA.getDistance(), pointB.getDistance(), positions);
+                final double newArea = area - areasCovered[index];
+                areasCovered[index] = Math.max(areasCovered[index], area);
+                return Math.max(newArea, 0d);
+            });
+
+            Assertions.assertEquals(filledArea, AnalysisUtils.newAreaCovered(genes));
+        }
+    }
+
+    /**
+     * Test for the rank mapping of the spiral likeness.
+     * Tests, if equal distances get distinct ranks in the order of their genes.
+     */
+    @Test
+    void ranksDuplicateDistances() {
+        final float[] sorted = new float[5];
+        final int[] ranks = AnalysisUtils.ranks(new float[]{3, 1, 3, 0, 2}, 5, sorted);
+
+        Assertions.assertArrayEquals(new int[]{3, 1, 4, 0, 2}, ranks);
+        Assertions.assertArrayEquals(new float[]{0, 1, 2, 3, 3}, sorted);
+    }
+
+}
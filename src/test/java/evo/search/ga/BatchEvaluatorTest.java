@@ -0,0 +1,118 @@
+package evo.search.ga;
+
+import io.jenetics.Genotype;
+import io.jenetics.Phenotype;
+import io.jenetics.util.ISeq;
+import io.jenetics.util.MSeq;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Tests for the {@link BatchEvaluator}.
+ */
+class BatchEvaluatorTest {
+
+    /**
+     * Create a population of unevaluated phenotypes with the distances zero to size minus one.
+     *
+     * @param size amount of phenotypes
+     * @return unevaluated population
+     */
+    private static MSeq<Phenotype<DiscreteGene, Double>> population(final int size) {
+        final MSeq<Phenotype<DiscreteGene, Double>> population = MSeq.ofLength(size);
+        for (int i = 0; i < size; i++)
+            population.set(i, Phenotype.of(Genotype.of(new DiscreteChromosome(new DiscreteGene(4, i % 4, i))), 1));
+        return population;
+    }
+
+    /**
+     * Create a fitness function returning the distance of the single gene and counting its calls.
+     *
+     * @param calls counter of the calls
+     * @return counting fitness function
+     */
+    private static Function<Genotype<DiscreteGene>, Double> fitness(final AtomicInteger calls) {
+        return genotype -> {
+            calls.incrementAndGet();
+            return (double) genotype.gene().getDistance();
+        };
+    }
+
+    /**
+     * Test, if the batches are evaluated on the supplied executor and their results
+     * return in the order of the population, although the last batch is smaller.
+     */
+    @Test
+    void keepsOrderOfUnevenBatches() {
+        final AtomicInteger tasks = new AtomicInteger();
+        final Set<Thread> threads = ConcurrentHashMap.newKeySet();
+        final Executor executor = task -> {
+            tasks.incrementAndGet();
+            new Thread(task).start();
+        };
+        final AtomicInteger calls = new AtomicInteger();
+        final Function<Genotype<DiscreteGene>, Double> fitness = fitness(calls);
+        final BatchEvaluator<Double> evaluator = new BatchEvaluator<>(genotype -> {
+            threads.add(Thread.currentThread());
+            return fitness.apply(genotype);
+        }, executor, 3);
+
+        final ISeq<Phenotype<DiscreteGene, Double>> evaluated = evaluator.eval(population(7));
+
+        Assertions.assertEquals(3, tasks.get());
+        Assertions.assertEquals(7, calls.get());
+        Assertions.assertFalse(threads.contains(Thread.currentThread()));
+        Assertions.assertEquals(7, evaluated.size());
+        for (int i = 0; i < evaluated.size(); i++)
+            Assertions.assertEquals((double) i, evaluated.get(i).fitness());
+    }
+
+    /**
+     * Test, if already evaluated phenotypes keep their fitness without calling the fitness function.
+     */
+    @Test
+    void skipsEvaluatedPhenotypes() {
+        final MSeq<Phenotype<DiscreteGene, Double>> population = population(6);
+        population.set(1, population.get(1).withFitness(-1.0));
+        population.set(4, population.get(4).withFitness(-4.0));
+        final AtomicInteger calls = new AtomicInteger();
+
+        final ISeq<Phenotype<DiscreteGene, Double>> evaluated = new BatchEvaluator<>(fitness(calls), Runnable::run, 2)
+                .eval(population);
+
+        Assertions.assertEquals(4, calls.get());
+        Assertions.assertSame(population.get(1), evaluated.get(1));
+        Assertions.assertEquals(-1.0, evaluated.get(1).fitness());
+        Assertions.assertEquals(-4.0, evaluated.get(4).fitness());
+        Assertions.assertEquals(5.0, evaluated.get(5).fitness());
+    }
+
+    /**
+     * Test, if a single batch is evaluated inline without submitting it to the executor.
+     */
+    @Test
+    void evaluatesSingleBatchInline() {
+        final AtomicInteger tasks = new AtomicInteger();
+        final Set<Thread> threads = ConcurrentHashMap.newKeySet();
+        final BatchEvaluator<Double> evaluator = new BatchEvaluator<>(genotype -> {
+            threads.add(Thread.currentThread());
+            return (double) genotype.gene().getDistance();
+        }, task -> {
+            tasks.incrementAndGet();
+            task.run();
+        }, 1);
+
+        final ISeq<Phenotype<DiscreteGene, Double>> evaluated = evaluator.eval(population(5));
+
+        Assertions.assertEquals(0, tasks.get());
+        Assertions.assertEquals(Set.of(Thread.currentThread()), threads);
+        Assertions.assertEquals(4.0, evaluated.get(4).fitness());
+    }
+
+}
@@ -0,0 +1,52 @@
+package evo.search.ga;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tests for the {@link FitnessCache}.
+ */
+class FitnessCacheTest {
+
+    /**
+     * Test, if equal chromosomes are only evaluated once per fitness method.
+     */
+    @Test
+    void cachesEqualChromosomes() {
+        final FitnessCache cache = new FitnessCache(10);
+        final AtomicInteger evaluations = new AtomicInteger();
+
+        cache.get(PackedChromosome.of(List.of(new DiscreteGene(4, 1, 2))), "A", genes -> evaluations.incrementAndGet());
+        cache.get(PackedChromosome.of(List.of(new DiscreteGene(4, 1, 2))), "A", genes -> evaluations.incrementAndGet());
+        cache.get(PackedChromosome.of(List.of(new DiscreteGene(4, 1, 2))), "B", genes -> evaluations.incrementAndGet());
+        cache.get(PackedChromosome.of(List.of(new DiscreteGene(4, 2, 1))), "A", genes -> evaluations.incrementAndGet());
+
+        Assertions.assertEquals(3, evaluations.get());
+        Assertions.assertEquals(1, cache.getHits());
+        Assertions.assertEquals(3, cache.getMisses());
+    }
+
+    /**
+     * Test, if the least recently used entry is evicted.
+     */
+    @Test
+    void evictsLeastRecentlyUsed() {
+        final FitnessCache cache = new FitnessCache(2);
+        final PackedChromosome first = PackedChromosome.of(List.of(new DiscreteGene(4, 0, 1)));
+        final PackedChromosome second = PackedChromosome.of(List.of(new DiscreteGene(4, 1, 1)));
+        final PackedChromosome third = PackedChromosome.of(List.of(new DiscreteGene(4, 2, 1)));
+
+        cache.get(first, "A", genes -> 1);
+        cache.get(second, "A", genes -> 2);
+        cache.get(first, "A", genes -> 1);
+        cache.get(third, "A", genes -> 3);
+
+        Assertions.assertEquals(2, cache.size());
+        Assertions.assertEquals(1, cache.get(first, "A", genes -> -1));
+        Assertions.assertEquals(-1, cache.get(second, "A", genes -> -1));
+    }
+
+}
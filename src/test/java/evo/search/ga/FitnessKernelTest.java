@@ -0,0 +1,107 @@
+package evo.search.ga;
+
+import evo.search.util.MathUtils;
+import evo.search.util.TrigTable;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+/**
+ * Cross-checks the {@link FitnessKernel}s against each other.
+ */
+class FitnessKernelTest {
+
+    /**
+     * Load the Vector API kernel of the multi-release layer.
+     *
+     * @return the vector kernel, null if the runtime does not provide it
+     */
+    private static FitnessKernel vectorKernel() {
+        try {
+            return (FitnessKernel) Class.forName("evo.search.ga.VectorKernel").getDeclaredConstructor().newInstance();
+        } catch (final ReflectiveOperationException | LinkageError e) {
+            return null;
+        }
+    }
+
+    /**
+     * Test, if the scalar kernel equals the gene by gene computation.
+     */
+    @Test
+    void scalarEqualsGeneByGene() {
+        final FitnessKernel kernel = new ScalarKernel();
+        final Random random = new Random(7);
+        for (int run = 0; run < 50; run++) {
+            final PackedChromosome chromosome = RandomChromosomes.packed(random, 2 + random.nextInt(10), 1 + random.nextInt(100));
+            final int size = chromosome.size();
+
+            final double[] steps = new double[size];
+            kernel.stepDistances(chromosome.positions(), chromosome.positionArray(), chromosome.distanceArray(), 1, size, steps);
+
+            double path = 0;
+            for (int i = 1; i < size; i++) {
+                Assertions.assertEquals(chromosome.distance(i - 1, i), steps[i]);
+                path += chromosome.distance(i - 1, i);
+            }
+            Assertions.assertEquals(path, kernel.pathLength(chromosome.positions(), chromosome.positionArray(), chromosome.distanceArray(), size));
+
+            final double[] maxDistance = new double[chromosome.positions()];
+            for (int i = 0; i < size; i++)
+                maxDistance[chromosome.position(i)] = Math.max(maxDistance[chromosome.position(i)], chromosome.distance(i));
+
+            final double sectorSine = TrigTable.of(chromosome.positions()).sin(1);
+            double area = 0;
+            for (int i = 0; i < maxDistance.length; i++)
+                area += MathUtils.areaInTriangleBySine(sectorSine, maxDistance[i], maxDistance[(i + 1) % maxDistance.length]);
+            Assertions.assertEquals(area, kernel.sectorArea(sectorSine, maxDistance, maxDistance.length), 1e-9 * Math.abs(area));
+        }
+    }
+
+    /**
+     * Test, if the fitness functions use the vector kernel when the runtime provides the Vector API.
+     * Skipped if the Vector API module was not added to the runtime.
+     */
+    @Test
+    void loadsVectorKernel() {
+        Assumptions.assumeTrue(ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent(), "Vector API module not added");
+        Assertions.assertEquals("VectorKernel", FitnessKernel.INSTANCE.getClass().getSimpleName());
+    }
+
+    /**
+     * Test, if the vector kernel computes the same steps and sums as the scalar kernel.
+     * Skipped if the runtime does not provide the Vector API.
+     */
+    @Test
+    void vectorEqualsScalar() {
+        final FitnessKernel vector = vectorKernel();
+        Assumptions.assumeTrue(vector != null, "Vector API kernel not available");
+
+        final FitnessKernel scalar = new ScalarKernel();
+        final Random random = new Random(11);
+        for (int run = 0; run < 100; run++) {
+            final PackedChromosome chromosome = RandomChromosomes.packed(random, 1 + random.nextInt(40), 1 + random.nextInt(300));
+            final short positions = chromosome.positions();
+            final int size = chromosome.size();
+            final int from = 1 + random.nextInt(size);
+
+            final double[] scalarSteps = new double[size];
+            final double[] vectorSteps = new double[size];
+            scalar.stepDistances(positions, chromosome.positionArray(), chromosome.distanceArray(), from, size, scalarSteps);
+            vector.stepDistances(positions, chromosome.positionArray(), chromosome.distanceArray(), from, size, vectorSteps);
+            Assertions.assertArrayEquals(scalarSteps, vectorSteps);
+
+            final double path = scalar.pathLength(positions, chromosome.positionArray(), chromosome.distanceArray(), size);
+            Assertions.assertEquals(path, vector.pathLength(positions, chromosome.positionArray(), chromosome.distanceArray(), size));
+
+            final double[] maxDistance = new double[positions];
+            for (int i = 0; i < positions; i++)
+                maxDistance[i] = random.nextDouble() * 40;
+            final double sectorSine = TrigTable.of(positions).sin(1);
+            final double area = scalar.sectorArea(sectorSine, maxDistance, positions);
+            Assertions.assertEquals(area, vector.sectorArea(sectorSine, maxDistance, positions));
+        }
+    }
+
+}
@@ -0,0 +1,88 @@
+package evo.search.ga;
+
+import evo.search.Evolution;
+import evo.search.io.entities.Configuration;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.List;
+
+/**
+ * Tests for the {@link FitnessMethods} registry.
+ */
+class FitnessMethodsTest {
+
+    /**
+     * Fitness method provided through the service file of the test resources.
+     */
+    public static class PathLength implements FitnessMethod {
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public String getName() {
+            return "PATH_LENGTH";
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public double evaluate(final Evolution evolution, final PackedChromosome chromosome) {
+            return AnalysisUtils.traceLength(chromosome);
+        }
+    }
+
+    /**
+     * Test, if the built-in methods are registered by their names before the provided ones.
+     */
+    @Test
+    void builtInMethodsFirst() {
+        final List<FitnessMethod> all = FitnessMethods.all();
+        for (final Evolution.Fitness fitness : Evolution.Fitness.values()) {
+            Assertions.assertSame(fitness, FitnessMethods.forName(fitness.name()));
+            Assertions.assertEquals(fitness, all.get(fitness.ordinal()));
+        }
+        Assertions.assertThrows(IllegalArgumentException.class, () -> FitnessMethods.forName("UNKNOWN"));
+    }
+
+    /**
+     * Test, if a provided method is discovered, configured by name and used by the evolution.
+     * Parsed and deserialized configurations have to reference the registered instance.
+     *
+     * @throws IOException            if the configuration could not be serialized
+     * @throws ClassNotFoundException if the configuration could not be deserialized
+     */
+    @Test
+    void providedMethodIsUsed() throws IOException, ClassNotFoundException {
+        final FitnessMethod method = FitnessMethods.forName("PATH_LENGTH");
+        Assertions.assertTrue(method instanceof PathLength);
+
+        final Configuration configuration = Configuration.builder().fitness(method).build();
+        final Configuration parsed = new Configuration().parse(configuration.serialize());
+        Assertions.assertSame(method, parsed.getFitness());
+
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (final ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(configuration);
+        }
+        try (final ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            Assertions.assertSame(method, ((Configuration) in.readObject()).getFitness());
+        }
+
+        final PackedChromosome chromosome = PackedChromosome.of(List.of(
+                new DiscreteGene(3, 0, 1),
+                new DiscreteGene(3, 1, 2),
+                new DiscreteGene(3, 2, 3)
+        ));
+        final Evolution evolution = Evolution.builder().configuration(parsed).build();
+        Assertions.assertEquals(AnalysisUtils.traceLength(chromosome), evolution.evalFitness(chromosome));
+    }
+
+}
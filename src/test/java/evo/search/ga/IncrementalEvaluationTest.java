@@ -0,0 +1,65 @@
+package evo.search.ga;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+/**
+ * Tests for the {@link IncrementalEvaluation}.
+ */
+class IncrementalEvaluationTest {
+
+    /**
+     * Test, if the incremental evaluation of a mutated chromosome equals the full evaluation.
+     */
+    @Test
+    void equalsFullEvaluationAfterMutation() {
+        final Random random = new Random(42);
+        final DiscreteGene treasure = new DiscreteGene(5, 3, 15);
+        final PackedChromosome origin = RandomChromosomes.packed(random, 5, 200);
+
+        IncrementalEvaluation.traceLength(origin, treasure);
+        IncrementalEvaluation.worstCase(origin, 1f, 16);
+        IncrementalEvaluation.worstCaseMean(origin, 1f, 16);
+
+        for (int mutation = 0; mutation < 20; mutation++) {
+            final PackedChromosome mutated = origin.copy();
+            mutated.swapDistances(random.nextInt(200), random.nextInt(200));
+            mutated.linkOrigin(origin);
+
+            Assertions.assertEquals(AnalysisUtils.traceLength(mutated, treasure), IncrementalEvaluation.traceLength(mutated, treasure));
+            Assertions.assertEquals(AnalysisUtils.worstCase(mutated, 1f), IncrementalEvaluation.worstCase(mutated, 1f, 16));
+            Assertions.assertEquals(AnalysisUtils.worstCaseMean(mutated, 1f), IncrementalEvaluation.worstCaseMean(mutated, 1f, 16));
+        }
+    }
+
+
+    /**
+     * Test, if offspring of an unevaluated chromosome resume from its evaluated ancestor
+     * and released chromosomes are evaluated in full.
+     */
+    @Test
+    void linksEvaluatedAncestorAndReleasesState() {
+        final Random random = new Random(7);
+        final PackedChromosome origin = RandomChromosomes.packed(random, 5, 100);
+        IncrementalEvaluation.worstCase(origin, 1f, 16);
+
+        final PackedChromosome unevaluated = origin.copy();
+        unevaluated.swapDistances(10, 90);
+        unevaluated.linkOrigin(origin);
+        final PackedChromosome offspring = unevaluated.copy();
+        offspring.swapDistances(50, 60);
+        offspring.linkOrigin(unevaluated);
+        Assertions.assertSame(origin, offspring.getOrigin());
+        Assertions.assertEquals(AnalysisUtils.worstCase(offspring, 1f), IncrementalEvaluation.worstCase(offspring, 1f, 16));
+
+        origin.releaseState();
+        Assertions.assertFalse(origin.isEvaluated());
+        final PackedChromosome orphan = origin.copy();
+        orphan.swapDistances(20, 30);
+        orphan.linkOrigin(origin);
+        Assertions.assertEquals(AnalysisUtils.worstCase(orphan, 1f), IncrementalEvaluation.worstCase(orphan, 1f, 16));
+    }
+
+}
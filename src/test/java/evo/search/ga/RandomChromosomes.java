@@ -0,0 +1,33 @@
+package evo.search.ga;
+
+import java.util.Random;
+
+/**
+ * Random chromosomes for the tests of the fitness functions.
+ */
+final class RandomChromosomes {
+
+    /**
+     * Utility class, not to be instantiated.
+     */
+    private RandomChromosomes() {
+    }
+
+    /**
+     * Create a random packed chromosome.
+     *
+     * @param random    random to draw the genes with
+     * @param positions amount of rays
+     * @param size      amount of genes
+     * @return random packed chromosome
+     */
+    static PackedChromosome packed(final Random random, final int positions, final int size) {
+        final short[] position = new short[size];
+        final float[] distance = new float[size];
+        for (int i = 0; i < size; i++) {
+            position[i] = (short) random.nextInt(positions);
+            distance[i] = 1 + random.nextFloat() * 40;
+        }
+        return new PackedChromosome(positions, position, distance);
+    }
+}
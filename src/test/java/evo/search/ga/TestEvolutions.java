@@ -0,0 +1,69 @@
+package evo.search.ga;
+
+import evo.search.Evolution;
+import evo.search.io.entities.Configuration;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Small configurations and runs for the tests of the evolution.
+ */
+public final class TestEvolutions {
+
+    /**
+     * Utility class, not to be instantiated.
+     */
+    private TestEvolutions() {
+    }
+
+    /**
+     * Create the distances of the tested configurations.
+     *
+     * @return distances one to twelve
+     */
+    public static List<Double> distances() {
+        final List<Double> distances = new ArrayList<>();
+        for (int i = 1; i <= 12; i++)
+            distances.add((double) i);
+        return distances;
+    }
+
+    /**
+     * Create the builder of a small configuration, that evolves twenty individuals with ten offspring
+     * on the {@link #distances()} and evaluates them on the evolution's thread.
+     *
+     * @param limit generation limit
+     * @return configuration builder to add further properties to
+     */
+    public static Configuration.ConfigurationBuilder configuration(final int limit) {
+        return Configuration.builder()
+                .limit(limit)
+                .population(20)
+                .offspring(10)
+                .distances(distances())
+                .executor(Runnable::run);
+    }
+
+    /**
+     * Build and run an evolution.
+     *
+     * @param builder evolution builder with the configuration and the consumers of the run
+     * @return finished evolution
+     */
+    public static Evolution run(final Evolution.EvolutionBuilder builder) {
+        final Evolution evolution = builder.build();
+        evolution.run();
+        return evolution;
+    }
+
+    /**
+     * Run an evolution of a configuration.
+     *
+     * @param configuration configuration to run
+     * @return finished evolution
+     */
+    public static Evolution run(final Configuration configuration) {
+        return run(Evolution.builder().configuration(configuration));
+    }
+}
@@ -0,0 +1,70 @@
+package evo.search.ga;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Tests for the {@link TreasureIndex}.
+ */
+class TreasureIndexTest {
+
+    /**
+     * Test, if the single walk computes the same trace lengths as one walk per treasure.
+     */
+    @Test
+    void equalsTraceLengthPerTreasure() {
+        final Random random = new Random(7);
+        final List<DiscreteGene> treasures = new ArrayList<>();
+        for (int i = 0; i < 50; i++)
+            treasures.add(new DiscreteGene(5, random.nextInt(5), random.nextDouble() * 30));
+        treasures.add(new DiscreteGene(5, 0, 0));
+        treasures.add(new DiscreteGene(5, 2, 1000));
+
+        final List<DiscreteGene> genes = new ArrayList<>();
+        for (int i = 0; i < 100; i++)
+            genes.add(new DiscreteGene(5, random.nextInt(5), 1 + random.nextDouble() * 25));
+        final PackedChromosome chromosome = PackedChromosome.of(genes);
+
+        final TreasureIndex index = new TreasureIndex(treasures);
+        final double[] lengths = index.traceLengths(chromosome, null, treasures.size());
+        final double[] withPathLengths = index.traceLengths(chromosome, IncrementalEvaluation.pathLengths(chromosome), treasures.size());
+
+        for (int i = 0; i < treasures.size(); i++) {
+            Assertions.assertEquals(AnalysisUtils.traceLength(chromosome, treasures.get(i)), lengths[i]);
+            Assertions.assertEquals(lengths[i], withPathLengths[i]);
+        }
+        Assertions.assertEquals(lengths[0], index.traceLengths(chromosome, null, 1)[0]);
+    }
+
+    /**
+     * Test, if the walk into the thread's buffer equals the allocating walk and
+     * the index detects treasures changed in place.
+     */
+    @Test
+    void reusesBufferAndDetectsChangedTreasures() {
+        final Random random = new Random(11);
+        final List<DiscreteGene> treasures = new ArrayList<>();
+        for (int i = 0; i < 10; i++)
+            treasures.add(new DiscreteGene(3, random.nextInt(3), random.nextDouble() * 10));
+        final PackedChromosome chromosome = RandomChromosomes.packed(random, 3, 40);
+
+        final TreasureIndex index = new TreasureIndex(treasures);
+        final double[] expected = index.traceLengths(chromosome, null, treasures.size());
+        final double[] buffer = index.lengthsBuffer();
+        Assertions.assertSame(buffer, index.traceLengths(chromosome, null, treasures.size(), buffer));
+        for (int i = 0; i < treasures.size(); i++)
+            Assertions.assertEquals(expected[i], buffer[i]);
+        index.traceLengths(chromosome, null, 1, buffer);
+        Assertions.assertEquals(expected[0], buffer[0]);
+        Assertions.assertEquals(0, buffer[1]);
+
+        Assertions.assertTrue(index.isIndexOf(new ArrayList<>(treasures)));
+        treasures.set(0, new DiscreteGene(3, 1, 50));
+        Assertions.assertFalse(index.isIndexOf(treasures));
+    }
+
+}
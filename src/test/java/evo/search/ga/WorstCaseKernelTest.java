@@ -0,0 +1,54 @@
+package evo.search.ga;
+
+import evo.search.experiments.WorstCaseKernelExperiment;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Tests the allocation free worst case kernels of the {@link AnalysisUtils}
+ * against the frozen list based kernels they replaced.
+ */
+class WorstCaseKernelTest {
+
+    /**
+     * Relative tolerance between the kernels and the frozen baseline.
+     * The kernels take their cosines from the {@link evo.search.util.TrigTable}, which holds
+     * {@link Math#cos(double)} of the absolute ray differences, and may sum the path in another order,
+     * so only rounding in the last bits is accepted.
+     */
+    private static final double TOLERANCE = 1e-12;
+
+    /**
+     * Assert, that a kernel result equals the baseline within the {@link #TOLERANCE}.
+     *
+     * @param expected baseline result
+     * @param actual   kernel result
+     */
+    private static void assertClose(final double expected, final double actual) {
+        Assertions.assertEquals(expected, actual, Math.abs(expected) * TOLERANCE);
+    }
+
+    /**
+     * Test, if the kernels compute the same results as the frozen baseline kernels of the
+     * {@link WorstCaseKernelExperiment}, also when the scratch arrays are reused for differently sized chromosomes.
+     */
+    @Test
+    void equalsBaselineKernels() {
+        final Random random = new Random(3);
+        for (int run = 0; run < 50; run++) {
+            final int positions = 2 + random.nextInt(8);
+            final List<DiscreteGene> genes = new ArrayList<>();
+            for (int i = 0, size = 1 + random.nextInt(150); i < size; i++)
+                genes.add(new DiscreteGene(positions, random.nextInt(positions), 1 + random.nextDouble() * 40));
+
+            assertClose(WorstCaseKernelExperiment.baselineWorstCase(genes, 1f), AnalysisUtils.worstCase(genes, 1f));
+            assertClose(WorstCaseKernelExperiment.baselineWorstCaseMean(genes, 1f), AnalysisUtils.worstCaseMean(genes, 1f));
+            assertClose(WorstCaseKernelExperiment.baselineWorstCaseSpiralStrategy(genes), AnalysisUtils.worstCaseSpiralStrategy(genes));
+        }
+    }
+
+}
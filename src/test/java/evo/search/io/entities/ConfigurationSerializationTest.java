@@ -1,8 +1,21 @@
 package evo.search.io.entities;
 
+import evo.search.Evolution;
+import evo.search.ga.DiscreteGene;
+import evo.search.ga.mutators.DistanceMutator;
+import evo.search.io.service.XmlService;
+import org.dom4j.DocumentException;
+import org.dom4j.DocumentHelper;
 import org.dom4j.Element;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 /**
@@ -23,4 +36,63 @@ class ConfigurationSerializationTest {
         assertEquals(build.toString(), parsed.toString());
     }
 
-}
\ No newline at end of file
+    /**
+     * Test, if streamed configurations are compatible with serialized documents in both directions.
+     *
+     * @throws IOException       if the configuration could not be streamed
+     * @throws DocumentException if the streamed document could not be parsed
+     */
+    @Test
+    void streamingTest() throws IOException, DocumentException {
+        final List<Double> distances = new ArrayList<>();
+        final List<DiscreteGene> treasures = new ArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            distances.add(i + .5);
+            treasures.add(new DiscreteGene(3, i % 3, i));
+        }
+        final Configuration build = Configuration.builder()
+                .name("large & <streamed>")
+                .positions(3)
+                .distances(distances)
+                .treasures(treasures)
+                .alterers(List.of(new DistanceMutator(0.25)))
+                .build();
+
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        XmlService.write(out, build);
+
+        final Configuration streamed = XmlService.read(new ByteArrayInputStream(out.toByteArray()), new Configuration());
+        assertEquals(build.toString(), streamed.toString());
+
+        final Configuration parsed = new Configuration().parse(DocumentHelper.parseText(out.toString(StandardCharsets.UTF_8)).getRootElement());
+        assertEquals(build.toString(), parsed.toString());
+
+        final byte[] serialized = DocumentHelper.createDocument(build.serialize()).asXML().getBytes(StandardCharsets.UTF_8);
+        final Configuration read = XmlService.read(new ByteArrayInputStream(serialized), new Configuration());
+        assertEquals(build.toString(), read.toString());
+    }
+
+    /**
+     * Test, if the objectives of a multi-objective configuration survive serialization and streaming.
+     *
+     * @throws IOException if the configuration could not be streamed
+     */
+    @Test
+    void objectivesTest() throws IOException {
+        final Configuration build = Configuration.builder()
+                .objectives(List.of(Evolution.Fitness.WORST_CASE, Evolution.Fitness.SPIRAL, Evolution.Fitness.MAX_AREA))
+                .frontSize(15)
+                .build();
+
+        final Configuration parsed = new Configuration().parse(build.serialize());
+        assertEquals(build.getObjectives(), parsed.getObjectives());
+        assertEquals(15, parsed.getFrontSize());
+
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        XmlService.write(out, build);
+        final Configuration streamed = XmlService.read(new ByteArrayInputStream(out.toByteArray()), new Configuration());
+        assertEquals(build.getObjectives(), streamed.getObjectives());
+        assertEquals(build.toString(), streamed.toString());
+    }
+
+}
@@ -0,0 +1,249 @@
+package evo.search.io.service;
+
+import evo.search.Evolution;
+import evo.search.ga.DiscreteChromosome;
+import evo.search.ga.DiscreteGene;
+import evo.search.ga.GenerationRecord;
+import evo.search.ga.ParetoMember;
+import evo.search.io.entities.Configuration;
+import io.jenetics.Genotype;
+import io.jenetics.Phenotype;
+import io.jenetics.util.ISeq;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Tests for the {@link EvolutionFileService}.
+ */
+class EvolutionFileServiceTest {
+
+    /**
+     * Create an evaluated phenotype.
+     *
+     * @param generation generation of the phenotype
+     * @param fitness    fitness of the phenotype
+     * @param genes      genes of the phenotype's chromosome
+     * @return evaluated phenotype
+     */
+    private static Phenotype<DiscreteGene, Double> phenotype(final long generation, final double fitness, final DiscreteGene... genes) {
+        return Phenotype.of(Genotype.of(new DiscreteChromosome(genes)), generation, fitness);
+    }
+
+    /**
+     * Create an evolution with all kinds of retained records.
+     *
+     * @return evolution to write
+     */
+    private static Evolution evolution() {
+        final Phenotype<DiscreteGene, Double> best = phenotype(2, 1.5, new DiscreteGene(3, 0, 1), new DiscreteGene(3, 2, 2.5));
+        final ISeq<Phenotype<DiscreteGene, Double>> population = ISeq.of(
+                best,
+                phenotype(1, 4, new DiscreteGene(3, 1, 3), new DiscreteGene(3, 1, 4))
+        );
+        final List<ParetoMember> front = List.of(
+                new ParetoMember(List.of(new DiscreteGene(3, 2, 7)), new double[]{1, 2}),
+                new ParetoMember(List.of(new DiscreteGene(3, 1, 8)), new double[]{2, 1})
+        );
+        final List<GenerationRecord> history = List.of(
+                new GenerationRecord(1, 2, 3, 4, 2, null, null, null),
+                new GenerationRecord(2, 1.5, 2.75, 4, 2, best, population, null),
+                new GenerationRecord(3, 1, Double.NaN, 2, 2, best, null, front)
+        );
+        return Evolution.builder()
+                .history(history)
+                .bestPhenotype(best)
+                .stopReason(Evolution.StopReason.STEADY_FITNESS)
+                .paretoFront(front)
+                .build();
+    }
+
+    /**
+     * Assert, that a read evolution equals the {@link #evolution()}.
+     *
+     * @param evolution written evolution
+     * @param read      read evolution
+     */
+    private static void assertRead(final Evolution evolution, final Evolution read) {
+        final Phenotype<DiscreteGene, Double> best = evolution.getBestPhenotype();
+        final List<ParetoMember> front = evolution.getParetoFront();
+        final List<GenerationRecord> history = evolution.getHistory();
+
+        Assertions.assertEquals(Evolution.StopReason.STEADY_FITNESS, read.getStopReason());
+        Assertions.assertEquals(best.fitness(), read.getBestPhenotype().fitness());
+        Assertions.assertEquals(best.genotype().chromosome(), read.getBestPhenotype().genotype().chromosome());
+        Assertions.assertEquals(2, read.getParetoFront().size());
+        Assertions.assertArrayEquals(new double[]{2, 1}, read.getParetoFront().get(1).getObjectives());
+        Assertions.assertEquals(front.get(1).getChromosome(), read.getParetoFront().get(1).getChromosome());
+
+        Assertions.assertEquals(history.size(), read.getHistory().size());
+        for (int i = 0; i < history.size(); i++) {
+            final GenerationRecord expected = history.get(i);
+            final GenerationRecord actual = read.getHistory().get(i);
+            Assertions.assertEquals(expected.getGeneration(), actual.getGeneration());
+            Assertions.assertEquals(expected.getBestFitness(), actual.getBestFitness());
+            Assertions.assertEquals(expected.getMeanFitness(), actual.getMeanFitness());
+            Assertions.assertEquals(expected.getWorstFitness(), actual.getWorstFitness());
+            Assertions.assertEquals(expected.getPopulationSize(), actual.getPopulationSize());
+            Assertions.assertEquals(expected.hasBest(), actual.hasBest());
+            Assertions.assertEquals(expected.hasPopulation(), actual.hasPopulation());
+            Assertions.assertEquals(expected.hasFront(), actual.hasFront());
+            Assertions.assertEquals(expected.getBestChromosome(), actual.getBestChromosome());
+        }
+
+        final ISeq<Phenotype<DiscreteGene, Double>> population = history.get(1).getPopulation();
+        final ISeq<Phenotype<DiscreteGene, Double>> readPopulation = read.getHistory().get(1).getPopulation();
+        Assertions.assertEquals(1L, readPopulation.get(1).generation());
+        Assertions.assertEquals(4.0, readPopulation.get(1).fitness());
+        Assertions.assertEquals(population.get(1).genotype().chromosome(), readPopulation.get(1).genotype().chromosome());
+    }
+
+    /**
+     * Test, if an evolution with all kinds of retained records is read as written.
+     *
+     * @throws IOException if the evolution could not be written or read
+     */
+    @Test
+    void roundTrip() throws IOException {
+        final Evolution evolution = evolution();
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        EvolutionFileService.write(evolution, out);
+        assertRead(evolution, EvolutionFileService.read(new ByteArrayInputStream(out.toByteArray())));
+    }
+
+    /**
+     * Test, if an opened evolution file reads its history from the mapped file.
+     *
+     * @param directory temporary directory
+     * @throws IOException if the evolution could not be written or read
+     */
+    @Test
+    void opensHistoryLazily(@TempDir final Path directory) throws IOException {
+        final Evolution evolution = evolution();
+        final Path path = directory.resolve("run-1.evolution");
+        EvolutionFileService.write(evolution, path);
+
+        final Evolution opened = EvolutionFileService.open(path);
+        Assertions.assertTrue(opened.getHistory() instanceof MappedHistory);
+        assertRead(evolution, opened);
+        Assertions.assertSame(opened.getHistory().get(1), opened.getHistory().get(1));
+    }
+
+    /**
+     * Test, if an evolution file mapped in segments reads values and phenotypes across the segments,
+     * and its history is serialized as a copy.
+     *
+     * @param directory temporary directory
+     * @throws IOException            if the evolution could not be written, read or serialized
+     * @throws ClassNotFoundException if the serialized history could not be read
+     */
+    @Test
+    void opensHistoryInSegments(@TempDir final Path directory) throws IOException, ClassNotFoundException {
+        final Evolution evolution = evolution();
+        final Path path = directory.resolve("run-1.evolution");
+        EvolutionFileService.write(evolution, path);
+
+        final Evolution opened = EvolutionFileService.open(path, 7);
+        assertRead(evolution, opened);
+
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (final ObjectOutputStream objectOutputStream = new ObjectOutputStream(out)) {
+            objectOutputStream.writeObject(opened.getHistory());
+        }
+        try (final ObjectInputStream objectInputStream = new ObjectInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+            final List<?> copy = (List<?>) objectInputStream.readObject();
+            Assertions.assertEquals(ArrayList.class, copy.getClass());
+            Assertions.assertEquals(opened.getHistory().size(), copy.size());
+            Assertions.assertEquals(opened.getHistory().get(1).getBestChromosome(), ((GenerationRecord) copy.get(1)).getBestChromosome());
+        }
+    }
+
+    /**
+     * Copy a legacy evolution file written by the object serialization of the baseline version.
+     * <p>
+     * The files hold an evolution over five generations of six individuals of the configuration
+     * "legacy" with the singular fitness. The complete file was saved with the selector cleared,
+     * since the jenetics selectors are not serializable. The aborted file was saved with the
+     * default selector, like every evolution saved by the baseline version.
+     *
+     * @param name      name of the legacy file resource
+     * @param directory directory to copy the file to
+     * @return path of the copied file
+     * @throws IOException if the file could not be copied
+     */
+    private static Path legacyFile(final String name, final Path directory) throws IOException {
+        final Path path = directory.resolve("run-1.evolution");
+        try (final InputStream inputStream = EvolutionFileServiceTest.class.getResourceAsStream(name)) {
+            Files.copy(inputStream, path);
+        }
+        return path;
+    }
+
+    /**
+     * Test, if an evolution written by the object serialization is read and converted.
+     *
+     * @param directory temporary directory
+     * @throws IOException if the evolution could not be read or converted
+     */
+    @Test
+    void convertsLegacyFile(@TempDir final Path directory) throws IOException {
+        final Path path = legacyFile("legacy.evolution", directory);
+        Assertions.assertTrue(EvolutionFileService.isLegacy(path));
+
+        final Evolution legacy = EvolutionFileService.read(path);
+        final Configuration configuration = legacy.getConfiguration();
+        Assertions.assertEquals("legacy", configuration.getName());
+        Assertions.assertEquals(Evolution.Fitness.SINGULAR, configuration.getFitness());
+        Assertions.assertEquals(6, configuration.getPopulation());
+        Assertions.assertEquals(List.of(1d, 2d, 3d, 4d, 5d, 6d), configuration.getDistances());
+        Assertions.assertEquals(List.of(new DiscreteGene(3, 1, 4.5)), configuration.getTreasures());
+
+        Assertions.assertTrue(EvolutionFileService.convert(path));
+        Assertions.assertFalse(EvolutionFileService.isLegacy(path));
+        Assertions.assertTrue(Files.exists(directory.resolve("run-1.evolution" + EvolutionFileService.BACKUP_EXTENSION)));
+        Assertions.assertFalse(EvolutionFileService.convert(path));
+
+        final double[] bestFitness = {9.21110255092798, 6, 9.21110255092798, 6, 6};
+        final List<GenerationRecord> history = EvolutionFileService.read(path).getHistory();
+        Assertions.assertEquals(bestFitness.length, history.size());
+        for (int i = 0; i < bestFitness.length; i++) {
+            final GenerationRecord record = history.get(i);
+            Assertions.assertEquals(i + 1, record.getGeneration());
+            Assertions.assertEquals(bestFitness[i], record.getBestFitness());
+            Assertions.assertEquals(6, record.getPopulationSize());
+            Assertions.assertFalse(record.hasBest());
+        }
+        Assertions.assertEquals(12.429431909838188, history.get(0).getMeanFitness(), 1e-12);
+        Assertions.assertEquals(15.188126970419829, history.get(0).getWorstFitness());
+    }
+
+    /**
+     * Test, if an aborted legacy file fails with an exception and is not converted.
+     *
+     * @param directory temporary directory
+     * @throws IOException if the legacy file could not be copied
+     */
+    @Test
+    void rejectsAbortedLegacyFile(@TempDir final Path directory) throws IOException {
+        final Path path = legacyFile("legacy-aborted.evolution", directory);
+        final byte[] content = Files.readAllBytes(path);
+
+        Assertions.assertTrue(EvolutionFileService.isLegacy(path));
+        Assertions.assertThrows(IOException.class, () -> EvolutionFileService.read(path));
+        Assertions.assertThrows(IOException.class, () -> EvolutionFileService.convert(path));
+        Assertions.assertArrayEquals(content, Files.readAllBytes(path));
+        Assertions.assertFalse(Files.exists(directory.resolve("run-1.evolution" + EvolutionFileService.BACKUP_EXTENSION)));
+    }
+
+}
@@ -0,0 +1,343 @@
+package evo.search.io.service;
+
+import evo.search.Evolution;
+import evo.search.ga.GenerationRecord;
+import evo.search.ga.mutators.SwapGeneMutator;
+import evo.search.io.entities.Configuration;
+import evo.search.io.entities.EvolutionEntry;
+import evo.search.io.entities.EvolutionIndex;
+import evo.search.io.entities.Project;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Tests for the {@link ProjectService}.
+ */
+class ProjectServiceTest {
+
+    /**
+     * Get the names of a project's configurations.
+     *
+     * @param project loaded project
+     * @return sorted names of the configurations
+     */
+    private static List<String> names(final Project project) {
+        return project.getConfigurations().stream()
+                .map(Configuration::getName)
+                .sorted()
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Test, if the configurations of a project are cached and changed files are parsed again.
+     *
+     * @param directory temporary project directory
+     * @throws IOException if the project could not be set up
+     */
+    @Test
+    void cachesParsedConfigurations(@TempDir final Path directory) throws IOException {
+        final Path configs = Files.createDirectories(directory.resolve(".evo").resolve("configs"));
+        for (int i = 0; i < 20; i++) {
+            final Configuration configuration = Configuration.builder()
+                    .name("config" + i)
+                    .limit(100 + i)
+                    .alterers(List.of(new SwapGeneMutator(0.25)))
+                    .build();
+            FileService.write(configs.resolve("config" + i + ".xml"), configuration.serialize());
+        }
+
+        final Project project = ProjectService.loadProjectFromDirectory(directory);
+        Assertions.assertNotNull(project);
+        Assertions.assertEquals(20, project.getConfigurations().size());
+        Assertions.assertTrue(Files.exists(directory.resolve(".evo").resolve("configs.cache")));
+
+        final Project reopened = ProjectService.loadProjectFromDirectory(directory);
+        Assertions.assertEquals(names(project), names(reopened));
+        for (final Configuration configuration : reopened.getConfigurations()) {
+            Assertions.assertEquals(1, configuration.getAlterers().size());
+            Assertions.assertNotNull(configuration.getSelector());
+        }
+
+        FileService.write(configs.resolve("config3.xml"), Configuration.builder().name("changed").build().serialize());
+        Files.delete(configs.resolve("config4.xml"));
+        final Project changed = ProjectService.loadProjectFromDirectory(directory);
+        Assertions.assertEquals(19, changed.getConfigurations().size());
+        Assertions.assertTrue(names(changed).contains("changed"));
+        Assertions.assertFalse(names(changed).contains("config3"));
+    }
+
+    /**
+     * Test, if unchanged configuration files are taken from the cache without being parsed.
+     * The file's content is made unparsable while its size and modification time are kept.
+     *
+     * @param directory temporary project directory
+     * @throws IOException if the project could not be set up
+     */
+    @Test
+    void skipsParsingCachedConfigurations(@TempDir final Path directory) throws IOException {
+        final Path configs = Files.createDirectories(directory.resolve(".evo").resolve("configs"));
+        final Path file = configs.resolve("cached.xml");
+        FileService.write(file, Configuration.builder().name("cached").limit(123).build().serialize());
+        Assertions.assertEquals(List.of("cached"), names(ProjectService.loadProjectFromDirectory(directory)));
+
+        final FileTime modified = Files.getLastModifiedTime(file);
+        final byte[] unparsable = new byte[(int) Files.size(file)];
+        Arrays.fill(unparsable, (byte) ' ');
+        Files.write(file, unparsable);
+        Files.setLastModifiedTime(file, modified);
+        Assertions.assertNull(FileService.read(file, new Configuration()));
+
+        final Project reopened = ProjectService.loadProjectFromDirectory(directory);
+        Assertions.assertEquals(List.of("cached"), names(reopened));
+        Assertions.assertEquals(123, reopened.getConfigurations().get(0).getLimit());
+    }
+
+    /**
+     * Test, if configuration files, which could not be parsed, are skipped instead of loaded as defaults.
+     *
+     * @param directory temporary project directory
+     * @throws IOException if the project could not be set up
+     */
+    @Test
+    void skipsUnparsableConfigurations(@TempDir final Path directory) throws IOException {
+        final Path configs = Files.createDirectories(directory.resolve(".evo").resolve("configs"));
+        FileService.write(configs.resolve("valid.xml"), Configuration.builder().name("valid").build().serialize());
+        Files.writeString(configs.resolve("broken.xml"), "<configuration><properties>");
+
+        Assertions.assertNull(FileService.read(configs.resolve("broken.xml"), new Configuration()));
+        final Project project = ProjectService.loadProjectFromDirectory(directory);
+        Assertions.assertEquals(List.of("valid"), names(project));
+    }
+
+    /**
+     * Test, if saving configurations writes only the ones marked as changed, whose documents differ
+     * from their files, and deletes removed ones.
+     *
+     * @param directory temporary project directory
+     * @throws IOException if the configuration files could not be inspected
+     */
+    @Test
+    void savesChangedConfigurationsOnly(@TempDir final Path directory) throws IOException {
+        final List<Configuration> configurations = new ArrayList<>();
+        for (int i = 0; i < 20; i++)
+            configurations.add(Configuration.builder().name("config" + i).build());
+        ProjectService.saveConfigurations(directory, configurations);
+
+        final Path configs = directory.resolve(".evo").resolve("configs");
+        final FileTime old = FileTime.fromMillis(0);
+        for (int i = 0; i < 20; i++)
+            Files.setLastModifiedTime(configs.resolve("config" + i + ".xml"), old);
+
+        configurations.get(7).setLimit(42);
+        ProjectService.markChanged(configurations.get(7));
+        ProjectService.markChanged(configurations.get(3));
+        configurations.remove(12);
+        ProjectService.saveConfigurations(directory, configurations);
+
+        for (int i = 0; i < 20; i++) {
+            final Path configFile = configs.resolve("config" + i + ".xml");
+            if (i == 12)
+                Assertions.assertFalse(Files.exists(configFile));
+            else if (i == 7)
+                Assertions.assertNotEquals(old, Files.getLastModifiedTime(configFile));
+            else
+                Assertions.assertEquals(old, Files.getLastModifiedTime(configFile));
+        }
+
+        final Project project = ProjectService.loadProjectFromDirectory(directory);
+        Assertions.assertEquals(19, project.getConfigurations().size());
+        Assertions.assertTrue(project.getConfigurations().stream().anyMatch(configuration -> configuration.getLimit() == 42));
+    }
+
+    /**
+     * Test, if saved evolutions are numbered and listed from the index and the index is rebuilt if missing.
+     *
+     * @param directory temporary project directory
+     * @throws IOException if the project could not be set up
+     */
+    @Test
+    void indexesSavedEvolutions(@TempDir final Path directory) throws IOException {
+        Files.createDirectories(directory.resolve(".evo"));
+        final Project project = new Project();
+        project.setPath(directory);
+        ProjectService.setCurrentProject(project);
+
+        final Evolution evolution = Evolution.builder()
+                .configuration(Configuration.builder().name("indexed").build())
+                .history(List.of(
+                        new GenerationRecord(1, 3, 4, 5, 2, null, null, null),
+                        new GenerationRecord(2, 2, 3, 4, 2, null, null, null)
+                ))
+                .build();
+        final EvolutionEntry first = ProjectService.writeEvolution(evolution, "run");
+        final EvolutionEntry second = ProjectService.writeEvolution(evolution, "run");
+        Assertions.assertEquals(0, first.getId());
+        Assertions.assertEquals(1, second.getId());
+        Assertions.assertEquals("run-1.evolution", second.getFile());
+        Assertions.assertEquals("indexed", second.getConfiguration());
+        Assertions.assertEquals(2, second.getGenerations());
+        Assertions.assertEquals(Files.size(directory.resolve("run-1.evolution")), second.getSize());
+
+        final List<EvolutionEntry> saved = ProjectService.getSavedEvolutions();
+        Assertions.assertEquals(2, saved.size());
+        Assertions.assertEquals(second, saved.get(1));
+
+        Files.delete(directory.resolve(".evo").resolve("evolutions.xml"));
+        final EvolutionIndex rebuilt = ProjectService.readEvolutionIndex();
+        Assertions.assertEquals(2, rebuilt.getNext());
+        Assertions.assertEquals(2, rebuilt.getEntries().size());
+        Assertions.assertEquals(2, ProjectService.writeEvolution(evolution, "run").getId());
+    }
+
+    /**
+     * Test, if configuration files changed by another process are added, replaced and removed,
+     * while files saved by the service itself and unparsable files are skipped.
+     *
+     * @param directory temporary project directory
+     * @throws IOException if the configuration files could not be changed
+     */
+    @Test
+    void appliesChangedConfigurations(@TempDir final Path directory) throws IOException {
+        final List<Configuration> configurations = new ArrayList<>(List.of(
+                Configuration.builder().name("first").build(),
+                Configuration.builder().name("second").build()
+        ));
+        ProjectService.saveConfigurations(directory, configurations);
+        final Project project = ProjectService.loadProjectFromDirectory(directory);
+        project.setPath(directory);
+        ProjectService.setCurrentProject(project);
+
+        final Path configs = ProjectService.getConfigFolder();
+        final List<Path> files = List.of(configs.resolve("first.xml"), configs.resolve("second.xml"), configs.resolve("third.xml"));
+        final Configuration saved = project.getConfigurations().get(0);
+        saved.setLimit(7);
+        ProjectService.markChanged(saved);
+        ProjectService.saveConfigurations(directory, project.getConfigurations());
+        Assertions.assertTrue(ProjectService.readChangedConfigurations(files).isEmpty());
+
+        FileService.write(files.get(2), Configuration.builder().name("third").build().serialize());
+        FileService.write(files.get(1), Configuration.builder().name("replaced").build().serialize());
+        Files.writeString(configs.resolve("broken.xml"), "<configuration>");
+        final Map<Path, Configuration> changes = ProjectService.readChangedConfigurations(List.of(files.get(1), files.get(2), configs.resolve("broken.xml")));
+        Assertions.assertEquals(Set.of(files.get(1).toAbsolutePath().normalize(), files.get(2).toAbsolutePath().normalize()), changes.keySet());
+
+        ProjectService.applyConfigurationChanges(changes);
+        Assertions.assertEquals(List.of("first", "replaced", "third"), names(project));
+        Assertions.assertTrue(ProjectService.readChangedConfigurations(files).isEmpty());
+
+        Files.delete(files.get(2));
+        ProjectService.applyConfigurationChanges(ProjectService.readChangedConfigurations(files));
+        Assertions.assertEquals(List.of("first", "replaced"), names(project));
+        Assertions.assertSame(saved, project.getConfigurations().stream().filter(configuration -> configuration.getName().equals("first")).findFirst().orElseThrow());
+    }
+
+    /**
+     * Test, if evolution files saved, replaced or deleted by another process update the index,
+     * while files saved by the service itself keep their entries and legacy files are not converted.
+     * Files, that are not reported, are left out of the index.
+     *
+     * @param directory temporary project directory
+     * @throws IOException if the evolution files could not be changed
+     */
+    @Test
+    void indexesChangedEvolutionFiles(@TempDir final Path directory) throws IOException {
+        Files.createDirectories(directory.resolve(".evo"));
+        final Project project = new Project();
+        project.setPath(directory);
+        ProjectService.setCurrentProject(project);
+
+        final Evolution evolution = Evolution.builder()
+                .configuration(Configuration.builder().name("indexed").build())
+                .history(List.of(new GenerationRecord(1, 3, 4, 5, 2, null, null, null)))
+                .build();
+        final EvolutionEntry written = ProjectService.writeEvolution(evolution, "run");
+        Assertions.assertEquals(written, ProjectService.indexEvolution(directory.resolve(written.getFile())));
+
+        EvolutionFileService.write(evolution, directory.resolve("unreported-9.evolution"));
+        final Path added = directory.resolve("other-5.evolution");
+        EvolutionFileService.write(evolution, added);
+        Assertions.assertEquals(1, ProjectService.indexEvolution(added).getGenerations());
+        Assertions.assertEquals(5, ProjectService.getSavedEvolutions().get(1).getId());
+
+        EvolutionFileService.write(Evolution.builder()
+                .configuration(Configuration.builder().name("replaced").build())
+                .history(List.of(
+                        new GenerationRecord(1, 3, 4, 5, 2, null, null, null),
+                        new GenerationRecord(2, 2, 3, 4, 2, null, null, null)
+                ))
+                .build(), added);
+        final EvolutionEntry replaced = ProjectService.indexEvolution(added);
+        Assertions.assertEquals(2, replaced.getGenerations());
+        Assertions.assertEquals(List.of(written, replaced), ProjectService.getSavedEvolutions());
+
+        Files.delete(added);
+        Assertions.assertNull(ProjectService.indexEvolution(added));
+        Assertions.assertEquals(List.of(written), ProjectService.getSavedEvolutions());
+
+        final Path legacy = directory.resolve("legacy-7.evolution");
+        try (final InputStream inputStream = ProjectServiceTest.class.getResourceAsStream("legacy.evolution")) {
+            Files.copy(inputStream, legacy);
+        }
+        Assertions.assertEquals("legacy", ProjectService.indexEvolution(legacy).getConfiguration());
+        Assertions.assertTrue(EvolutionFileService.isLegacy(legacy));
+    }
+
+    /**
+     * Test, if the index is listed without looking at the project's directory and a refresh verifies it,
+     * indexing files written outside of the service without converting them and dropping entries of deleted files.
+     * Saving into a number taken by another process indexes its file and takes the next number.
+     *
+     * @param directory temporary project directory
+     * @throws IOException if the evolution files could not be changed
+     */
+    @Test
+    void reconcilesEvolutionIndex(@TempDir final Path directory) throws IOException {
+        Files.createDirectories(directory.resolve(".evo"));
+        final Project project = new Project();
+        project.setPath(directory);
+        ProjectService.setCurrentProject(project);
+
+        final Evolution evolution = Evolution.builder()
+                .configuration(Configuration.builder().name("indexed").build())
+                .history(List.of(new GenerationRecord(1, 3, 4, 5, 2, null, null, null)))
+                .build();
+        final EvolutionEntry written = ProjectService.writeEvolution(evolution, "run");
+
+        final Path ensemble = directory.resolve("ensemble-3.evolution");
+        EvolutionFileService.write(evolution, ensemble);
+        final Path legacy = directory.resolve("legacy-4.evolution");
+        try (final InputStream inputStream = ProjectServiceTest.class.getResourceAsStream("legacy.evolution")) {
+            Files.copy(inputStream, legacy);
+        }
+        Assertions.assertEquals(List.of(written), ProjectService.getSavedEvolutions());
+
+        final List<EvolutionEntry> saved = ProjectService.refreshSavedEvolutions();
+        Assertions.assertEquals(List.of(0, 3, 4), saved.stream().map(EvolutionEntry::getId).collect(Collectors.toList()));
+        Assertions.assertEquals(written, saved.get(0));
+        Assertions.assertEquals("legacy", saved.get(2).getConfiguration());
+        Assertions.assertTrue(EvolutionFileService.isLegacy(legacy));
+        Assertions.assertEquals(saved, ProjectService.getSavedEvolutions());
+        Assertions.assertEquals(5, ProjectService.readEvolutionIndex().getNext());
+
+        Files.delete(ensemble);
+        Assertions.assertEquals(List.of(0, 4), ProjectService.refreshSavedEvolutions().stream().map(EvolutionEntry::getId).collect(Collectors.toList()));
+
+        EvolutionFileService.write(evolution, directory.resolve("run-5.evolution"));
+        Assertions.assertEquals("run-6.evolution", ProjectService.writeEvolution(evolution, "run").getFile());
+        Assertions.assertEquals(List.of(0, 4, 5, 6), ProjectService.getSavedEvolutions().stream().map(EvolutionEntry::getId).collect(Collectors.toList()));
+    }
+
+}
@@ -0,0 +1,46 @@
+package evo.search.io.service;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tests for the {@link ProjectWatcher}.
+ */
+class ProjectWatcherTest {
+
+    /**
+     * Test, if repeated writes of project files are reported once and unrelated files are ignored.
+     *
+     * @param directory temporary project directory
+     * @throws IOException          if the project files could not be written
+     * @throws InterruptedException if the test was interrupted while waiting for the changes
+     */
+    @Test
+    void reportsDebouncedChanges(@TempDir final Path directory) throws IOException, InterruptedException {
+        final Path configs = Files.createDirectories(directory.resolve(".evo").resolve("configs"));
+        final BlockingQueue<Set<Path>> evolutions = new LinkedBlockingQueue<>();
+        final BlockingQueue<Set<Path>> configurations = new LinkedBlockingQueue<>();
+
+        try (final ProjectWatcher ignored = new ProjectWatcher(directory, configs, evolutions::add, configurations::add)) {
+            final Path evolution = directory.resolve("run-1.evolution");
+            for (int i = 0; i < 5; i++)
+                Files.write(evolution, new byte[i + 1]);
+            Files.write(directory.resolve("run-1.evolution.tmp"), new byte[1]);
+            Files.write(configs.resolve("config.xml"), new byte[1]);
+
+            Assertions.assertEquals(Set.of(evolution), evolutions.poll(10, TimeUnit.SECONDS));
+            Assertions.assertEquals(Set.of(configs.resolve("config.xml")), configurations.poll(10, TimeUnit.SECONDS));
+            Assertions.assertNull(evolutions.poll(ProjectWatcher.DEBOUNCE * 2, TimeUnit.MILLISECONDS));
+        }
+    }
+
+}
@@ -0,0 +1,35 @@
+package evo.search.util;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the {@link TrigTable}.
+ */
+class TrigTableTest {
+
+    /**
+     * Test, if the table's values equal the directly computed sines and cosines.
+     */
+    @Test
+    void equalsDirectComputation() {
+        final int positions = 7;
+        final TrigTable table = TrigTable.of(positions);
+        final double sectorAngle = MathUtils.sectorAngle(positions);
+
+        for (int steps = -2 * positions; steps <= 2 * positions; steps++) {
+            Assertions.assertEquals(Math.cos(sectorAngle * steps), table.cos(steps), 1e-12);
+            Assertions.assertEquals(Math.sin(sectorAngle * steps), table.sin(steps), 1e-12);
+        }
+    }
+
+    /**
+     * Test, if the tables are shared per ray count.
+     */
+    @Test
+    void sharesTables() {
+        Assertions.assertSame(TrigTable.of(5), TrigTable.of(5));
+        Assertions.assertNotSame(TrigTable.of(5), TrigTable.of(6));
+    }
+
+}
@@ -0,0 +1,69 @@
+package evo.search.view.model;
+
+import evo.search.ga.DiscreteChromosome;
+import evo.search.ga.DiscreteGene;
+import io.jenetics.Genotype;
+import io.jenetics.Phenotype;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Tests for the {@link PhenotypeAnalytics}.
+ */
+class PhenotypeAnalyticsTest {
+
+    /**
+     * Phenotype to analyse.
+     */
+    private static final Phenotype<DiscreteGene, Double> PHENOTYPE = Phenotype.of(
+            Genotype.of(new DiscreteChromosome(new DiscreteGene(3, 0, 2), new DiscreteGene(3, 1, 4), new DiscreteGene(3, 2, 6))),
+            1,
+            12d
+    );
+
+    /**
+     * Test, if analytics are memoized per evolution, generation and individual up to the capacity.
+     */
+    @Test
+    void memoizesByEvolutionAndGeneration() {
+        final PhenotypeAnalytics analytics = new PhenotypeAnalytics(2, Runnable::run);
+        final Object evolution = new Object();
+
+        final CompletableFuture<List<Double>> row = analytics.get(evolution, 1, 0, PHENOTYPE);
+        Assertions.assertEquals(PhenotypeAnalytics.compute(PHENOTYPE), row.join());
+        Assertions.assertSame(row, analytics.get(evolution, 1, 0, PHENOTYPE));
+        Assertions.assertNotSame(row, analytics.get(new Object(), 1, 0, PHENOTYPE));
+        Assertions.assertNotSame(row, analytics.get(evolution, 2, 0, PHENOTYPE));
+        Assertions.assertNotSame(row, analytics.get(evolution, 1, 0, PHENOTYPE));
+    }
+
+    /**
+     * Test, if cancelled analytics are not computed and scheduled again, when they are requested again,
+     * and clearing the analytics cancels the pending ones.
+     */
+    @Test
+    void cancelsPendingAnalytics() {
+        final List<Runnable> queue = new ArrayList<>();
+        final PhenotypeAnalytics analytics = new PhenotypeAnalytics(10, queue::add);
+        final Object evolution = new Object();
+
+        final CompletableFuture<List<Double>> cancelled = analytics.get(evolution, 1, 0, PHENOTYPE);
+        Assertions.assertTrue(cancelled.cancel(false));
+        final CompletableFuture<List<Double>> requested = analytics.get(evolution, 1, 0, PHENOTYPE);
+        Assertions.assertNotSame(cancelled, requested);
+        Assertions.assertEquals(2, queue.size());
+
+        final CompletableFuture<List<Double>> pending = analytics.get(evolution, 1, PhenotypeAnalytics.BEST, PHENOTYPE);
+        analytics.clear();
+        Assertions.assertTrue(requested.isCancelled());
+        Assertions.assertTrue(pending.isCancelled());
+
+        queue.forEach(Runnable::run);
+        Assertions.assertTrue(requested.isCancelled());
+        Assertions.assertFalse(analytics.get(evolution, 1, 0, PHENOTYPE).isCancelled());
+    }
+}